@@ -1,6 +1,11 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkconcurrency;
+import benchmarkquery;
+import benchmarkcache;
+import benchmarkerrors;
+import benchmarkjson;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +22,11 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addConcurrencyFunctions();
+    addQueryFunctions();
+    addCacheFunctions();
+    addErrorFunctions();
+    addJsonParsingFunctions();
 }
 
 function addJSONFunctions() {
@@ -113,6 +123,8 @@ function addIoFunctions() {
     functions["benchmarkInitFileChannelAppendMode"] = benchmarkio:benchmarkInitFileChannelAppendMode;
     functions["benchmarkReadBytes"] = benchmarkio:benchmarkReadBytes;
     functions["benchmarkWriteBytes"] = benchmarkio:benchmarkWriteBytes;
+    functions["benchmarkReadCsvRecords"] = benchmarkio:benchmarkReadCsvRecords;
+    functions["benchmarkReadCsvTable"] = benchmarkio:benchmarkReadCsvTable;
 }
 
 function addStringFunctions() {
@@ -140,3 +152,42 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addConcurrencyFunctions() {
+    functions["benchmarkStrandFanOutFanIn"] = benchmarkconcurrency:benchmarkStrandFanOutFanIn;
+    functions["benchmarkStrandNestedFanOut"] = benchmarkconcurrency:benchmarkStrandNestedFanOut;
+    functions["benchmarkShortAsyncCalls"] = benchmarkconcurrency:benchmarkShortAsyncCalls;
+    functions["benchmarkWorkerAsyncSend"] = benchmarkconcurrency:benchmarkWorkerAsyncSend;
+    functions["benchmarkWorkerSyncSend"] = benchmarkconcurrency:benchmarkWorkerSyncSend;
+}
+
+function addQueryFunctions() {
+    functions["benchmarkQueryJoin"] = benchmarkquery:benchmarkQueryJoin;
+    functions["benchmarkQueryOuterJoin"] = benchmarkquery:benchmarkQueryOuterJoin;
+    functions["benchmarkQueryStringKeyJoin"] = benchmarkquery:benchmarkQueryStringKeyJoin;
+    functions["benchmarkQueryOrderBy"] = benchmarkquery:benchmarkQueryOrderBy;
+    functions["benchmarkQueryWhereOrderByLimit"] = benchmarkquery:benchmarkQueryWhereOrderByLimit;
+    functions["benchmarkQueryWhereLetSelect"] = benchmarkquery:benchmarkQueryWhereLetSelect;
+    functions["benchmarkQueryParallelWhereLetSelect"] = benchmarkquery:benchmarkQueryParallelWhereLetSelect;
+}
+
+function addCacheFunctions() {
+    functions["benchmarkCacheLruSkewedAccess"] = benchmarkcache:benchmarkCacheLruSkewedAccess;
+    functions["benchmarkCacheTinyLfuSkewedAccess"] = benchmarkcache:benchmarkCacheTinyLfuSkewedAccess;
+    functions["benchmarkCacheConcurrentAccess"] = benchmarkcache:benchmarkCacheConcurrentAccess;
+}
+
+function addErrorFunctions() {
+    functions["benchmarkErrorCheckValidation"] = benchmarkerrors:benchmarkErrorCheckValidation;
+    functions["benchmarkErrorDeepCheckPropagation"] = benchmarkerrors:benchmarkErrorDeepCheckPropagation;
+}
+
+function addJsonParsingFunctions() {
+    functions["benchmarkJsonParsingToRecord1KB"] = benchmarkjson:benchmarkJsonParsingToRecord1KB;
+    functions["benchmarkJsonParsingToRecord100KB"] = benchmarkjson:benchmarkJsonParsingToRecord100KB;
+    functions["benchmarkJsonParsingToRecord1MB"] = benchmarkjson:benchmarkJsonParsingToRecord1MB;
+    functions["benchmarkJsonParsingToRecord10MB"] = benchmarkjson:benchmarkJsonParsingToRecord10MB;
+    functions["benchmarkJsonParsingThroughJson1KB"] = benchmarkjson:benchmarkJsonParsingThroughJson1KB;
+    functions["benchmarkJsonParsingThroughJson100KB"] = benchmarkjson:benchmarkJsonParsingThroughJson100KB;
+    functions["benchmarkJsonParsingThroughJson1MB"] = benchmarkjson:benchmarkJsonParsingThroughJson1MB;
+}
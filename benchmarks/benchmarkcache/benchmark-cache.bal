@@ -0,0 +1,64 @@
+import ballerina/cache;
+
+// Cache lookups with a skewed key distribution, where 80% of the accesses are for 10% of the keys. A miss is followed
+// by a put, so the time of each benchmark reflects both the throughput of the cache and its hit rate.
+
+const int CACHE_CAPACITY = 1000;
+const int KEY_COUNT = 10000;
+const int ACCESS_COUNT = 10000;
+const int WORKER_COUNT = 8;
+
+final string[] keys = createKeys();
+
+public function benchmarkCacheLruSkewedAccess() {
+    cache:Cache lruCache = new({capacity: CACHE_CAPACITY});
+    access(lruCache, 0, ACCESS_COUNT);
+}
+
+public function benchmarkCacheTinyLfuSkewedAccess() {
+    cache:Cache tinyLfuCache = new({capacity: CACHE_CAPACITY, evictionPolicy: new cache:TinyLfuEvictionPolicy()});
+    access(tinyLfuCache, 0, ACCESS_COUNT);
+}
+
+public function benchmarkCacheConcurrentAccess() {
+    cache:Cache sharedCache = new({capacity: CACHE_CAPACITY});
+    int chunkSize = ACCESS_COUNT / WORKER_COUNT;
+    future<int>[] futures = [];
+    foreach int i in 0 ..< WORKER_COUNT {
+        futures[i] = start access(sharedCache, i * chunkSize, (i + 1) * chunkSize);
+    }
+    int hits = 0;
+    foreach future<int> f in futures {
+        hits += wait f;
+    }
+}
+
+function access(cache:Cache c, int 'start, int end) returns int {
+    int hits = 0;
+    foreach int i in 'start ..< end {
+        string key = keys[i];
+        any|cache:Error value = c.get(key);
+        if (value is cache:Error) {
+            checkpanic c.put(key, i);
+        } else {
+            hits += 1;
+        }
+    }
+    return hits;
+}
+
+function createKeys() returns string[] {
+    string[] result = [];
+    int seed = 42;
+    int hotKeyCount = KEY_COUNT / 10;
+    foreach int i in 0 ..< ACCESS_COUNT {
+        seed = (seed * 1103515245 + 12345) % 2147483648;
+        int n = seed / 65536;
+        int key = hotKeyCount + n % (KEY_COUNT - hotKeyCount);
+        if (n % 10 < 8) {
+            key = n % hotKeyCount;
+        }
+        result.push("key" + key.toString());
+    }
+    return result;
+}
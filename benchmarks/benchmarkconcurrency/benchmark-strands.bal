@@ -0,0 +1,50 @@
+const int FAN_OUT = 1000;
+
+public function benchmarkStrandFanOutFanIn() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< FAN_OUT {
+        futures[i] = start compute(i);
+    }
+    int total = 0;
+    foreach future<int> f in futures {
+        total += wait f;
+    }
+}
+
+public function benchmarkStrandNestedFanOut() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< 32 {
+        futures[i] = start fanOut(32);
+    }
+    int total = 0;
+    foreach future<int> f in futures {
+        total += wait f;
+    }
+}
+
+function fanOut(int width) returns int {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< width {
+        futures[i] = start compute(i);
+    }
+    int total = 0;
+    foreach future<int> f in futures {
+        total += wait f;
+    }
+    return total;
+}
+
+function compute(int seed) returns int {
+    int result = seed;
+    foreach int i in 0 ..< 100 {
+        result = (result * 31 + i) % 1000003;
+    }
+    return result;
+}
+
+public function benchmarkShortAsyncCalls() {
+    foreach int i in 0 ..< 100 {
+        future<int> f = start compute(i);
+        int result = wait f;
+    }
+}
@@ -0,0 +1,60 @@
+// Worker message passing. Sends are not allowed within loops, so each benchmark passes a fixed batch of messages
+// between a pair of workers and the benchmark runner repeats it.
+
+public function benchmarkWorkerAsyncSend() {
+    @strand {thread: "any"}
+    worker w1 returns error? {
+        1 -> w2;
+        2 -> w2;
+        3 -> w2;
+        4 -> w2;
+        5 -> w2;
+        6 -> w2;
+        7 -> w2;
+        8 -> w2;
+        return flush w2;
+    }
+    @strand {thread: "any"}
+    worker w2 returns int {
+        int m1 = <- w1;
+        int m2 = <- w1;
+        int m3 = <- w1;
+        int m4 = <- w1;
+        int m5 = <- w1;
+        int m6 = <- w1;
+        int m7 = <- w1;
+        int m8 = <- w1;
+        return m1 + m2 + m3 + m4 + m5 + m6 + m7 + m8;
+    }
+    error? sent = wait w1;
+    int total = wait w2;
+}
+
+public function benchmarkWorkerSyncSend() {
+    @strand {thread: "any"}
+    worker w1 returns error? {
+        error? result = 1 ->> w2;
+        result = 2 ->> w2;
+        result = 3 ->> w2;
+        result = 4 ->> w2;
+        result = 5 ->> w2;
+        result = 6 ->> w2;
+        result = 7 ->> w2;
+        result = 8 ->> w2;
+        return result;
+    }
+    @strand {thread: "any"}
+    worker w2 returns int {
+        int m1 = <- w1;
+        int m2 = <- w1;
+        int m3 = <- w1;
+        int m4 = <- w1;
+        int m5 = <- w1;
+        int m6 = <- w1;
+        int m7 = <- w1;
+        int m8 = <- w1;
+        return m1 + m2 + m3 + m4 + m5 + m6 + m7 + m8;
+    }
+    error? sent = wait w1;
+    int total = wait w2;
+}
@@ -0,0 +1,78 @@
+// Validation code which uses errors as ordinary return values. A third of the inputs are invalid, and their errors
+// are propagated with `check` and handled by the caller, without using their stack traces. Run with the
+// BALLERINA_ERROR_STACK_TRACE system variable set to `none` to compare with not capturing the stack traces. With
+// `none`, `error:stackTrace()` is empty and panics are printed without their stack traces.
+
+const int ORDER_COUNT = 1000;
+const int CALL_DEPTH = 20;
+
+type Order record {|
+    string id;
+    int quantity;
+    decimal price;
+|};
+
+final Order[] orders = createOrders();
+
+public function benchmarkErrorCheckValidation() {
+    int validCount = 0;
+    foreach Order orderValue in orders {
+        decimal|error total = processOrder(orderValue);
+        if (total is decimal) {
+            validCount += 1;
+        }
+    }
+}
+
+public function benchmarkErrorDeepCheckPropagation() {
+    int validCount = 0;
+    foreach int i in 0 ..< ORDER_COUNT {
+        int|error result = propagate(CALL_DEPTH, i);
+        if (result is int) {
+            validCount += 1;
+        }
+    }
+}
+
+function processOrder(Order orderValue) returns decimal|error {
+    check validateOrder(orderValue);
+    return <decimal>orderValue.quantity * orderValue.price;
+}
+
+function validateOrder(Order orderValue) returns error? {
+    check validateId(orderValue.id);
+    check validateQuantity(orderValue.quantity);
+}
+
+function validateId(string id) returns error? {
+    if (id.length() == 0) {
+        return error("InvalidOrderId", message = "order id is empty");
+    }
+}
+
+function validateQuantity(int quantity) returns error? {
+    if (quantity <= 0) {
+        return error("InvalidQuantity", message = "quantity must be positive");
+    }
+}
+
+function propagate(int depth, int value) returns int|error {
+    if (depth == 0) {
+        if (value % 3 == 0) {
+            return error("InvalidValue", message = "value is a multiple of three");
+        }
+        return value;
+    }
+    int result = check propagate(depth - 1, value);
+    return result + 1;
+}
+
+function createOrders() returns Order[] {
+    Order[] result = [];
+    foreach int i in 0 ..< ORDER_COUNT {
+        string id = i % 6 == 0 ? "" : "order-" + i.toString();
+        int quantity = i % 6 == 3 ? 0 : i % 10 + 1;
+        result.push({id: id, quantity: quantity, price: 9.99});
+    }
+    return result;
+}
@@ -0,0 +1,30 @@
+import ballerina/io;
+
+// The CSV file has 2000 records, and a fifth of them have quoted fields with separators and escaped quotes.
+const string CSV_FILE_PATH = "benchmarkio/resources/test.csv";
+
+type Employee record {
+    int id;
+    string name;
+    int age;
+    float salary;
+    string department;
+};
+
+public function benchmarkReadCsvRecords() {
+    io:ReadableCSVChannel csvChannel = checkpanic io:openReadableCsvFile(CSV_FILE_PATH);
+    int fieldCount = 0;
+    while (csvChannel.hasNext()) {
+        string[]? fields = checkpanic csvChannel.getNext();
+        if (fields is string[]) {
+            fieldCount += fields.length();
+        }
+    }
+    checkpanic csvChannel.close();
+}
+
+public function benchmarkReadCsvTable() {
+    io:ReadableCSVChannel csvChannel = checkpanic io:openReadableCsvFile(CSV_FILE_PATH);
+    table<record {}> employees = checkpanic csvChannel.getTable(Employee);
+    checkpanic csvChannel.close();
+}
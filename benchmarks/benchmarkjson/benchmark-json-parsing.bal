@@ -0,0 +1,108 @@
+// Parses json payloads of arrays of orders into the order records. The payloads are created on first use, so that
+// the larger payloads are only created for the benchmarks which use them. The fromJsonString and fromJsonWithType
+// benchmarks parse the same payloads through the intermediate json value, for comparison.
+
+const int ORDERS_1KB = 3;
+const int ORDERS_100KB = 280;
+const int ORDERS_1MB = 2800;
+const int ORDERS_10MB = 28000;
+
+type LineItem record {|
+    string sku;
+    int quantity;
+    decimal price;
+    float weight;
+|};
+
+type Customer record {|
+    string name;
+    string email;
+    string country;
+|};
+
+type Order record {|
+    string id;
+    Customer customer;
+    LineItem[] items;
+    decimal total;
+    boolean paid;
+    string note?;
+|};
+
+type Orders Order[];
+
+map<string> payloads = {};
+
+public function benchmarkJsonParsingToRecord1KB() {
+    parseToRecord(ORDERS_1KB);
+}
+
+public function benchmarkJsonParsingToRecord100KB() {
+    parseToRecord(ORDERS_100KB);
+}
+
+public function benchmarkJsonParsingToRecord1MB() {
+    parseToRecord(ORDERS_1MB);
+}
+
+public function benchmarkJsonParsingToRecord10MB() {
+    parseToRecord(ORDERS_10MB);
+}
+
+public function benchmarkJsonParsingThroughJson1KB() {
+    parseThroughJson(ORDERS_1KB);
+}
+
+public function benchmarkJsonParsingThroughJson100KB() {
+    parseThroughJson(ORDERS_100KB);
+}
+
+public function benchmarkJsonParsingThroughJson1MB() {
+    parseThroughJson(ORDERS_1MB);
+}
+
+function parseToRecord(int orderCount) {
+    Order[] orders = checkpanic getPayload(orderCount).fromJsonStringWithType(Orders);
+    if (orders.length() != orderCount) {
+        panic error("invalid order count: " + orders.length().toString());
+    }
+}
+
+function parseThroughJson(int orderCount) {
+    json payload = checkpanic getPayload(orderCount).fromJsonString();
+    Order[] orders = checkpanic payload.fromJsonWithType(Orders);
+    if (orders.length() != orderCount) {
+        panic error("invalid order count: " + orders.length().toString());
+    }
+}
+
+function getPayload(int orderCount) returns string {
+    string key = orderCount.toString();
+    string? payload = payloads[key];
+    if (payload is string) {
+        return payload;
+    }
+    string newPayload = createOrders(orderCount).toJsonString();
+    payloads[key] = newPayload;
+    return newPayload;
+}
+
+function createOrders(int orderCount) returns Order[] {
+    Order[] orders = [];
+    foreach int i in 0 ..< orderCount {
+        LineItem[] items = [];
+        foreach int j in 0 ..< 3 {
+            items.push({sku: "SKU-" + (i * 3 + j).toString(), quantity: j + 1, price: 10.25d * <decimal>(j + 1),
+                        weight: 0.5 * <float>(j + 1)});
+        }
+        Order orderValue = {id: "ORD-" + i.toString(),
+                            customer: {name: "Customer " + i.toString(), email: "customer" + i.toString() +
+                                       "@example.com", country: "Sri Lanka"},
+                            items: items, total: 61.50d, paid: i % 2 == 0};
+        if (i % 4 == 0) {
+            orderValue.note = "Deliver to the back door, and call the customer before the delivery.";
+        }
+        orders.push(orderValue);
+    }
+    return orders;
+}
@@ -0,0 +1,114 @@
+// Query expressions over data sets of a realistic size. The data sets are created once when the module is
+// initialized, so each benchmark iteration only measures the query.
+
+const int CUSTOMER_COUNT = 1000;
+const int ORDER_COUNT = 10000;
+
+type Customer record {|
+    int id;
+    string name;
+    string city;
+|};
+
+type Order record {|
+    int id;
+    int customerId;
+    string item;
+    float amount;
+|};
+
+type CustomerOrder record {|
+    string name;
+    string item;
+    float amount;
+|};
+
+final string[] cities = ["Colombo", "Kandy", "Galle", "Jaffna", "Matara"];
+final string[] items = ["pen", "book", "bag", "lamp", "desk", "chair", "cup"];
+final Customer[] customers = createCustomers();
+final Order[] orders = createOrders();
+final readonly & Order[] readonlyOrders = <readonly & Order[]> orders.cloneReadOnly();
+
+public function benchmarkQueryJoin() {
+    CustomerOrder[] result =
+        from var 'order in orders
+        join var customer in customers
+        on 'order.customerId equals customer.id
+        select {
+            name: customer.name,
+            item: 'order.item,
+            amount: 'order.amount
+        };
+}
+
+public function benchmarkQueryOuterJoin() {
+    // Every other customer has no orders.
+    string[] result =
+        from var customer in customers
+        outer join var 'order in orders
+        on customer.id * 2 equals 'order.customerId
+        select customer.name;
+}
+
+public function benchmarkQueryStringKeyJoin() {
+    string[] result =
+        from var 'order in orders
+        join var customer in customers
+        on 'order.customerId.toString() equals customer.id.toString()
+        select customer.city;
+}
+
+public function benchmarkQueryOrderBy() {
+    Order[] result =
+        from var 'order in orders
+        order by 'order.item ascending, 'order.amount descending
+        select 'order;
+}
+
+public function benchmarkQueryWhereOrderByLimit() {
+    Order[] result =
+        from var 'order in orders
+        where 'order.amount > 500.0
+        order by 'order.amount descending
+        limit 100
+        select 'order;
+}
+
+public function benchmarkQueryWhereLetSelect() {
+    float[] result =
+        from var 'order in orders
+        where 'order.item != "pen"
+        let float tax = 'order.amount * 0.1
+        where tax > 10.0
+        select 'order.amount + tax;
+}
+
+// Eligible for parallel evaluation when BALLERINA_QUERY_PARALLELISM is set, as the orders are immutable and the
+// clauses are isolated.
+public function benchmarkQueryParallelWhereLetSelect() {
+    float[] result =
+        from var 'order in readonlyOrders
+        where 'order.item != "pen"
+        let float tax = 'order.amount * 0.1
+        where tax > 10.0
+        select 'order.amount + tax;
+}
+
+function createCustomers() returns Customer[] {
+    Customer[] result = [];
+    foreach int i in 0 ..< CUSTOMER_COUNT {
+        result.push({id: i, name: "customer" + i.toString(), city: cities[i % cities.length()]});
+    }
+    return result;
+}
+
+function createOrders() returns Order[] {
+    Order[] result = [];
+    foreach int i in 0 ..< ORDER_COUNT {
+        // Spread the orders over the customers and amounts, without following the insertion order.
+        int n = (i * 7919) % ORDER_COUNT;
+        result.push({id: i, customerId: n % CUSTOMER_COUNT, item: items[n % items.length()],
+                     amount: <float>(n % 1000)});
+    }
+    return result;
+}
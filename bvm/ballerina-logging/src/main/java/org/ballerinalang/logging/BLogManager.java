@@ -21,6 +21,7 @@ import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.logging.formatters.HttpAccessLogFormatter;
 import org.ballerinalang.logging.formatters.HttpTraceLogFormatter;
 import org.ballerinalang.logging.formatters.JsonLogFormatter;
+import org.ballerinalang.logging.handlers.AsyncLogWriter;
 import org.ballerinalang.logging.util.BLogLevel;
 import org.ballerinalang.logging.util.BLogLevelMapper;
 
@@ -127,6 +128,15 @@ public class BLogManager extends LogManager {
         return loggerLevels.size() > 1;
     }
 
+    /**
+     * Returns the number of log records dropped by the asynchronous log handlers, since their buffers were full.
+     *
+     * @return the number of dropped log records
+     */
+    public long getDroppedLogRecordCount() {
+        return AsyncLogWriter.getTotalDroppedRecords();
+    }
+
     /**
      * Initializes the HTTP trace logger.
      */
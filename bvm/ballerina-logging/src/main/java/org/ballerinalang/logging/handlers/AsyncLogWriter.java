@@ -0,0 +1,357 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.logging.handlers;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * Writes the log records of a handler on a background thread, so that the threads which log are not blocked by the
+ * formatting of the records and the I/O of the handler.
+ * <p>
+ * The records are passed to the writer through a bounded lock-free ring buffer. The writer drains the buffer in
+ * batches, publishes the records of a batch through the handler, and flushes the handler once per batch. When the
+ * buffer is full, the record is handled based on the {@link OverflowPolicy} of the handler. The number of records
+ * dropped due to a full buffer is counted, and reported in the log by the writer.
+ * <p>
+ * The writer is configured with the following properties of the handler in the logging configuration.
+ * <ul>
+ * <li>{@code <handler>.async} - whether the records are written asynchronously (default: false)</li>
+ * <li>{@code <handler>.async.bufferSize} - capacity of the ring buffer, rounded up to a power of two
+ * (default: 8192)</li>
+ * <li>{@code <handler>.async.overflowPolicy} - one of {@code block}, {@code drop_debug} and {@code drop}
+ * (default: block)</li>
+ * </ul>
+ *
+ * @since 2.0.0
+ */
+public class AsyncLogWriter {
+
+    private static final String ASYNC = ".async";
+    private static final String BUFFER_SIZE = ".async.bufferSize";
+    private static final String OVERFLOW_POLICY = ".async.overflowPolicy";
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int MAX_BUFFER_SIZE = 1 << 20;
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_BUFFER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private static final PrintStream stderr = System.err;
+
+    // Records dropped by all the async writers, since the start of the program
+    private static final AtomicLong totalDroppedRecords = new AtomicLong();
+
+    private final Consumer<LogRecord> publisher;
+    private final Runnable flusher;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicReferenceArray<LogRecord> buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong droppedRecords = new AtomicLong();
+    private final Thread writerThread;
+    private final long closeTimeoutMillis;
+    // Held by the thread which drains the buffer
+    private final ReentrantLock drainLock = new ReentrantLock();
+    // Only accessed by the thread which holds the drain lock
+    private long head;
+    private long reportedDroppedRecords;
+    private volatile boolean writerWaiting;
+    private volatile Thread batchThread;
+    private volatile boolean closed;
+
+    /**
+     * Policy to handle a record, which is logged while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        // Wait until there is space in the buffer
+        BLOCK,
+        // Drop the records logged at the DEBUG level or lower, and wait for the others
+        DROP_DEBUG,
+        // Drop the record
+        DROP
+    }
+
+    /**
+     * Creates an async writer for the given handler, if it is enabled in the logging configuration.
+     *
+     * @param handlerClass class of the handler, whose name is the prefix of the properties
+     * @param publisher    publishes a record synchronously through the handler
+     * @param flusher      flushes the handler
+     * @return the async writer, or null if the handler writes synchronously
+     */
+    static AsyncLogWriter create(Class<?> handlerClass, Consumer<LogRecord> publisher, Runnable flusher) {
+        LogManager logManager = LogManager.getLogManager();
+        String prefix = handlerClass.getName();
+        if (!Boolean.parseBoolean(getProperty(logManager, prefix + ASYNC, "false"))) {
+            return null;
+        }
+        int bufferSize = DEFAULT_BUFFER_SIZE;
+        String bufferSizeValue = getProperty(logManager, prefix + BUFFER_SIZE, null);
+        if (bufferSizeValue != null) {
+            try {
+                bufferSize = Math.min(Math.max(Integer.parseInt(bufferSizeValue), 2), MAX_BUFFER_SIZE);
+            } catch (NumberFormatException e) {
+                stderr.println("ballerina: invalid log buffer size '" + bufferSizeValue + "' for " + prefix +
+                                       ", using " + DEFAULT_BUFFER_SIZE);
+            }
+        }
+        OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        String overflowPolicyValue = getProperty(logManager, prefix + OVERFLOW_POLICY, null);
+        if (overflowPolicyValue != null) {
+            try {
+                overflowPolicy = OverflowPolicy.valueOf(overflowPolicyValue.toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                stderr.println("ballerina: invalid log overflow policy '" + overflowPolicyValue + "' for " +
+                                       prefix + ", using " + OverflowPolicy.BLOCK.name().toLowerCase(Locale.ENGLISH));
+            }
+        }
+        return new AsyncLogWriter(handlerClass.getSimpleName(), publisher, flusher, bufferSize, overflowPolicy);
+    }
+
+    AsyncLogWriter(String name, Consumer<LogRecord> publisher, Runnable flusher, int bufferSize,
+                   OverflowPolicy overflowPolicy) {
+        this(name, publisher, flusher, bufferSize, overflowPolicy, CLOSE_TIMEOUT_MILLIS);
+    }
+
+    AsyncLogWriter(String name, Consumer<LogRecord> publisher, Runnable flusher, int bufferSize,
+                   OverflowPolicy overflowPolicy, long closeTimeoutMillis) {
+        this.closeTimeoutMillis = closeTimeoutMillis;
+        this.publisher = publisher;
+        this.flusher = flusher;
+        this.overflowPolicy = overflowPolicy;
+        int capacity = Integer.highestOneBit(bufferSize - 1) << 1;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.writerThread = new Thread(this::write, "ballerina-log-writer-" + name);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Returns the number of log records dropped by all the async writers, since the buffers were full.
+     *
+     * @return the number of dropped records
+     */
+    public static long getTotalDroppedRecords() {
+        return totalDroppedRecords.get();
+    }
+
+    /**
+     * Adds a record to the buffer, to be written by the background thread. The record is written synchronously if
+     * the writer has been closed.
+     *
+     * @param record log record
+     */
+    void publish(LogRecord record) {
+        if (closed) {
+            publisher.accept(record);
+            return;
+        }
+        if (!offer(record)) {
+            if (overflowPolicy == OverflowPolicy.DROP ||
+                    (overflowPolicy == OverflowPolicy.DROP_DEBUG && record.getLevel().intValue() <=
+                            Level.FINE.intValue())) {
+                droppedRecords.incrementAndGet();
+                totalDroppedRecords.incrementAndGet();
+                return;
+            }
+            while (!offer(record)) {
+                if (closed) {
+                    publisher.accept(record);
+                    return;
+                }
+                LockSupport.unpark(writerThread);
+                LockSupport.parkNanos(this, FULL_BUFFER_PARK_NANOS);
+            }
+        }
+        if (closed) {
+            // The writer may have been closed, and drained the buffer for the last time, after the check above.
+            drainClosed();
+            return;
+        }
+        if (writerWaiting) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Whether the current thread is publishing the records of a batch. The handler is flushed once at the end of the
+     * batch, while the flushes requested by the other threads are not affected.
+     *
+     * @return true if the current thread is publishing a batch
+     */
+    boolean isBatchInProgress() {
+        return batchThread == Thread.currentThread();
+    }
+
+    /**
+     * Stops the background thread, and writes the remaining records on the calling thread. If the background thread
+     * does not stop in time, as it is blocked in the handler, the number of records left in the buffer is reported.
+     */
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(closeTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (drainLock.tryLock()) {
+            try {
+                drain(Integer.MAX_VALUE);
+            } finally {
+                drainLock.unlock();
+            }
+        } else {
+            // The background thread still writes the records if it is unblocked before the program exits. The head
+            // is read without the lock, so the number of records is an estimate.
+            stderr.println("ballerina: log writer " + writerThread.getName() + " did not stop in " +
+                                   closeTimeoutMillis + "ms, " + (tail.get() - head) +
+                                   " log records may not be written");
+        }
+    }
+
+    /**
+     * Writes the records remaining in the buffer after the writer is closed. This may be called by the thread which
+     * closes the writer and by the threads which added a record while it was being closed, so the buffer is drained by
+     * one thread at a time.
+     */
+    private void drainClosed() {
+        drainLock.lock();
+        try {
+            drain(Integer.MAX_VALUE);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private boolean offer(LogRecord record) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer.lazySet(index, record);
+                    // Publishes the record to the writer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The slot of the previous lap has not been drained yet, i.e. the buffer is full.
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private LogRecord poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        LogRecord record = buffer.get(index);
+        buffer.lazySet(index, null);
+        // Releases the slot for the next lap of the producers
+        sequences.set(index, head + mask + 1);
+        head++;
+        return record;
+    }
+
+    private void write() {
+        while (!closed) {
+            int count;
+            drainLock.lock();
+            try {
+                count = drain(MAX_BATCH_SIZE);
+            } finally {
+                drainLock.unlock();
+            }
+            if (count > 0) {
+                continue;
+            }
+            writerWaiting = true;
+            if (sequences.get((int) (head & mask)) != head + 1 && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            writerWaiting = false;
+        }
+        drainClosed();
+    }
+
+    private int drain(int maxBatchSize) {
+        int count = 0;
+        batchThread = Thread.currentThread();
+        try {
+            LogRecord record;
+            while (count < maxBatchSize && (record = poll()) != null) {
+                publisher.accept(record);
+                count++;
+            }
+            if (reportDroppedRecords()) {
+                count++;
+            }
+        } catch (RuntimeException e) {
+            stderr.println("ballerina: failed to write log records: " + e.getMessage());
+        } finally {
+            batchThread = null;
+        }
+        if (count > 0) {
+            flusher.run();
+        }
+        return count;
+    }
+
+    private boolean reportDroppedRecords() {
+        long dropped = droppedRecords.get();
+        if (dropped == reportedDroppedRecords) {
+            return false;
+        }
+        LogRecord record = new LogRecord(Level.WARNING, (dropped - reportedDroppedRecords) +
+                " log records were dropped since the log buffer was full");
+        record.setLoggerName("");
+        reportedDroppedRecords = dropped;
+        publisher.accept(record);
+        return true;
+    }
+
+    private static String getProperty(LogManager logManager, String name, String defaultValue) {
+        String value = logManager.getProperty(name);
+        return value == null ? defaultValue : value.trim();
+    }
+}
@@ -18,12 +18,42 @@
  package org.ballerinalang.logging.handlers;
 
  import java.util.logging.ConsoleHandler;
+ import java.util.logging.LogRecord;
 
  /**
-  * Console log handler used for Ballerina Log API.
+  * Console log handler used for Ballerina Log API. The records are written by a background thread, if async logging
+  * is enabled for the handler.
   */
  public class BallerinaLogApiHandler extends ConsoleHandler {
 
+     private final AsyncLogWriter asyncWriter = AsyncLogWriter.create(BallerinaLogApiHandler.class, super::publish,
+                                                                      super::flush);
+
      public BallerinaLogApiHandler() {
      }
+
+     @Override
+     public void publish(LogRecord record) {
+         if (asyncWriter == null) {
+             super.publish(record);
+         } else if (isLoggable(record)) {
+             asyncWriter.publish(record);
+         }
+     }
+
+     @Override
+     public void flush() {
+         // The async writer flushes once per batch of records
+         if (asyncWriter == null || !asyncWriter.isBatchInProgress()) {
+             super.flush();
+         }
+     }
+
+     @Override
+     public void close() {
+         if (asyncWriter != null) {
+             asyncWriter.close();
+         }
+         super.close();
+     }
  }
@@ -20,13 +20,44 @@ package org.ballerinalang.logging.handlers;
 
 import java.io.IOException;
 import java.util.logging.FileHandler;
+import java.util.logging.LogRecord;
 
 /**
- * A file handler for handling any other log file other than ballerina.log, error.log and bre.log.
+ * A file handler for handling any other log file other than ballerina.log, error.log and bre.log. The records are
+ * written by a background thread, if async logging is enabled for the handler.
  *
  * @since 0.89
  */
 public class DefaultLogFileHandler extends FileHandler {
+
+    private final AsyncLogWriter asyncWriter = AsyncLogWriter.create(DefaultLogFileHandler.class, super::publish,
+                                                                     super::flush);
+
     public DefaultLogFileHandler() throws IOException, SecurityException {
     }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (asyncWriter == null) {
+            super.publish(record);
+        } else if (isLoggable(record)) {
+            asyncWriter.publish(record);
+        }
+    }
+
+    @Override
+    public void flush() {
+        // The async writer flushes once per batch of records
+        if (asyncWriter == null || !asyncWriter.isBatchInProgress()) {
+            super.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (asyncWriter != null) {
+            asyncWriter.close();
+        }
+        super.close();
+    }
 }
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.logging.handlers;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Test cases for {@link AsyncLogWriter}.
+ */
+public class AsyncLogWriterTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testOrderPerProducer() throws InterruptedException {
+        RecordingPublisher publisher = new RecordingPublisher();
+        AsyncLogWriter writer = new AsyncLogWriter("test", publisher, () -> { }, 16,
+                                                   AsyncLogWriter.OverflowPolicy.BLOCK);
+        int producerCount = 4;
+        int recordCount = 5000;
+        Thread[] producers = new Thread[producerCount];
+        for (int i = 0; i < producerCount; i++) {
+            String producer = "p" + i;
+            producers[i] = new Thread(() -> {
+                for (int j = 0; j < recordCount; j++) {
+                    writer.publish(new LogRecord(Level.INFO, producer + ":" + j));
+                }
+            });
+            producers[i].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        writer.close();
+
+        List<String> messages = publisher.getMessages();
+        Assert.assertEquals(messages.size(), producerCount * recordCount);
+        int[] next = new int[producerCount];
+        for (String message : messages) {
+            String[] parts = message.split(":");
+            int producer = Integer.parseInt(parts[0].substring(1));
+            Assert.assertEquals(Integer.parseInt(parts[1]), next[producer], message);
+            next[producer]++;
+        }
+    }
+
+    @Test
+    public void testBlockPolicy() throws InterruptedException {
+        BlockingPublisher publisher = new BlockingPublisher();
+        AsyncLogWriter writer = new AsyncLogWriter("test", publisher, () -> { }, 2,
+                                                   AsyncLogWriter.OverflowPolicy.BLOCK);
+        long dropped = AsyncLogWriter.getTotalDroppedRecords();
+        writer.publish(new LogRecord(Level.FINE, "0"));
+        publisher.awaitEntered();
+
+        // One record is held by the writer and two fit in the buffer, so the producer waits for the next ones.
+        Thread producer = new Thread(() -> {
+            for (int i = 1; i < 10; i++) {
+                writer.publish(new LogRecord(Level.FINE, String.valueOf(i)));
+            }
+        });
+        producer.start();
+        producer.join(500);
+        Assert.assertTrue(producer.isAlive());
+
+        publisher.release();
+        producer.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        Assert.assertFalse(producer.isAlive());
+        writer.close();
+
+        Assert.assertEquals(publisher.getMessages(), List.of("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"));
+        Assert.assertEquals(AsyncLogWriter.getTotalDroppedRecords(), dropped);
+    }
+
+    @Test
+    public void testDropPolicy() throws InterruptedException {
+        BlockingPublisher publisher = new BlockingPublisher();
+        AsyncLogWriter writer = new AsyncLogWriter("test", publisher, () -> { }, 2,
+                                                   AsyncLogWriter.OverflowPolicy.DROP);
+        long dropped = AsyncLogWriter.getTotalDroppedRecords();
+        writer.publish(new LogRecord(Level.INFO, "0"));
+        publisher.awaitEntered();
+
+        for (int i = 1; i < 10; i++) {
+            writer.publish(new LogRecord(i % 2 == 0 ? Level.SEVERE : Level.FINE, String.valueOf(i)));
+        }
+        Assert.assertEquals(AsyncLogWriter.getTotalDroppedRecords() - dropped, 7);
+
+        publisher.release();
+        writer.close();
+        Assert.assertEquals(publisher.getMessages(),
+                            List.of("0", "1", "2", "7 log records were dropped since the log buffer was full"));
+    }
+
+    @Test
+    public void testDropDebugPolicy() throws InterruptedException {
+        BlockingPublisher publisher = new BlockingPublisher();
+        AsyncLogWriter writer = new AsyncLogWriter("test", publisher, () -> { }, 2,
+                                                   AsyncLogWriter.OverflowPolicy.DROP_DEBUG);
+        long dropped = AsyncLogWriter.getTotalDroppedRecords();
+        writer.publish(new LogRecord(Level.INFO, "0"));
+        publisher.awaitEntered();
+        writer.publish(new LogRecord(Level.INFO, "1"));
+        writer.publish(new LogRecord(Level.INFO, "2"));
+
+        // The buffer is full, so debug records are dropped and the others wait.
+        writer.publish(new LogRecord(Level.FINE, "3"));
+        writer.publish(new LogRecord(Level.FINEST, "4"));
+        Assert.assertEquals(AsyncLogWriter.getTotalDroppedRecords() - dropped, 2);
+        Thread producer = new Thread(() -> writer.publish(new LogRecord(Level.WARNING, "5")));
+        producer.start();
+        producer.join(500);
+        Assert.assertTrue(producer.isAlive());
+
+        publisher.release();
+        producer.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        Assert.assertFalse(producer.isAlive());
+        writer.close();
+
+        List<String> messages = publisher.getMessages();
+        Assert.assertEquals(messages.subList(0, 3), List.of("0", "1", "2"));
+        Assert.assertTrue(messages.contains("5"));
+        Assert.assertTrue(messages.contains("2 log records were dropped since the log buffer was full"));
+        Assert.assertEquals(messages.size(), 5);
+        Assert.assertEquals(AsyncLogWriter.getTotalDroppedRecords() - dropped, 2);
+    }
+
+    @Test
+    public void testCloseDrainsBuffer() {
+        BlockingPublisher publisher = new BlockingPublisher();
+        AtomicInteger flushes = new AtomicInteger();
+        AsyncLogWriter writer = new AsyncLogWriter("test", publisher, flushes::incrementAndGet, 128,
+                                                   AsyncLogWriter.OverflowPolicy.BLOCK);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            writer.publish(new LogRecord(Level.INFO, String.valueOf(i)));
+            expected.add(String.valueOf(i));
+        }
+        publisher.release();
+        writer.close();
+        Assert.assertEquals(publisher.getMessages(), expected);
+        Assert.assertTrue(flushes.get() > 0);
+
+        // Records logged after the writer is closed are written on the calling thread.
+        writer.publish(new LogRecord(Level.INFO, "100"));
+        Assert.assertEquals(publisher.getMessages().get(100), "100");
+    }
+
+    @Test
+    public void testPublishWhileClosing() throws InterruptedException {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            RecordingPublisher publisher = new RecordingPublisher();
+            AsyncLogWriter writer = new AsyncLogWriter("test", publisher, () -> { }, 8,
+                                                       AsyncLogWriter.OverflowPolicy.BLOCK);
+            AtomicBoolean stop = new AtomicBoolean();
+            AtomicInteger published = new AtomicInteger();
+            Thread[] producers = new Thread[4];
+            for (int i = 0; i < producers.length; i++) {
+                producers[i] = new Thread(() -> {
+                    while (!stop.get()) {
+                        writer.publish(new LogRecord(Level.INFO, "record"));
+                        published.incrementAndGet();
+                    }
+                });
+                producers[i].start();
+            }
+            Thread.sleep(5);
+            writer.close();
+            stop.set(true);
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            Assert.assertEquals(publisher.getMessages().size(), published.get());
+        }
+    }
+
+    @Test
+    public void testCloseTimeout() throws InterruptedException {
+        BlockingPublisher publisher = new BlockingPublisher();
+        AsyncLogWriter writer = new AsyncLogWriter("test", publisher, () -> { }, 16,
+                                                   AsyncLogWriter.OverflowPolicy.BLOCK, 100);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            writer.publish(new LogRecord(Level.INFO, String.valueOf(i)));
+            expected.add(String.valueOf(i));
+        }
+        publisher.awaitEntered();
+
+        // The writer is blocked in the handler, so close returns after the timeout without writing the records
+        writer.close();
+        Assert.assertEquals(publisher.getMessages(), List.of());
+
+        // The records are written once the writer is unblocked
+        publisher.release();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (publisher.getMessages().size() < expected.size() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(publisher.getMessages(), expected);
+    }
+
+    @Test
+    public void testBatchInProgressOfWriterThread() throws InterruptedException {
+        AtomicBoolean batchInProgress = new AtomicBoolean();
+        AtomicReference<AsyncLogWriter> writerReference = new AtomicReference<>();
+        BlockingPublisher publisher = new BlockingPublisher() {
+            @Override
+            public void accept(LogRecord record) {
+                batchInProgress.set(writerReference.get().isBatchInProgress());
+                super.accept(record);
+            }
+        };
+        AsyncLogWriter writer = new AsyncLogWriter("test", publisher, () -> { }, 16,
+                                                   AsyncLogWriter.OverflowPolicy.BLOCK);
+        writerReference.set(writer);
+        writer.publish(new LogRecord(Level.INFO, "0"));
+        publisher.awaitEntered();
+
+        // Only the flushes of the writer thread are deferred to the end of the batch
+        Assert.assertTrue(batchInProgress.get());
+        Assert.assertFalse(writer.isBatchInProgress());
+        publisher.release();
+        writer.close();
+        Assert.assertEquals(publisher.getMessages(), List.of("0"));
+    }
+
+    /**
+     * Records the messages of the published records.
+     */
+    private static class RecordingPublisher implements Consumer<LogRecord> {
+
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void accept(LogRecord record) {
+            messages.add(record.getMessage());
+        }
+
+        List<String> getMessages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+    }
+
+    /**
+     * Records the messages of the published records, and blocks the first record until it is released.
+     */
+    private static class BlockingPublisher extends RecordingPublisher {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void accept(LogRecord record) {
+            entered.countDown();
+            try {
+                released.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.accept(record);
+        }
+
+        void awaitEntered() throws InterruptedException {
+            Assert.assertTrue(entered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
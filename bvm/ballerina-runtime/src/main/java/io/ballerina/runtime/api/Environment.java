@@ -18,10 +18,12 @@
 package io.ballerina.runtime.api;
 
 import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.internal.scheduling.AsyncUtils;
 import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * When this class is used as the first argument of an interop method, Ballerina
@@ -59,6 +61,22 @@ public class Environment {
         return new Future(this.strand);
     }
 
+    /**
+     * Execute a task that blocks the java thread, e.g. a blocking I/O call. When a blocking call mode is configured
+     * with the BALLERINA_BLOCKING_CALL_MODE system variable, the task runs on a virtual thread or a separate thread
+     * pool and the current strand resumes with the task result once it completes, without holding a strand worker
+     * thread meanwhile. Otherwise the task runs on the current thread.
+     * <p>
+     * Callee of this method must return the value returned by this method. The task must not access the current
+     * strand through the runtime APIs.
+     *
+     * @param task blocking task which returns the result of the interop call
+     * @return result of the task if it was executed on the current thread, null otherwise
+     */
+    public Object executeBlocking(Supplier<Object> task) {
+        return AsyncUtils.executeBlocking(strand, task);
+    }
+
     public Runtime getRuntime() {
         return new Runtime(strand.scheduler);
     }
@@ -28,6 +28,7 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.TypedJsonParser;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 import java.io.IOException;
@@ -36,6 +37,7 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.util.Iterator;
 
 /**
  * Class @{@link JsonParser} provides APIs to handle json values.
@@ -125,6 +127,33 @@ public class JsonUtils {
         return JsonParser.parse(reader, mode);
     }
 
+    /**
+     * Parses the elements of the top level array in the given {@link Reader} one at a time. Only the element being
+     * parsed is kept in memory, so that arrays larger than the memory can be read.
+     *
+     * @param reader reader which contains the JSON array
+     * @param mode   the mode to use when processing numeric values
+     * @return iterator over the JSON elements of the array, which throws a {@link BError} for any parsing error
+     */
+    public static Iterator<Object> parseArrayElements(Reader reader, JsonUtils.NonStringValueProcessingMode mode) {
+        return JsonParser.parseArrayElements(reader, mode);
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON content directly into a value of the given type, without building the json
+     * value of the content. This is done for the records, maps and arrays of the simple basic types, json and
+     * anydata, when the content conforms to the type. Otherwise {@code null} is returned, and the content is expected
+     * to be parsed as json and converted to the type, which gives the same value or reports the error.
+     *
+     * @param bytes      the array which contains the UTF-8 encoded JSON content
+     * @param targetType the type of the value
+     * @return the value of the type, or {@code null} if the content is not parsed or is the JSON null
+     */
+    public static Object parse(byte[] bytes, Type targetType) {
+        Object value = TypedJsonParser.parse(bytes, 0, bytes.length, targetType, null);
+        return value == TypedJsonParser.UNPARSED ? null : value;
+    }
+
     /**
      * Parses {@link BTable} to JSON.
      *
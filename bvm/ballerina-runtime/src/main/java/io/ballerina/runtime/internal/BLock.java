@@ -21,9 +21,14 @@ import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock is acquired exclusively by lock statements that may update the locked variables, and in shared mode by
+ * lock statements that only read them, so that read-mostly lock statements do not serialise all the strands.
  *
  * @since 1.0.0
  */
@@ -31,41 +36,134 @@ public class BLock {
 
     private ArrayDeque<Strand> current;
 
-    private ArrayDeque<Strand> waitingForLock;
+    /**
+     * Strands holding the lock in shared mode. A strand is added once for each nested acquisition.
+     */
+    private List<Strand> readers;
+
+    private ArrayDeque<Waiter> waitingForLock;
+
+    private int waitingWriters;
+
+    /**
+     * The store this lock belongs to.
+     */
+    final BLockStore store;
 
     public BLock() {
+        this(null);
+    }
+
+    BLock(BLockStore store) {
         this.current = new ArrayDeque<>();
+        this.readers = new ArrayList<>();
         this.waitingForLock = new ArrayDeque<>();
+        this.store = store;
     }
 
     public synchronized boolean lock(Strand strand) {
         if (isLockFree() || lockedBySameContext(strand)) {
             this.current.offerLast(strand);
+            strand.addAcquiredLock(this);
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
+        waitForLock(strand, false);
+        return false;
+    }
 
-        // Strand state change
-        strand.setState(State.BLOCK_AND_YIELD);
-        strand.blockedOnExtern = false;
+    /**
+     * Acquires the lock in shared mode. Many strands can hold the lock in shared mode at the same time, but not while
+     * another strand holds it exclusively. Strands that do not hold the lock already wait behind a waiting writer, so
+     * that writers are not starved.
+     *
+     * @param strand strand acquiring the lock
+     * @return true if the lock was acquired, false if the strand has to yield until the lock is released
+     */
+    public synchronized boolean lockShared(Strand strand) {
+        if (lockedBySameContext(strand) || this.readers.contains(strand) ||
+                (this.current.isEmpty() && this.waitingWriters == 0)) {
+            this.readers.add(strand);
+            strand.addAcquiredLock(this);
+            return true;
+        }
+
+        waitForLock(strand, true);
         return false;
     }
 
     public synchronized void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+        Strand strand = this.current.removeLast();
+        strand.removeAcquiredLock(this);
+        if (isLockFree()) {
+            notifyWaitingStrands();
+        }
+    }
+
+    public synchronized void unlockShared(Strand strand) {
+        this.readers.remove(strand);
+        strand.removeAcquiredLock(this);
+        if (isLockFree()) {
+            notifyWaitingStrands();
         }
     }
 
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.current.isEmpty() && this.readers.isEmpty();
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return !this.current.isEmpty() && this.current.getLast() == ctx;
+    }
+
+    private void waitForLock(Strand strand, boolean shared) {
+        this.waitingForLock.offerLast(new Waiter(strand, shared));
+        if (!shared) {
+            this.waitingWriters++;
+        }
+
+        // Strand state change
+        strand.setState(State.BLOCK_AND_YIELD);
+        strand.blockedOnExtern = false;
+    }
+
+    /**
+     * Resumes the first waiting strand, or all the consecutive waiting readers if the first one is a reader. Resumed
+     * strands retry acquiring the lock.
+     */
+    private void notifyWaitingStrands() {
+        Waiter waiter = this.waitingForLock.pollFirst();
+        if (waiter == null) {
+            return;
+        }
+        notifyWaitingStrand(waiter);
+        if (!waiter.shared) {
+            return;
+        }
+        while (!this.waitingForLock.isEmpty() && this.waitingForLock.peekFirst().shared) {
+            notifyWaitingStrand(this.waitingForLock.pollFirst());
+        }
+    }
+
+    private void notifyWaitingStrand(Waiter waiter) {
+        if (!waiter.shared) {
+            this.waitingWriters--;
+        }
+        waiter.strand.scheduler.unblockStrand(waiter.strand);
+    }
+
+    /**
+     * A strand waiting for the lock.
+     */
+    private static class Waiter {
+
+        final Strand strand;
+        final boolean shared;
+
+        Waiter(Strand strand, boolean shared) {
+            this.strand = strand;
+            this.shared = shared;
+        }
     }
 }
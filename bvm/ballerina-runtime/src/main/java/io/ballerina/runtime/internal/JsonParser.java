@@ -41,6 +41,8 @@ import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * This class represents a JSON parser.
@@ -138,6 +140,115 @@ public class JsonParser {
         }
     }
 
+    /**
+     * Returns an iterator over the elements of the top level array in the given {@link Reader}. The elements are
+     * parsed as they are iterated, so that only the element being parsed is kept in memory, and not the whole array.
+     *
+     * @param reader reader which contains the JSON array
+     * @param mode   the mode to use when processing numeric values
+     * @return iterator over the elements of the array, which throws a {@link BError} for any parsing error
+     */
+    public static Iterator<Object> parseArrayElements(Reader reader, JsonUtils.NonStringValueProcessingMode mode) {
+        return new ArrayElementIterator(reader, mode);
+    }
+
+    /**
+     * Iterates the elements of a top level JSON array. The state machine is run until an element of the array is
+     * parsed, and the element is removed from the array before it is returned.
+     */
+    private static class ArrayElementIterator implements Iterator<Object> {
+
+        private static final char[] EOF_BUFF = new char[] { StateMachine.EOF };
+
+        private final Reader reader;
+        private final StateMachine sm = new StateMachine();
+        private final char[] buff = new char[1024];
+        private int count;
+        private StateMachine.State state = StateMachine.DOC_START_STATE;
+        private ArrayValue array;
+        private Object element;
+        private boolean hasElement;
+        private boolean ended;
+
+        ArrayElementIterator(Reader reader, JsonUtils.NonStringValueProcessingMode mode) {
+            this.reader = reader;
+            this.sm.mode = mode;
+        }
+
+        @Override
+        public boolean hasNext() throws BError {
+            if (!this.hasElement && !this.ended) {
+                parseNextElement();
+            }
+            return this.hasElement;
+        }
+
+        @Override
+        public Object next() throws BError {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object next = this.element;
+            this.element = null;
+            this.hasElement = false;
+            return next;
+        }
+
+        private void parseNextElement() throws BError {
+            try {
+                while (!this.hasElement) {
+                    if (this.sm.index < this.count) {
+                        transition(this.buff, this.count);
+                        continue;
+                    }
+                    this.count = this.reader.read(this.buff);
+                    this.sm.index = 0;
+                    if (this.count <= 0) {
+                        transition(EOF_BUFF, 1);
+                        if (this.state != StateMachine.DOC_END_STATE) {
+                            throw ErrorCreator.createError(StringUtils.fromString("invalid JSON document"));
+                        }
+                        end();
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                end();
+                throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+            } catch (JsonParserException e) {
+                BError error = this.sm.createError(e);
+                end();
+                throw error;
+            } catch (BError e) {
+                end();
+                throw e;
+            }
+        }
+
+        private void transition(char[] chars, int charCount) throws JsonParserException {
+            this.state = this.state.transition(this.sm, chars, this.sm.index, charCount);
+            if (this.array == null) {
+                if (this.state == StateMachine.DOC_START_STATE) {
+                    return;
+                }
+                if (!(this.sm.currentJsonNode instanceof ArrayValue)) {
+                    StateMachine.throwExpected("[");
+                }
+                this.array = (ArrayValue) this.sm.currentJsonNode;
+            }
+            if (this.array.size() > 0) {
+                this.element = this.array.shift();
+                this.hasElement = true;
+            }
+        }
+
+        private void end() {
+            this.ended = true;
+            this.array = null;
+            this.sm.reset();
+        }
+    }
+
     /**
      * Represents a JSON parser related exception.
      */
@@ -225,6 +336,8 @@ public class JsonParser {
             this.currentJsonNode = null;
             this.line = 1;
             this.column = 0;
+            this.charBuffIndex = 0;
+            this.hexBuilder.setLength(0);
             this.mode = JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
             this.nodesStack = new ArrayDeque<>();
             this.fieldNames = new ArrayDeque<>();
@@ -266,11 +379,15 @@ public class JsonParser {
             } catch (IOException e) {
                 throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
             } catch (JsonParserException e) {
-                throw ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + this.line + " " +
-                                                                              "column: " + this.column));
+                throw createError(e);
             }
         }
 
+        private BError createError(JsonParserException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + this.line + " " +
+                                                                           "column: " + this.column));
+        }
+
         private void append(char ch) {
             try {
                 this.charBuff[this.charBuffIndex] = ch;
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.types.Type;
+
+import java.io.PrintStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the results of structural type-to-type checks done by {@link TypeChecker}.
+ * <p>
+ * Only results that depend on nothing but the two types are cached. The checks of record and object values are
+ * cached separately from the checks of their types, and only if the source type has no `readonly` record fields or
+ * `final` object fields, since the values of those fields are looked at. Other checks that look at values (e.g., the
+ * members of an XML sequence) always go through the type checker.
+ * <p>
+ * Types are matched by identity. Record, object and error types are populated after they are created, so the setters
+ * used for that clear the cache. Once the cache reaches its capacity, which is read from the
+ * BALLERINA_TYPE_CHECK_CACHE_SIZE system variable, an eighth of the cached results are evicted to make room for new
+ * ones. A capacity of 0 disables the cache.
+ *
+ * @since 2.0.0
+ */
+public final class TypeCheckCache {
+
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final int CAPACITY = readCapacity();
+    private static final int EVICTION_BATCH_SIZE = Math.max(1, CAPACITY / 8);
+
+    private static final Map<Key, Boolean> results = new ConcurrentHashMap<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+
+    private TypeCheckCache() {
+    }
+
+    static Boolean get(Type sourceType, Type targetType) {
+        return get(sourceType, targetType, false);
+    }
+
+    static Boolean get(Type sourceType, Type targetType, boolean valueCheck) {
+        if (CAPACITY == 0) {
+            return null;
+        }
+        Boolean result = results.get(new Key(sourceType, targetType, valueCheck));
+        if (result == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return result;
+    }
+
+    static void put(Type sourceType, Type targetType, boolean result) {
+        put(sourceType, targetType, false, result);
+    }
+
+    static void put(Type sourceType, Type targetType, boolean valueCheck, boolean result) {
+        if (CAPACITY == 0) {
+            return;
+        }
+        if (results.size() >= CAPACITY) {
+            evict();
+        }
+        results.put(new Key(sourceType, targetType, valueCheck), result);
+    }
+
+    /**
+     * Discards all the cached results. Must be called whenever a type is changed after it is created.
+     */
+    public static void invalidate() {
+        if (!results.isEmpty()) {
+            results.clear();
+        }
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of results evicted due to the cache reaching its capacity.
+     *
+     * @return number of evictions
+     */
+    public static long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public static int getSize() {
+        return results.size();
+    }
+
+    public static int getCapacity() {
+        return CAPACITY;
+    }
+
+    private static void evict() {
+        Iterator<Key> iterator = results.keySet().iterator();
+        for (int i = 0; i < EVICTION_BATCH_SIZE && iterator.hasNext(); i++) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static int readCapacity() {
+        String capacity = System.getenv(RuntimeConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR);
+        if (capacity == null) {
+            return DEFAULT_CAPACITY;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(capacity));
+        } catch (NumberFormatException e) {
+            PrintStream err = System.err;
+            err.println("ballerina: invalid value '" + capacity + "' for system variable:" +
+                                RuntimeConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR + ", using the default " +
+                                "type check cache size " + DEFAULT_CAPACITY);
+            return DEFAULT_CAPACITY;
+        }
+    }
+
+    /**
+     * Source and target type pair, compared by identity, and whether the check is of a value of the source type.
+     */
+    private static class Key {
+
+        private final Type sourceType;
+        private final Type targetType;
+        private final boolean valueCheck;
+
+        Key(Type sourceType, Type targetType, boolean valueCheck) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.valueCheck = valueCheck;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return this.sourceType == other.sourceType && this.targetType == other.targetType &&
+                    this.valueCheck == other.valueCheck;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+            return valueCheck ? hash + 1 : hash;
+        }
+    }
+}
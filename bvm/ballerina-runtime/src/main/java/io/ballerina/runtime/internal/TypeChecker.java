@@ -47,6 +47,7 @@ import io.ballerina.runtime.internal.types.BObjectType;
 import io.ballerina.runtime.internal.types.BParameterizedType;
 import io.ballerina.runtime.internal.types.BRecordType;
 import io.ballerina.runtime.internal.types.BStreamType;
+import io.ballerina.runtime.internal.types.BStructureType;
 import io.ballerina.runtime.internal.types.BTableType;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.types.BType;
@@ -676,8 +677,17 @@ public class TypeChecker {
             case TypeTags.XML_PI_TAG:
                 return targetTypeTag == sourceTypeTag;
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes != null) {
+                    return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
+                }
+                // Only the result of a top level check is final, nested checks assume the unresolved pairs hold.
+                Boolean cachedResult = TypeCheckCache.get(sourceType, targetType);
+                if (cachedResult != null) {
+                    return cachedResult;
+                }
+                boolean result = checkIsRecursiveType(sourceType, targetType, new ArrayList<>());
+                TypeCheckCache.put(sourceType, targetType, result);
+                return result;
         }
     }
 
@@ -723,9 +733,41 @@ public class TypeChecker {
             case TypeTags.READONLY_TAG:
                 return isInherentlyImmutableType(sourceType) || sourceType.isReadOnly();
             default:
-                return checkIsRecursiveTypeOnValue(sourceVal, sourceType, targetType, sourceTypeTag, targetTypeTag,
-                                                   unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes != null) {
+                    return checkIsRecursiveTypeOnValue(sourceVal, sourceType, targetType, sourceTypeTag,
+                                                       targetTypeTag, unresolvedTypes);
+                }
+                if (!isValueIndependent(sourceType)) {
+                    return checkIsRecursiveTypeOnValue(sourceVal, sourceType, targetType, sourceTypeTag,
+                                                       targetTypeTag, new ArrayList<>());
+                }
+                Boolean cachedResult = TypeCheckCache.get(sourceType, targetType, true);
+                if (cachedResult != null) {
+                    return cachedResult;
+                }
+                boolean result = checkIsRecursiveTypeOnValue(sourceVal, sourceType, targetType, sourceTypeTag,
+                                                             targetTypeTag, new ArrayList<>());
+                TypeCheckCache.put(sourceType, targetType, true, result);
+                return result;
+        }
+    }
+
+    /**
+     * Checks whether the result of checking a value of a record or object type is the same for every value of the
+     * type. Only the values of `readonly` record fields and `final` object fields are looked at by the check.
+     *
+     * @param sourceType record or object type of the value
+     * @return flag indicating whether the check depends only on the type of the value
+     */
+    private static boolean isValueIndependent(Type sourceType) {
+        long valueDependentFlag = sourceType.getTag() == TypeTags.RECORD_TYPE_TAG ? SymbolFlags.READONLY :
+                SymbolFlags.FINAL;
+        for (Field field : ((BStructureType) sourceType).getFields().values()) {
+            if (SymbolFlags.isFlagOn(field.getFlags(), valueDependentFlag)) {
+                return false;
+            }
         }
+        return true;
     }
 
     // Private methods
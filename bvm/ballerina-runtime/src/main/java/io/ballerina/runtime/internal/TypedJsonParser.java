@@ -0,0 +1,827 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parses UTF-8 encoded JSON content directly into a value of a given type, without building the json value with
+ * {@link JsonParser} and converting it to the type afterwards.
+ * <p>
+ * The parser produces the same value as parsing the content with {@link JsonParser} and converting the json value
+ * with {@code value:fromJsonWithType} or {@code value:cloneWithType}. It only handles records, maps and arrays, whose
+ * members are of the simple basic types, json, anydata, or optional types of them, and the content which is valid
+ * JSON, and conforms to the type with no other conversion than the int values to float and decimal. For anything
+ * else, {@link #UNPARSED} is returned, and the caller is expected to parse the content as json, and convert it, which
+ * reports the errors as before.
+ *
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class TypedJsonParser {
+
+    /**
+     * Returned when the content is not parsed into the type.
+     */
+    public static final Object UNPARSED = new Object();
+
+    private static final int MAX_DEPTH = 512;
+    private static final int MAX_LONG_DIGITS = 18;
+    // The precision of DecimalValue, up to which a decimal literal is converted to float same as Double.parseDouble
+    private static final int MAX_EXACT_DECIMAL_DIGITS = 34;
+    private static final int MAX_EXPONENT_DIGITS = 8;
+    // The smallest code points of the UTF-8 sequences by the number of continuation bytes, to reject overlong forms
+    private static final int[] MIN_CODE_POINTS = {0, 0x80, 0x800, 0x10000};
+
+    private static final ThreadLocal<TypedJsonParser> tlParser = ThreadLocal.withInitial(TypedJsonParser::new);
+    private static final UnparsableContentException UNPARSABLE = new UnparsableContentException();
+
+    private final Map<Type, Boolean> supportedTypes = new IdentityHashMap<>();
+    private final Map<Type, RecordFields> recordFields = new IdentityHashMap<>();
+    private boolean inUse;
+
+    private byte[] bytes;
+    private int index;
+    private int end;
+    private int depth;
+    private BTypedesc typedesc;
+    private char[] charBuff = new char[256];
+
+    /**
+     * Parses the given JSON string into a value of the given type.
+     *
+     * @param jsonStr    the string which contains the JSON content
+     * @param targetType the type of the value
+     * @param t          the typedesc used to create the value, if the type is the described type
+     * @return the value of the type, or {@link #UNPARSED} if the content is not parsed
+     */
+    public static Object parse(String jsonStr, Type targetType, BTypedesc t) {
+        byte[] bytes = jsonStr.getBytes(StandardCharsets.UTF_8);
+        // Unpaired surrogates are replaced when encoding, and they are left to JsonParser
+        if (bytes.length != jsonStr.length() && hasSurrogates(jsonStr) &&
+                !new String(bytes, StandardCharsets.UTF_8).equals(jsonStr)) {
+            return UNPARSED;
+        }
+        return parse(bytes, 0, bytes.length, targetType, t);
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON content into a value of the given type.
+     *
+     * @param bytes      the array which contains the JSON content
+     * @param offset     the start of the content
+     * @param length     the length of the content
+     * @param targetType the type of the value
+     * @param t          the typedesc used to create the value, if the type is the described type
+     * @return the value of the type, or {@link #UNPARSED} if the content is not parsed
+     */
+    public static Object parse(byte[] bytes, int offset, int length, Type targetType, BTypedesc t) {
+        TypedJsonParser parser = tlParser.get();
+        if (parser.inUse) {
+            // A record initializer may parse another value while a value is being parsed
+            parser = new TypedJsonParser();
+        }
+        if (!parser.isSupported(targetType)) {
+            return UNPARSED;
+        }
+        parser.inUse = true;
+        parser.bytes = bytes;
+        parser.index = offset;
+        parser.end = offset + length;
+        parser.typedesc = t;
+        try {
+            Object value = parser.parseValue(targetType, false);
+            if (parser.skipWhitespace() < parser.end) {
+                return UNPARSED;
+            }
+            return value;
+        } catch (UnparsableContentException | BError e) {
+            return UNPARSED;
+        } finally {
+            // Release the content and the typedesc, so that they are not held by the thread
+            parser.bytes = null;
+            parser.typedesc = null;
+            parser.depth = 0;
+            parser.inUse = false;
+        }
+    }
+
+    /**
+     * Checks whether values of the given type are parsed by this parser.
+     *
+     * @param type the type of the value
+     * @return true if the type is supported
+     */
+    public static boolean isSupportedType(Type type) {
+        return tlParser.get().isSupported(type);
+    }
+
+    private boolean isSupported(Type type) {
+        Boolean supported = supportedTypes.get(type);
+        if (supported == null) {
+            supported = isSupported(type, Collections.newSetFromMap(new IdentityHashMap<>()));
+            supportedTypes.put(type, supported);
+        }
+        return supported;
+    }
+
+    private static boolean isSupported(Type type, Set<Type> visitedTypes) {
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.NULL_TAG:
+                return true;
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                return !type.isReadOnly();
+            case TypeTags.UNION_TAG:
+                Type memberType = getNonNilMemberType((UnionType) type);
+                return memberType != null && memberType.getTag() != TypeTags.JSON_TAG &&
+                        memberType.getTag() != TypeTags.ANYDATA_TAG && isSupported(memberType, visitedTypes);
+            default:
+                break;
+        }
+        if (type.isReadOnly()) {
+            return false;
+        }
+        if (!visitedTypes.add(type)) {
+            // Recursive types are supported, if the rest of the type is supported
+            return true;
+        }
+        switch (type.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                RecordType recordType = (RecordType) type;
+                for (Field field : recordType.getFields().values()) {
+                    if (!isSupported(field.getFieldType(), visitedTypes)) {
+                        return false;
+                    }
+                }
+                return recordType.isSealed() || isSupported(recordType.getRestFieldType(), visitedTypes);
+            case TypeTags.MAP_TAG:
+                return isSupported(((MapType) type).getConstrainedType(), visitedTypes);
+            case TypeTags.ARRAY_TAG:
+                ArrayType arrayType = (ArrayType) type;
+                return arrayType.getState() == ArrayType.ArrayState.OPEN &&
+                        isSupported(arrayType.getElementType(), visitedTypes);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the member type of an optional type, i.e. a union of nil and another type.
+     */
+    private static Type getNonNilMemberType(UnionType unionType) {
+        List<Type> memberTypes = unionType.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return null;
+        }
+        if (memberTypes.get(0).getTag() == TypeTags.NULL_TAG) {
+            return memberTypes.get(1).getTag() != TypeTags.NULL_TAG ? memberTypes.get(1) : null;
+        }
+        return memberTypes.get(1).getTag() == TypeTags.NULL_TAG ? memberTypes.get(0) : null;
+    }
+
+    private static boolean hasSurrogates(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            if (Character.isSurrogate(str.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses a value of the given type.
+     *
+     * @param type         the type of the value
+     * @param likeTypeOnly whether the value is checked against the type as a member of an array or a map, in which
+     *                     case all the fields of records which are not optional should be present
+     * @return the value
+     */
+    private Object parseValue(Type type, boolean likeTypeOnly) throws UnparsableContentException {
+        int ch = peekNonWhitespace();
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+                Object number = parseNumber();
+                if (number instanceof Long) {
+                    return number;
+                }
+                throw UNPARSABLE;
+            case TypeTags.FLOAT_TAG:
+                return parseFloat(type);
+            case TypeTags.DECIMAL_TAG:
+                number = parseNumber();
+                return number instanceof DecimalValue ? number : TypeConverter.convertValues(type, number);
+            case TypeTags.STRING_TAG:
+                expect('"');
+                return StringUtils.fromString(parseString());
+            case TypeTags.BOOLEAN_TAG:
+                return parseBoolean();
+            case TypeTags.NULL_TAG:
+                parseNull();
+                return null;
+            case TypeTags.UNION_TAG:
+                if (ch == 'n') {
+                    parseNull();
+                    return null;
+                }
+                return parseValue(getNonNilMemberType((UnionType) type), likeTypeOnly);
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                return parseUntypedValue(new BMapType(type), new BArrayType(type));
+            case TypeTags.RECORD_TYPE_TAG:
+                return parseRecord((RecordType) type, likeTypeOnly);
+            case TypeTags.MAP_TAG:
+                return parseMap((MapType) type);
+            case TypeTags.ARRAY_TAG:
+                return parseArray((ArrayType) type);
+            default:
+                throw UNPARSABLE;
+        }
+    }
+
+    private BMap<BString, Object> parseRecord(RecordType recordType, boolean likeTypeOnly)
+            throws UnparsableContentException {
+        expect('{');
+        enterContainer();
+        RecordFields fields = getRecordFields(recordType);
+        BMap<BString, Object> record;
+        if (typedesc != null && typedesc.getDescribingType() == recordType) {
+            record = (BMap<BString, Object>) typedesc.instantiate(Scheduler.getStrand());
+        } else {
+            record = ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName());
+        }
+        boolean[] presentFields = (likeTypeOnly ? fields.hasNonOptionalFields : fields.hasRequiredFields) ?
+                new boolean[fields.fields.length] : null;
+        if (peekNonWhitespace() == '}') {
+            index++;
+        } else {
+            do {
+                expectNonWhitespace('"');
+                String fieldName = parseString();
+                expectNonWhitespace(':');
+                RecordField field = fields.fieldsByName.get(fieldName);
+                Type fieldType;
+                if (field != null) {
+                    fieldType = field.type;
+                    if (presentFields != null) {
+                        presentFields[field.index] = true;
+                    }
+                } else if (!recordType.isSealed()) {
+                    fieldType = recordType.getRestFieldType();
+                } else {
+                    throw UNPARSABLE;
+                }
+                record.put(StringUtils.fromString(fieldName), parseValue(fieldType, likeTypeOnly));
+            } while (nextMember('}'));
+        }
+        if (presentFields != null) {
+            for (RecordField field : fields.fields) {
+                if (!presentFields[field.index] && (likeTypeOnly ? !field.optional : field.required)) {
+                    throw UNPARSABLE;
+                }
+            }
+        }
+        depth--;
+        return record;
+    }
+
+    private BMap<BString, Object> parseMap(MapType mapType) throws UnparsableContentException {
+        expect('{');
+        enterContainer();
+        BMap<BString, Object> map = ValueCreator.createMapValue(mapType);
+        if (peekNonWhitespace() == '}') {
+            index++;
+        } else {
+            Type constrainedType = mapType.getConstrainedType();
+            do {
+                expectNonWhitespace('"');
+                String key = parseString();
+                expectNonWhitespace(':');
+                map.put(StringUtils.fromString(key), parseValue(constrainedType, true));
+            } while (nextMember('}'));
+        }
+        depth--;
+        return map;
+    }
+
+    private BArray parseArray(ArrayType arrayType) throws UnparsableContentException {
+        expect('[');
+        enterContainer();
+        BArray array = ValueCreator.createArrayValue(arrayType);
+        if (peekNonWhitespace() == ']') {
+            index++;
+        } else {
+            Type elementType = arrayType.getElementType();
+            int i = 0;
+            do {
+                Object element = parseValue(elementType, true);
+                array.add(i++, element);
+            } while (nextMember(']'));
+        }
+        depth--;
+        return array;
+    }
+
+    /**
+     * Parses a json or an anydata value, whose mappings and lists are created with the given types, as they are
+     * when the json value is converted to json or anydata.
+     */
+    private Object parseUntypedValue(BMapType mapType, BArrayType arrayType) throws UnparsableContentException {
+        switch (peekNonWhitespace()) {
+            case '{':
+                index++;
+                enterContainer();
+                MapValueImpl<BString, Object> map = new MapValueImpl<>(mapType);
+                if (peekNonWhitespace() == '}') {
+                    index++;
+                } else {
+                    do {
+                        expectNonWhitespace('"');
+                        String key = parseString();
+                        expectNonWhitespace(':');
+                        map.put(StringUtils.fromString(key), parseUntypedValue(mapType, arrayType));
+                    } while (nextMember('}'));
+                }
+                depth--;
+                return map;
+            case '[':
+                index++;
+                enterContainer();
+                ArrayValueImpl array = new ArrayValueImpl(arrayType);
+                if (peekNonWhitespace() == ']') {
+                    index++;
+                } else {
+                    do {
+                        array.append(parseUntypedValue(mapType, arrayType));
+                    } while (nextMember(']'));
+                }
+                depth--;
+                return array;
+            case '"':
+                index++;
+                return StringUtils.fromString(parseString());
+            case 't':
+            case 'f':
+                return parseBoolean();
+            case 'n':
+                parseNull();
+                return null;
+            default:
+                return parseNumber();
+        }
+    }
+
+    private Object parseFloat(Type type) throws UnparsableContentException {
+        int start = index;
+        int ch = start < end ? bytes[start] : -1;
+        if (ch == '-' || (ch >= '0' && ch <= '9')) {
+            NumberLiteral literal = scanNumber();
+            if (literal == NumberLiteral.DECIMAL && index - start <= MAX_EXACT_DECIMAL_DIGITS &&
+                    !isNegativeZero(start, index)) {
+                // Same as the float value of the DecimalValue, since the literal is within its precision
+                return Double.parseDouble(new String(bytes, start, index - start, StandardCharsets.ISO_8859_1));
+            }
+            index = start;
+        }
+        Object number = parseNumber();
+        return number instanceof Double ? number : TypeConverter.convertValues(type, number);
+    }
+
+    /**
+     * Parses a number into the value created by {@link JsonParser} for the number.
+     */
+    private Object parseNumber() throws UnparsableContentException {
+        int start = index;
+        NumberLiteral literal = scanNumber();
+        int length = index - start;
+        if (isNegativeZero(start, index)) {
+            return -0.0;
+        }
+        try {
+            if (literal == NumberLiteral.INTEGER) {
+                if (length <= MAX_LONG_DIGITS) {
+                    return toLong(start, index);
+                }
+                return Long.parseLong(new String(bytes, start, length, StandardCharsets.ISO_8859_1));
+            }
+            return new DecimalValue(new String(bytes, start, length, StandardCharsets.ISO_8859_1));
+        } catch (NumberFormatException e) {
+            throw UNPARSABLE;
+        }
+    }
+
+    /**
+     * Scans a number, which is followed by a delimiter. The integers with an exponent are not parsed by
+     * {@link JsonParser}, and are not accepted.
+     */
+    private NumberLiteral scanNumber() throws UnparsableContentException {
+        if (index < end && bytes[index] == '-') {
+            index++;
+        }
+        int integerStart = index;
+        scanDigits();
+        if (index == integerStart || (bytes[integerStart] == '0' && index - integerStart > 1)) {
+            throw UNPARSABLE;
+        }
+        NumberLiteral literal = NumberLiteral.INTEGER;
+        if (index < end && bytes[index] == '.') {
+            index++;
+            if (scanDigits() == 0) {
+                throw UNPARSABLE;
+            }
+            literal = NumberLiteral.DECIMAL;
+        }
+        if (index < end && (bytes[index] == 'e' || bytes[index] == 'E')) {
+            if (literal == NumberLiteral.INTEGER) {
+                throw UNPARSABLE;
+            }
+            index++;
+            if (index < end && (bytes[index] == '+' || bytes[index] == '-')) {
+                index++;
+            }
+            int exponentDigits = scanDigits();
+            if (exponentDigits == 0 || exponentDigits > MAX_EXPONENT_DIGITS) {
+                throw UNPARSABLE;
+            }
+        }
+        checkDelimiter();
+        return literal;
+    }
+
+    private int scanDigits() {
+        int start = index;
+        while (index < end && bytes[index] >= '0' && bytes[index] <= '9') {
+            index++;
+        }
+        return index - start;
+    }
+
+    private long toLong(int start, int end) {
+        boolean negative = bytes[start] == '-';
+        long value = 0;
+        for (int i = negative ? start + 1 : start; i < end; i++) {
+            value = value * 10 + (bytes[i] - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Checks whether a number is a negative zero, which is parsed as a float by {@link JsonParser}.
+     */
+    private boolean isNegativeZero(int start, int end) {
+        if (bytes[start] != '-') {
+            return false;
+        }
+        boolean zero = true;
+        for (int i = start + 1; i < end; i++) {
+            byte ch = bytes[i];
+            if (ch == 'e' || ch == 'E') {
+                // Small numbers with an exponent are rounded to zero as well
+                return Double.parseDouble(new String(bytes, start, end - start, StandardCharsets.ISO_8859_1)) == 0;
+            }
+            zero &= ch == '0' || ch == '.';
+        }
+        return zero;
+    }
+
+    private Boolean parseBoolean() throws UnparsableContentException {
+        if (matches("true")) {
+            return Boolean.TRUE;
+        }
+        if (matches("false")) {
+            return Boolean.FALSE;
+        }
+        throw UNPARSABLE;
+    }
+
+    private void parseNull() throws UnparsableContentException {
+        if (!matches("null")) {
+            throw UNPARSABLE;
+        }
+    }
+
+    private boolean matches(String literal) throws UnparsableContentException {
+        int length = literal.length();
+        if (end - index < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[index + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        index += length;
+        checkDelimiter();
+        return true;
+    }
+
+    /**
+     * Parses a string, whose opening quote is already consumed.
+     */
+    private String parseString() throws UnparsableContentException {
+        int start = index;
+        for (int i = start; i < end; i++) {
+            byte ch = bytes[i];
+            if (ch == '"') {
+                index = i + 1;
+                return new String(bytes, start, i - start, StandardCharsets.ISO_8859_1);
+            }
+            if (ch == '\\' || ch < 0) {
+                return parseEscapedString(start, i);
+            }
+        }
+        throw UNPARSABLE;
+    }
+
+    /**
+     * Parses a string, which has escaped or non ASCII characters from the given position.
+     */
+    private String parseEscapedString(int start, int position) throws UnparsableContentException {
+        int length = 0;
+        for (int i = start; i < position; i++) {
+            append(length++, (char) bytes[i]);
+        }
+        int i = position;
+        while (i < end) {
+            int ch = bytes[i++];
+            if (ch == '"') {
+                index = i;
+                return new String(charBuff, 0, length);
+            }
+            if (ch == '\\') {
+                if (i >= end) {
+                    break;
+                }
+                ch = bytes[i++];
+                switch (ch) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        append(length++, (char) ch);
+                        break;
+                    case 'b':
+                        append(length++, '\b');
+                        break;
+                    case 'f':
+                        append(length++, '\f');
+                        break;
+                    case 'n':
+                        append(length++, '\n');
+                        break;
+                    case 'r':
+                        append(length++, '\r');
+                        break;
+                    case 't':
+                        append(length++, '\t');
+                        break;
+                    case 'u':
+                        if (end - i < 4) {
+                            throw UNPARSABLE;
+                        }
+                        int codeUnit = 0;
+                        for (int j = 0; j < 4; j++) {
+                            int digit = Character.digit(bytes[i++], 16);
+                            if (digit < 0) {
+                                throw UNPARSABLE;
+                            }
+                            codeUnit = (codeUnit << 4) | digit;
+                        }
+                        append(length++, (char) codeUnit);
+                        break;
+                    default:
+                        throw UNPARSABLE;
+                }
+            } else if (ch >= 0) {
+                append(length++, (char) ch);
+            } else {
+                // A multi byte UTF-8 sequence, malformed sequences are replaced by the decoder used by JsonParser
+                int codePoint;
+                int continuationBytes;
+                if ((ch & 0xE0) == 0xC0) {
+                    codePoint = ch & 0x1F;
+                    continuationBytes = 1;
+                } else if ((ch & 0xF0) == 0xE0) {
+                    codePoint = ch & 0x0F;
+                    continuationBytes = 2;
+                } else if ((ch & 0xF8) == 0xF0) {
+                    codePoint = ch & 0x07;
+                    continuationBytes = 3;
+                } else {
+                    throw UNPARSABLE;
+                }
+                if (end - i < continuationBytes) {
+                    throw UNPARSABLE;
+                }
+                for (int j = 0; j < continuationBytes; j++) {
+                    int continuation = bytes[i++];
+                    if ((continuation & 0xC0) != 0x80) {
+                        throw UNPARSABLE;
+                    }
+                    codePoint = (codePoint << 6) | (continuation & 0x3F);
+                }
+                if (codePoint < MIN_CODE_POINTS[continuationBytes] || codePoint > Character.MAX_CODE_POINT ||
+                        (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+                    throw UNPARSABLE;
+                }
+                if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                    append(length++, Character.highSurrogate(codePoint));
+                    append(length++, Character.lowSurrogate(codePoint));
+                } else {
+                    append(length++, (char) codePoint);
+                }
+            }
+        }
+        throw UNPARSABLE;
+    }
+
+    private void append(int position, char ch) {
+        if (position == charBuff.length) {
+            char[] newBuff = new char[charBuff.length * 2];
+            System.arraycopy(charBuff, 0, newBuff, 0, charBuff.length);
+            charBuff = newBuff;
+        }
+        charBuff[position] = ch;
+    }
+
+    private void enterContainer() throws UnparsableContentException {
+        if (++depth > MAX_DEPTH) {
+            // Deeply nested content is left to the JsonParser, which does not use the call stack
+            throw UNPARSABLE;
+        }
+    }
+
+    /**
+     * Consumes the delimiter after a member of a mapping or a list, and returns whether another member follows.
+     */
+    private boolean nextMember(char closingChar) throws UnparsableContentException {
+        int ch = peekNonWhitespace();
+        index++;
+        if (ch == ',') {
+            return true;
+        }
+        if (ch == closingChar) {
+            return false;
+        }
+        throw UNPARSABLE;
+    }
+
+    /**
+     * Checks whether a number or a literal is followed by a delimiter, or the end of the content.
+     */
+    private void checkDelimiter() throws UnparsableContentException {
+        if (index == end) {
+            return;
+        }
+        switch (bytes[index]) {
+            case ',':
+            case '}':
+            case ']':
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\r':
+                return;
+            default:
+                throw UNPARSABLE;
+        }
+    }
+
+    private void expect(char ch) throws UnparsableContentException {
+        if (index >= end || bytes[index] != ch) {
+            throw UNPARSABLE;
+        }
+        index++;
+    }
+
+    private void expectNonWhitespace(char ch) throws UnparsableContentException {
+        skipWhitespace();
+        expect(ch);
+    }
+
+    private int peekNonWhitespace() {
+        skipWhitespace();
+        return index < end ? bytes[index] : -1;
+    }
+
+    private int skipWhitespace() {
+        while (index < end) {
+            byte ch = bytes[index];
+            if (ch != ' ' && ch != '\n' && ch != '\r' && ch != '\t') {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    private RecordFields getRecordFields(RecordType recordType) {
+        RecordFields fields = recordFields.get(recordType);
+        if (fields == null) {
+            fields = new RecordFields(recordType);
+            recordFields.put(recordType, fields);
+        }
+        return fields;
+    }
+
+    private enum NumberLiteral {
+        INTEGER, DECIMAL
+    }
+
+    /**
+     * The fields of a record type, with the indexes used to track the fields present in a mapping.
+     */
+    private static class RecordFields {
+        private final RecordField[] fields;
+        private final Map<String, RecordField> fieldsByName = new HashMap<>();
+        private boolean hasRequiredFields;
+        private boolean hasNonOptionalFields;
+
+        private RecordFields(RecordType recordType) {
+            fields = new RecordField[recordType.getFields().size()];
+            int i = 0;
+            for (Field field : recordType.getFields().values()) {
+                RecordField recordField = new RecordField(i, field);
+                fields[i++] = recordField;
+                fieldsByName.put(field.getFieldName(), recordField);
+                hasRequiredFields |= recordField.required;
+                hasNonOptionalFields |= !recordField.optional;
+            }
+        }
+    }
+
+    private static class RecordField {
+        private final int index;
+        private final Type type;
+        private final boolean required;
+        private final boolean optional;
+
+        private RecordField(int index, Field field) {
+            this.index = index;
+            this.type = field.getFieldType();
+            this.required = SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED);
+            this.optional = SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL);
+        }
+    }
+
+    /**
+     * Thrown when the content is not parsed into the type. A single instance without the stack trace is used, since
+     * it only ends the parsing.
+     */
+    private static class UnparsableContentException extends Exception {
+
+        private static final long serialVersionUID = 3470561251702512373L;
+
+        private UnparsableContentException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -19,12 +19,14 @@
 package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.types.BFunctionType;
 import io.ballerina.runtime.internal.values.FutureValue;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -49,6 +51,49 @@ public class AsyncUtils {
         return future;
     }
 
+    /**
+     * Execute a blocking task of an interop call. Unless a blocking call mode is configured, the task runs on the
+     * current thread and its result is returned. Otherwise the strand is blocked and the task is handed over to the
+     * blocking call executor, so that the strand worker thread is free to run other strands until the task completes.
+     * <p>
+     * The task runs without a current strand, hence it must not call {@link Scheduler#getStrand()}.
+     *
+     * @param strand current strand
+     * @param task   blocking task
+     * @return result of the task if it was executed on the current thread, null otherwise
+     */
+    public static Object executeBlocking(Strand strand, Supplier<Object> task) {
+        return executeBlocking(strand, task, BlockingCallExecutor.getExecutor());
+    }
+
+    /**
+     * Execute a blocking task of an interop call on the given executor, as in
+     * {@link #executeBlocking(Strand, Supplier)}.
+     *
+     * @param strand   current strand
+     * @param task     blocking task
+     * @param executor executor of the task, or null to execute the task on the current thread
+     * @return result of the task if it was executed on the current thread, null otherwise
+     */
+    static Object executeBlocking(Strand strand, Supplier<Object> task, ExecutorService executor) {
+        if (executor == null) {
+            return task.get();
+        }
+
+        blockStrand(strand);
+        executor.execute(() -> {
+            try {
+                strand.returnValue = task.get();
+            } catch (BError error) {
+                strand.panic = error;
+            } catch (Throwable t) {
+                strand.panic = ErrorCreator.createError(t);
+            }
+            strand.scheduler.unblockStrand(strand);
+        });
+        return null;
+    }
+
     /**
      * Invoke Function Pointer asynchronously. This will schedule the function and block the strand.
      *
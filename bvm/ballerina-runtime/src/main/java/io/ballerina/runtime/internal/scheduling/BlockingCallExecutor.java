@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executes blocking interop calls away from the strand worker threads.
+ * <p>
+ * Selected by the BALLERINA_BLOCKING_CALL_MODE system variable.
+ * <ul>
+ * <li>{@code inline} (default) - blocking calls run on the strand worker thread as before.</li>
+ * <li>{@code virtual-thread} - each blocking call runs on a JDK virtual thread. Falls back to {@code thread-pool}
+ * when the JVM does not support virtual threads.</li>
+ * <li>{@code thread-pool} - blocking calls run on an unbounded pool of platform threads.</li>
+ * </ul>
+ *
+ * @since 2.0.0
+ */
+class BlockingCallExecutor {
+
+    private static final String INLINE_MODE = "inline";
+    private static final String VIRTUAL_THREAD_MODE = "virtual-thread";
+    private static final String THREAD_POOL_MODE = "thread-pool";
+    private static final String THREAD_NAME_PREFIX = "jbal-blocking-call";
+
+    private static final ExecutorService executor =
+            createExecutor(System.getenv(RuntimeConstants.BALLERINA_BLOCKING_CALL_MODE_ENV_VAR));
+
+    private BlockingCallExecutor() {
+    }
+
+    /**
+     * Returns the executor for blocking calls.
+     *
+     * @return executor, or null if blocking calls should run inline on the strand worker thread
+     */
+    static ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Creates the executor for the given blocking call mode.
+     *
+     * @param mode blocking call mode, or null for the default mode
+     * @return executor, or null if blocking calls should run inline on the strand worker thread
+     */
+    static ExecutorService createExecutor(String mode) {
+        if (mode == null || INLINE_MODE.equalsIgnoreCase(mode)) {
+            return null;
+        }
+        PrintStream err = System.err;
+        if (VIRTUAL_THREAD_MODE.equalsIgnoreCase(mode)) {
+            try {
+                // Looked up reflectively since the runtime is compiled against Java 11.
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+                err.println("ballerina: virtual threads are not supported by the current JVM, using a thread pool " +
+                                    "for blocking calls instead");
+            }
+        } else if (!THREAD_POOL_MODE.equalsIgnoreCase(mode)) {
+            err.println("ballerina: invalid value '" + mode + "' for system variable:" +
+                                RuntimeConstants.BALLERINA_BLOCKING_CALL_MODE_ENV_VAR + ", using a thread pool " +
+                                "for blocking calls");
+        }
+        return Executors.newCachedThreadPool(new DaemonThreadFactory());
+    }
+
+    /**
+     * Blocking calls must not keep the program alive once all the strands are done.
+     */
+    private static class DaemonThreadFactory extends BLangThreadFactory {
+
+        DaemonThreadFactory() {
+            super(THREAD_NAME_PREFIX);
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = super.newThread(r);
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
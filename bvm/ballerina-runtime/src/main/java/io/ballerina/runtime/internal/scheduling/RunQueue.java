@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be executed by the {@link Scheduler} worker threads.
+ * <p>
+ * A group is present in at most one queue at a time (guarded by {@link ItemGroup#scheduled}), hence whichever worker
+ * takes it runs all of its items, keeping the same thread affinity regardless of the queue implementation.
+ *
+ * @since 2.0.0
+ */
+interface RunQueue {
+
+    /**
+     * Called once by each worker thread before it starts taking groups.
+     *
+     * @param workerId index of the worker, in the range [0, number of workers)
+     */
+    void registerWorker(int workerId);
+
+    /**
+     * Adds a runnable group. Can be called from any thread.
+     *
+     * @param group group to be executed
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Retrieves the next runnable group, waiting if necessary. Only called from registered worker threads.
+     *
+     * @return next runnable group
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    boolean isEmpty();
+}
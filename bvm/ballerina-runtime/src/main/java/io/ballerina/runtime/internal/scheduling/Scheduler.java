@@ -35,8 +35,6 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -61,7 +59,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runQueue;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -69,6 +67,14 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * Set the BALLERINA_SCHEDULER_POLICY system variable to `work-stealing` to use per worker run queues.
+     * Default is a single run queue shared by all the workers.
+     */
+    private static String schedulerPolicyConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR);
+
+    private static final String WORK_STEALING_POLICY = "work-stealing";
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -92,15 +98,25 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.runQueue = createRunQueue(poolSize, WORK_STEALING_POLICY.equalsIgnoreCase(schedulerPolicyConf));
         listenerRegistry = new ListenerRegistry();
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, WORK_STEALING_POLICY.equalsIgnoreCase(schedulerPolicyConf));
+    }
+
+    public Scheduler(int numThreads, boolean immortal, boolean workStealing) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runQueue = createRunQueue(numThreads, workStealing);
         listenerRegistry = new ListenerRegistry();
     }
 
+    private static RunQueue createRunQueue(int numThreads, boolean workStealing) {
+        return workStealing ? new WorkStealingRunQueue(numThreads) : new SharedRunQueue();
+    }
+
     public static Strand getStrand() {
         Strand strand = strandHolder.get().strand;
         if (strand == null) {
@@ -150,7 +166,7 @@ public class Scheduler {
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
-            runnableList.add(future.strand.strandGroup);
+            runQueue.add(future.strand.strandGroup);
         }
         return future;
     }
@@ -200,7 +216,7 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        runQueue.add(group);
         return future;
     }
 
@@ -226,16 +242,17 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        runQueue.add(group);
         return future;
     }
 
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            int workerId = i;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -246,8 +263,9 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
         try {
+            runQueue.registerWorker(workerId);
             run();
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
@@ -262,7 +280,7 @@ public class Scheduler {
             SchedulerItem item;
             ItemGroup group;
             try {
-                group = runnableList.take();
+                group = runQueue.take();
             } catch (InterruptedException ignored) {
                 continue;
             }
@@ -355,19 +373,21 @@ public class Scheduler {
                 justCompleted.setState(State.DONE);
 
 
-                for (WaitContext ctx : justCompleted.waitingContexts) {
-                    ctx.lock();
-                    if (!ctx.completed) {
-                        if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
-                            if (ctx.intermediate) {
-                                ctx.runnable = true;
-                            } else {
-                                ctx.completed = true;
-                                reschedule(ctx.schedulerItem);
+                if (justCompleted.waitingContexts != null) {
+                    for (WaitContext ctx : justCompleted.waitingContexts) {
+                        ctx.lock();
+                        if (!ctx.completed) {
+                            if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
+                                if (ctx.intermediate) {
+                                    ctx.runnable = true;
+                                } else {
+                                    ctx.completed = true;
+                                    reschedule(ctx.schedulerItem);
+                                }
                             }
                         }
+                        ctx.unLock();
                     }
-                    ctx.unLock();
                 }
 
                 cleanUp(justCompleted);
@@ -375,7 +395,7 @@ public class Scheduler {
                 int strandsLeft = totalStrands.decrementAndGet();
                 if (strandsLeft == 0) {
                     // (number of started stands - finished stands) = 0, all the work is done
-                    assert runnableList.size() == 0;
+                    assert runQueue.isEmpty();
 
                     if (!immortal) {
                         poison();
@@ -422,14 +442,17 @@ public class Scheduler {
 
     private void notifyChannels(SchedulerItem item, Throwable panic) {
         Set<ChannelDetails> channels = item.future.strand.channelDetails;
+        if (channels == null) {
+            return;
+        }
 
         for (ChannelDetails details: channels) {
             WorkerDataChannel wdChannel;
 
             if (details.channelInSameStrand) {
-                wdChannel = item.future.strand.wdChannels.getWorkerDataChannel(details.name);
+                wdChannel = item.future.strand.getWDChannels().getWorkerDataChannel(details.name);
             } else {
-                wdChannel = item.future.strand.parent.wdChannels.getWorkerDataChannel(details.name);
+                wdChannel = item.future.strand.parent.getWDChannels().getWorkerDataChannel(details.name);
             }
 
             if (details.send) {
@@ -451,7 +474,7 @@ public class Scheduler {
             //  2) All others have finished
             // In this case we need to put it back in the runnable list.
             if (group.scheduled.compareAndSet(false, true)) {
-                runnableList.add(group);
+                runQueue.add(group);
             }
         }
     }
@@ -463,14 +486,12 @@ public class Scheduler {
     }
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        return new FutureValue(newStrand, callback, constraint);
     }
 
     public void poison() {
         for (int i = 0; i < numThreads; i++) {
-            runnableList.add(POISON_PILL);
+            runQueue.add(POISON_PILL);
         }
     }
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Unbounded lock-free queue for a single producer and a single consumer.
+ * <p>
+ * Producer and consumer may each move between threads, as long as their successive calls are ordered by a
+ * happens-before edge, which is the case for a strand that is rescheduled by the {@link Scheduler}.
+ *
+ * @param <E> type of the elements
+ * @since 2.0.0
+ */
+class SpscLinkedQueue<E> {
+
+    // consumer side, points to the last consumed node
+    private Node<E> head;
+    // producer side
+    private Node<E> tail;
+
+    SpscLinkedQueue() {
+        Node<E> sentinel = new Node<>(null);
+        this.head = sentinel;
+        this.tail = sentinel;
+    }
+
+    /**
+     * Adds an element. Must only be called by the producer.
+     *
+     * @param e element to add, not null
+     */
+    void offer(E e) {
+        Node<E> node = new Node<>(e);
+        // release store, the value is visible before the node is reachable from the consumer
+        Node.NEXT.lazySet(this.tail, node);
+        this.tail = node;
+    }
+
+    /**
+     * Removes the first element. Must only be called by the consumer.
+     *
+     * @return first element, or null if the queue is empty
+     */
+    E poll() {
+        Node<E> next = this.head.next;
+        if (next == null) {
+            return null;
+        }
+        E value = next.value;
+        next.value = null;
+        this.head = next;
+        return value;
+    }
+
+    /**
+     * Checks whether there is an element to poll. Must only be called by the consumer.
+     *
+     * @return true if the queue is empty
+     */
+    boolean isEmpty() {
+        return this.head.next == null;
+    }
+
+    /**
+     * Node of the queue.
+     *
+     * @param <E> type of the element
+     */
+    private static class Node<E> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+        E value;
+        volatile Node<E> next;
+
+        Node(E value) {
+            this.value = value;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.BLock;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.ErrorValue;
@@ -29,6 +30,8 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.transactions.TransactionLocalContext;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -55,6 +58,8 @@ public class Strand {
 
     private static AtomicInteger nextStrandId = new AtomicInteger(0);
 
+    private static final int INITIAL_FRAMES_SIZE = 8;
+
     private int id;
     private String name;
     private StrandMetadata metadata;
@@ -65,11 +70,10 @@ public class Strand {
     public BError panic;
     public Scheduler scheduler;
     public Strand parent;
-    public WDChannels wdChannels;
+    private volatile WDChannels wdChannels;
     public FlushDetail flushDetail;
     public boolean blockedOnExtern;
     public Set<ChannelDetails> channelDetails;
-    public Set<SchedulerItem> dependants;
     public boolean cancel;
 
     SchedulerItem schedulerItem;
@@ -78,34 +82,69 @@ public class Strand {
     ItemGroup strandGroup;
 
     private Map<String, Object> globalProps;
+    /**
+     * Whether {@link #globalProps} is shared with the parent or child strands, in which case it is copied on the first
+     * write.
+     */
+    private boolean globalPropsShared;
     public TransactionLocalContext currentTrxContext;
     public Stack<TransactionLocalContext> trxContexts;
     private State state;
     private final ReentrantLock strandLock;
+    private List<BLock> acquiredLocks;
 
     public Strand(String name, StrandMetadata metadata, Scheduler scheduler, Strand parent,
                   Map<String, Object> properties) {
         this.id = nextStrandId.incrementAndGet();
         this.scheduler = scheduler;
-        this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
         this.state = RUNNABLE;
-        this.dependants = new HashSet<>();
         this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
         this.name = name;
         this.metadata = metadata;
-        this.trxContexts = new Stack<>();
         this.parent = parent;
 
-        //TODO: improve by using a copy on write map #26710
+        // Channels, wait contexts, transaction contexts and properties are created on first use, since most of the
+        // strands never use them.
         if (properties != null) {
             this.globalProps = properties;
-        } else if (parent != null) {
-            this.globalProps = new HashMap<>(parent.globalProps);
-        } else {
-            this.globalProps = new HashMap<>();
+        } else if (parent != null && parent.globalProps != null) {
+            this.globalProps = parent.globalProps;
+            this.globalPropsShared = true;
+            parent.globalPropsShared = true;
+        }
+    }
+
+    /**
+     * Gets the worker data channels of the strand, creating them if required.
+     *
+     * @return worker data channels
+     */
+    public WDChannels getWDChannels() {
+        WDChannels channels = this.wdChannels;
+        if (channels == null) {
+            synchronized (this) {
+                channels = this.wdChannels;
+                if (channels == null) {
+                    channels = new WDChannels();
+                    this.wdChannels = channels;
+                }
+            }
         }
+        return channels;
+    }
+
+    /**
+     * Saves the frame of a yielding function, to be restored when the strand is resumed.
+     *
+     * @param frame frame of the function
+     */
+    public void pushFrame(Object frame) {
+        if (this.frames == null) {
+            this.frames = new Object[INITIAL_FRAMES_SIZE];
+        } else if (this.resumeIndex == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, this.frames.length * 2);
+        }
+        this.frames[this.resumeIndex++] = frame;
     }
 
     public void handleChannelError(ChannelDetails[] channels, ErrorValue error) {
@@ -126,6 +165,9 @@ public class Strand {
      */
     @Deprecated
     public Object getProperty(String key) {
+        if (this.globalProps == null) {
+            return null;
+        }
         return this.globalProps.get(key);
     }
 
@@ -135,6 +177,12 @@ public class Strand {
      */
     @Deprecated
     public void setProperty(String key, Object value) {
+        if (this.globalProps == null) {
+            this.globalProps = new HashMap<>();
+        } else if (this.globalPropsShared) {
+            this.globalProps = new HashMap<>(this.globalProps);
+            this.globalPropsShared = false;
+        }
         this.globalProps.put(key, value);
     }
 
@@ -148,7 +196,7 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
             return;
         }
@@ -157,6 +205,9 @@ public class Strand {
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
+            if (this.trxContexts == null) {
+                this.trxContexts = new Stack<>();
+            }
             this.trxContexts.push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
@@ -232,7 +283,7 @@ public class Strand {
                 target.put(StringUtils.fromString(entry.getKey()), future.result);
             } else {
                 this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+                entry.getValue().strand.addWaitingContext(ctx);
             }
             future.strand.unlock();
         }
@@ -272,7 +323,7 @@ public class Strand {
                     waitResult = new WaitResult(true, future.result);
                     break;
                 } else {
-                    future.strand.waitingContexts.add(ctx);
+                    future.strand.addWaitingContext(ctx);
                 }
             } finally {
                 future.strand.unlock();
@@ -294,7 +345,61 @@ public class Strand {
         return waitResult;
     }
 
+    /**
+     * Records a lock acquired by this strand. Should only be called by the strand itself.
+     *
+     * @param lock acquired lock
+     */
+    public void addAcquiredLock(BLock lock) {
+        if (this.acquiredLocks == null) {
+            this.acquiredLocks = new ArrayList<>();
+        }
+        this.acquiredLocks.add(lock);
+    }
+
+    /**
+     * Removes a lock released by this strand. Should only be called by the strand itself.
+     *
+     * @param lock released lock
+     */
+    public void removeAcquiredLock(BLock lock) {
+        // locks are usually released in the reverse order of acquiring
+        for (int i = this.acquiredLocks.size() - 1; i >= 0; i--) {
+            if (this.acquiredLocks.get(i) == lock) {
+                this.acquiredLocks.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the locks currently held by this strand, including the nested acquisitions of the same lock.
+     *
+     * @return held locks
+     */
+    public List<BLock> getAcquiredLocks() {
+        if (this.acquiredLocks == null) {
+            return Collections.emptyList();
+        }
+        return this.acquiredLocks;
+    }
+
+    /**
+     * Registers a context waiting on this strand. Should be called while holding the strand lock.
+     *
+     * @param ctx wait context
+     */
+    void addWaitingContext(WaitContext ctx) {
+        if (this.waitingContexts == null) {
+            this.waitingContexts = new ArrayList<>();
+        }
+        this.waitingContexts.add(ctx);
+    }
+
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails == null) {
+            this.channelDetails = new HashSet<>();
+        }
         for (ChannelDetails channel: channels) {
             this.channelDetails.add(channel);
         }
@@ -303,9 +408,9 @@ public class Strand {
     private WorkerDataChannel getWorkerDataChannel(ChannelDetails channel) {
         WorkerDataChannel dataChannel;
         if (channel.channelInSameStrand) {
-            dataChannel = this.wdChannels.getWorkerDataChannel(channel.name);
+            dataChannel = this.getWDChannels().getWorkerDataChannel(channel.name);
         } else {
-            dataChannel = this.parent.wdChannels.getWorkerDataChannel(channel.name);
+            dataChannel = this.parent.getWDChannels().getWorkerDataChannel(channel.name);
         }
         return dataChannel;
     }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link RunQueue} with a deque per worker thread and work stealing.
+ * <p>
+ * Groups scheduled from a worker thread go to that worker's own deque, while groups scheduled from any other thread
+ * (listeners, callbacks, the main thread before the scheduler starts) go to a shared injection queue. A worker that
+ * runs out of work steals from the tail of the other workers' deques before parking, so workers only contend with
+ * each other when one of them is idle.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    /**
+     * A worker checks the injection queue first once in this many takes, so that groups submitted from outside are
+     * not starved by workers that keep rescheduling to their own deques.
+     */
+    private static final int INJECTION_QUEUE_POLL_INTERVAL = 61;
+
+    private final Worker[] workers;
+    private final Queue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<Thread> idleWorkers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+
+    WorkStealingRunQueue(int numWorkers) {
+        this.workers = new Worker[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            this.workers[i] = new Worker();
+        }
+    }
+
+    @Override
+    public void registerWorker(int workerId) {
+        Worker worker = workers[workerId];
+        worker.thread = Thread.currentThread();
+        currentWorker.set(worker);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        Worker worker = currentWorker.get();
+        if (worker != null) {
+            worker.deque.addLast(group);
+        } else {
+            injectionQueue.add(group);
+        }
+        Thread idle = idleWorkers.poll();
+        if (idle != null) {
+            LockSupport.unpark(idle);
+        }
+    }
+
+    @Override
+    public ItemGroup take() {
+        Worker worker = currentWorker.get();
+        while (true) {
+            ItemGroup group = poll(worker);
+            if (group != null) {
+                return group;
+            }
+
+            // Advertise as idle before the final check, so that a group added after the check always unparks us.
+            idleWorkers.add(worker.thread);
+            group = poll(worker);
+            if (group != null) {
+                idleWorkers.remove(worker.thread);
+                return group;
+            }
+            LockSupport.park(this);
+            idleWorkers.remove(worker.thread);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!injectionQueue.isEmpty()) {
+            return false;
+        }
+        for (Worker worker : workers) {
+            if (!worker.deque.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ItemGroup poll(Worker worker) {
+        ItemGroup group;
+        if (++worker.ticks % INJECTION_QUEUE_POLL_INTERVAL == 0) {
+            group = injectionQueue.poll();
+            if (group != null) {
+                return group;
+            }
+        }
+
+        group = worker.deque.pollFirst();
+        if (group != null) {
+            return group;
+        }
+
+        group = injectionQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        return steal(worker);
+    }
+
+    private ItemGroup steal(Worker thief) {
+        int numWorkers = workers.length;
+        int start = ThreadLocalRandom.current().nextInt(numWorkers);
+        for (int i = 0; i < numWorkers; i++) {
+            Worker victim = workers[(start + i) % numWorkers];
+            if (victim == thief) {
+                continue;
+            }
+            ItemGroup group = victim.deque.pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Per worker thread state.
+     */
+    private static class Worker {
+
+        final ConcurrentLinkedDeque<ItemGroup> deque = new ConcurrentLinkedDeque<>();
+        volatile Thread thread;
+        int ticks;
+    }
+}
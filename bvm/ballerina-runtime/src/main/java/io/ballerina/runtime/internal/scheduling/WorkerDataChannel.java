@@ -19,70 +19,70 @@ package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
+import static io.ballerina.runtime.internal.scheduling.State.RUNNABLE;
 
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * A channel has a single sending worker and a single receiving worker, so the messages are passed through a lock-free
+ * single producer, single consumer queue. A party that has to wait (a parked receiver, a sync sender or a flushing
+ * sender) publishes itself in a field and then re-checks the channel; whichever side claims the field back with a
+ * compare-and-set is the one that hands the strand to the {@link Scheduler}, so a strand is never resumed twice. A
+ * receiver is only handed to the scheduler by the first message sent after it parked, the rest of a burst is enqueued
+ * without touching the scheduler and is drained by the receiver once it runs.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
-    private WaitingSender waitingSender;
-    private WaitingSender flushSender;
-    private ErrorValue error;
-    private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    private static final AtomicReferenceFieldUpdater<WorkerDataChannel, Strand> RECEIVER =
+            AtomicReferenceFieldUpdater.newUpdater(WorkerDataChannel.class, Strand.class, "receiver");
+    private static final AtomicReferenceFieldUpdater<WorkerDataChannel, WaitingSender> WAITING_SENDER =
+            AtomicReferenceFieldUpdater.newUpdater(WorkerDataChannel.class, WaitingSender.class, "waitingSender");
+    private static final AtomicReferenceFieldUpdater<WorkerDataChannel, WaitingSender> FLUSH_SENDER =
+            AtomicReferenceFieldUpdater.newUpdater(WorkerDataChannel.class, WaitingSender.class, "flushSender");
+    private static final AtomicIntegerFieldUpdater<WorkerDataChannel> SENDER_COUNTER =
+            AtomicIntegerFieldUpdater.newUpdater(WorkerDataChannel.class, "senderCounter");
+    private static final AtomicIntegerFieldUpdater<WorkerDataChannel> RECEIVER_COUNTER =
+            AtomicIntegerFieldUpdater.newUpdater(WorkerDataChannel.class, "receiverCounter");
+
+    private volatile Strand receiver;
+    private volatile WaitingSender waitingSender;
+    private volatile WaitingSender flushSender;
+    private volatile ErrorValue error;
+    private volatile Throwable panic;
+    // only updated by the sender
+    private volatile int senderCounter;
+    // only updated by the receiver
+    private volatile int receiverCounter;
+
+    // sender side state of an ongoing sync send
     private boolean reschedule;
-
-    private Lock channelLock;
+    @SuppressWarnings("rawtypes")
+    private WorkerResult syncResult;
 
     public String chnlName;
 
     @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private final SpscLinkedQueue<WorkerResult> channel = new SpscLinkedQueue<>();
 
     public WorkerDataChannel() {
-        this.channelLock = new ReentrantLock();
-        this.senderCounter = 0;
-        this.receiverCounter = 0;
     }
+
     public WorkerDataChannel(String channelName) {
-        this.channelLock = new ReentrantLock();
-        this.senderCounter = 0;
-        this.receiverCounter = 0;
         this.chnlName = channelName;
     }
 
-    public void acquireChannelLock() {
-        this.channelLock.lock();
-    }
-
-    public void releaseChannelLock() {
-        this.channelLock.unlock();
-    }
-
     @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
-        try {
-            acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
-        } finally {
-            releaseChannelLock();
-        }
+        this.channel.offer(new WorkerResult(data));
+        SENDER_COUNTER.incrementAndGet(this);
+        resumeReceiver();
     }
 
     /**
@@ -92,90 +92,105 @@ public class WorkerDataChannel {
      * @return error if receiver already in error state, else null
      * @throws Throwable panic
      */
+    @SuppressWarnings("rawtypes")
     public Object syncSendData(Object data, Strand strand) throws Throwable {
-        try {
-            acquireChannelLock();
-            if (!reschedule) {
-                // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
-                this.waitingSender = new WaitingSender(strand, -1);
-
-                if (this.receiver != null) {
-                    // multiple checks are added to make sure this is
-                    this.receiver.scheduler.unblockStrand(this.receiver);
-                    this.receiver = null;
-                } else if (this.panic != null) {
-                    Throwable panic = this.panic;
-                    this.panic = null;
-                    throw panic;
-                } else if (this.error != null) {
-                    ErrorValue ret = this.error;
-                    return ret;
+        if (!reschedule) {
+            // this is a new message, not a reschedule
+            WorkerResult result = new WorkerResult(data, true);
+            WaitingSender waiting = new WaitingSender(strand, -1);
+            this.syncResult = result;
+            // the receiver may resume this strand as soon as the message is visible
+            strand.setState(BLOCK_AND_YIELD);
+            this.waitingSender = waiting;
+            this.channel.offer(result);
+            SENDER_COUNTER.incrementAndGet(this);
+            resumeReceiver();
+
+            if ((this.panic != null || this.error != null) && WAITING_SENDER.compareAndSet(this, waiting, null)) {
+                // receiver has already failed, so no one else will resume this strand
+                strand.setState(RUNNABLE);
+                this.syncResult = null;
+                if (this.panic != null) {
+                    throw this.panic;
                 }
-
-                reschedule = true;
-                strand.setState(BLOCK_AND_YIELD);
-                return null;
-            }
-
-            reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
-                Throwable e = this.panic;
-                throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
-                ErrorValue ret = this.error;
-                return ret;
+                return this.error;
             }
 
-            // sync send done
+            reschedule = true;
             return null;
-        } finally {
-            releaseChannelLock();
         }
+
+        reschedule = false;
+        WorkerResult result = this.syncResult;
+        this.syncResult = null;
+        if (!result.received) {
+            if (this.panic != null) {
+                throw this.panic;
+            } else if (this.error != null) {
+                return this.error;
+            }
+        }
+
+        // sync send done
+        return null;
     }
 
     @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
-        try {
-            acquireChannelLock();
-            WorkerResult result = this.channel.peek();
+        while (true) {
+            WorkerResult result = this.channel.poll();
             if (result != null) {
-                this.receiverCounter++;
-                this.channel.remove();
+                RECEIVER_COUNTER.incrementAndGet(this);
 
                 if (result.isSync) {
                     // sync sender will pick the this.error as result, which is null
-                    Strand waiting  = this.waitingSender.waitingStrand;
-                    waiting.scheduler.unblockStrand(waiting);
-                    this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
+                    result.received = true;
+                    WaitingSender waiting = WAITING_SENDER.getAndSet(this, null);
+                    if (waiting != null) {
+                        waiting.waitingStrand.scheduler.unblockStrand(waiting.waitingStrand);
+                    }
+                } else {
+                    WaitingSender flushWait = this.flushSender;
+                    if (flushWait != null && this.receiverCounter >= flushWait.flushCount &&
+                            FLUSH_SENDER.compareAndSet(this, flushWait, null)) {
+                        notifyFlushed(flushWait.waitingStrand);
                     }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
                 }
                 return result.value;
-            } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
+            }
+
+            // read the sender counter first, everything the sender did before updating it is visible after
+            int pending = this.senderCounter - this.receiverCounter;
+            if (pending == 1 && this.panic != null) {
+                RECEIVER_COUNTER.incrementAndGet(this);
                 throw this.panic;
-            } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
-                return error;
-            } else {
-                this.receiver = strand;
-                strand.setState(BLOCK_AND_YIELD);
+            } else if (pending == 1 && this.error != null) {
+                RECEIVER_COUNTER.incrementAndGet(this);
+                return this.error;
+            }
+
+            strand.setState(BLOCK_AND_YIELD);
+            this.receiver = strand;
+            if (!hasPendingData() || !RECEIVER.compareAndSet(this, strand, null)) {
                 return null;
             }
-        } finally {
-            releaseChannelLock();
+            // data arrived while parking and the sender did not see this strand, take it without yielding
+            strand.setState(RUNNABLE);
+        }
+    }
+
+    private boolean hasPendingData() {
+        int pending = this.senderCounter - this.receiverCounter;
+        return !this.channel.isEmpty() || (pending == 1 && (this.panic != null || this.error != null));
+    }
+
+    private void resumeReceiver() {
+        if (this.receiver == null) {
+            return;
+        }
+        Strand parked = RECEIVER.getAndSet(this, null);
+        if (parked != null) {
+            parked.scheduler.unblockStrand(parked);
         }
     }
 
@@ -184,14 +199,9 @@ public class WorkerDataChannel {
      * @param error the BError of the receiving worker
      */
     public void setSendError(ErrorValue error) {
-        acquireChannelLock();
         this.error = error;
-        this.senderCounter++;
-        if (this.receiver != null) {
-            this.receiver.scheduler.unblockStrand(this.receiver);
-            this.receiver = null;
-        }
-        releaseChannelLock();
+        SENDER_COUNTER.incrementAndGet(this);
+        resumeReceiver();
     }
 
     /**
@@ -200,24 +210,23 @@ public class WorkerDataChannel {
      * @param error to be set
      */
     public void setReceiveError(ErrorValue error) {
-        acquireChannelLock();
         this.error = error;
-        this.receiverCounter++;
-        if (this.flushSender != null) {
-            this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-            Strand flushStrand = this.flushSender.waitingStrand;
-            if (flushStrand.isBlocked()) {
-                flushStrand.flushDetail.result = error;
-                flushStrand.scheduler.unblockStrand(flushStrand);
+        RECEIVER_COUNTER.incrementAndGet(this);
+        WaitingSender flushWait = FLUSH_SENDER.getAndSet(this, null);
+        if (flushWait != null) {
+            Strand flushStrand = flushWait.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
+            try {
+                if (flushStrand.flushDetail.inProgress && flushStrand.isBlocked()) {
+                    flushStrand.flushDetail.result = error;
+                    flushStrand.scheduler.unblockStrand(flushStrand);
+                }
+            } finally {
+                flushStrand.flushDetail.flushLock.unlock();
             }
-            this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-            this.flushSender = null;
-        } else if (this.waitingSender != null) {
-            Strand waiting = this.waitingSender.waitingStrand;
-            waiting.scheduler.unblockStrand(waiting);
-            this.waitingSender = null;
+        } else {
+            resumeSyncSender();
         }
-        releaseChannelLock();
     }
 
     /**
@@ -228,29 +237,66 @@ public class WorkerDataChannel {
      * @throws Throwable panic
      */
     public ErrorValue flushChannel(Strand strand) throws Throwable {
-        acquireChannelLock();
-        try {
+        if (this.panic != null) {
+            throw this.panic;
+        } else if (this.error != null) {
+            return this.error;
+        }
+
+        int sent = this.senderCounter;
+        if (this.receiverCounter >= sent) {
+            markFlushed(strand);
+            return null;
+        }
+
+        WaitingSender flushWait = new WaitingSender(strand, sent);
+        this.flushSender = flushWait;
+        // the receiver may have taken the data or failed before the flush wait was visible to it
+        if ((this.receiverCounter >= sent || this.panic != null || this.error != null) &&
+                FLUSH_SENDER.compareAndSet(this, flushWait, null)) {
             if (this.panic != null) {
                 throw this.panic;
             } else if (this.error != null) {
                 return this.error;
-            } else if (this.receiverCounter == this.senderCounter) {
-                strand.flushDetail.flushLock.lock();
-                strand.flushDetail.flushedCount++;
-                strand.flushDetail.flushLock.unlock();
-                return null;
             }
-            this.flushSender = new WaitingSender(strand, this.senderCounter);
-            return null;
+            markFlushed(strand);
+        }
+        return null;
+    }
+
+    private static void markFlushed(Strand strand) {
+        strand.flushDetail.flushLock.lock();
+        strand.flushDetail.flushedCount++;
+        strand.flushDetail.flushLock.unlock();
+    }
+
+    private static void notifyFlushed(Strand flushStrand) {
+        Strand.FlushDetail flushDetail = flushStrand.flushDetail;
+        flushDetail.flushLock.lock();
+        try {
+            // flush may have already been completed due to an error in another channel
+            if (!flushDetail.inProgress) {
+                return;
+            }
+            flushDetail.flushedCount++;
+            if (flushDetail.flushedCount == flushDetail.flushChannels.length && flushStrand.isBlocked()) {
+                //will continue if this is a sync wait, will try to flush again if blocked on flush
+                flushStrand.scheduler.unblockStrand(flushStrand);
+            }
         } finally {
-            releaseChannelLock();
+            flushDetail.flushLock.unlock();
+        }
+    }
+
+    private void resumeSyncSender() {
+        WaitingSender waiting = WAITING_SENDER.getAndSet(this, null);
+        if (waiting != null) {
+            waiting.waitingStrand.scheduler.unblockStrand(waiting.waitingStrand);
         }
     }
 
     public void removeFlushWait() {
-        acquireChannelLock();
         this.flushSender = null;
-        releaseChannelLock();
     }
 
     /**
@@ -259,17 +305,9 @@ public class WorkerDataChannel {
      * @param panic to be set
      */
     public void setSendPanic(Throwable panic) {
-        try {
-            acquireChannelLock();
-            this.panic  = panic;
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
-        } finally {
-            releaseChannelLock();
-        }
+        this.panic = panic;
+        SENDER_COUNTER.incrementAndGet(this);
+        resumeReceiver();
     }
 
     /**
@@ -278,24 +316,25 @@ public class WorkerDataChannel {
      * @param panic to be set
      */
     public void setReceiverPanic(Throwable panic) {
-        acquireChannelLock();
-        this.panic  = panic;
-        this.receiverCounter++;
-        if (this.flushSender != null) {
-            this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-            Strand flushStrand = this.flushSender.waitingStrand;
-            this.flushSender.waitingStrand.flushDetail.panic = panic;
-            if (flushStrand.isBlocked()) {
-                flushStrand.scheduler.unblockStrand(flushStrand);
+        this.panic = panic;
+        RECEIVER_COUNTER.incrementAndGet(this);
+        WaitingSender flushWait = FLUSH_SENDER.getAndSet(this, null);
+        if (flushWait != null) {
+            Strand flushStrand = flushWait.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
+            try {
+                if (flushStrand.flushDetail.inProgress) {
+                    flushStrand.flushDetail.panic = panic;
+                    if (flushStrand.isBlocked()) {
+                        flushStrand.scheduler.unblockStrand(flushStrand);
+                    }
+                }
+            } finally {
+                flushStrand.flushDetail.flushLock.unlock();
             }
-            this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-            this.flushSender = null;
-        } else if (this.waitingSender != null) {
-            Strand waiting = this.waitingSender.waitingStrand;
-            waiting.scheduler.unblockStrand(waiting);
-            this.waitingSender = null;
+        } else {
+            resumeSyncSender();
         }
-        releaseChannelLock();
     }
 
     /**
@@ -309,6 +348,8 @@ public class WorkerDataChannel {
 
         public Object value;
         public boolean isSync;
+        // set by the receiver, published to the sync sender when it is resumed
+        public boolean received;
 
 
         public WorkerResult(Object value) {
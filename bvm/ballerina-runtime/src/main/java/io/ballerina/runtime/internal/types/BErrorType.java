@@ -21,6 +21,7 @@ import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.types.ErrorType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 /**
@@ -43,7 +44,12 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
     }
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
+        // error values set the type ids of their type on creation, which are the same in most cases
+        boolean changed = this.typeIdSet == null || !this.typeIdSet.getIds().equals(typeIdSet.getIds());
         this.typeIdSet = typeIdSet;
+        if (changed) {
+            TypeCheckCache.invalidate();
+        }
     }
 
     @Override
@@ -63,6 +69,7 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
 
     public void setDetailType(Type detailType) {
         this.detailType = detailType;
+        TypeCheckCache.invalidate();
     }
 
     @Override
@@ -26,6 +26,7 @@ import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
 
 import java.lang.reflect.Array;
 import java.util.Map.Entry;
@@ -84,6 +85,7 @@ public class BObjectType extends BStructureType implements ObjectType {
 
     public void setMethods(MethodType[] methodTypes) {
         this.methodTypes = methodTypes;
+        TypeCheckCache.invalidate();
     }
 
     public void setInitializer(BMethodType initializer) {
@@ -132,6 +134,7 @@ public class BObjectType extends BStructureType implements ObjectType {
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
         this.typeIdSet = typeIdSet;
+        TypeCheckCache.invalidate();
     }
 
     public BObjectType duplicate() {
@@ -35,6 +35,7 @@ import io.ballerina.runtime.internal.services.ErrorHandlerUtils;
 import io.ballerina.runtime.internal.types.BErrorType;
 import io.ballerina.runtime.internal.types.BTypeIdSet;
 
+import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -43,6 +44,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.StringJoiner;
 
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_ERROR_STACK_TRACE_ENV_VAR;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BLANG_SRC_FILE_SUFFIX;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.DOT;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.MODULE_INIT_CLASS_NAME;
@@ -52,6 +54,12 @@ import static io.ballerina.runtime.api.constants.RuntimeConstants.MODULE_INIT_CL
  * Represent an error in ballerina.
  * </p>
  * <p>
+ * By default, the stack trace is captured when an error is created. If the BALLERINA_ERROR_STACK_TRACE system
+ * variable is set to {@code none}, the stack trace is not captured. This avoids walking the stack for the errors used
+ * as ordinary return values, at the cost of reporting errors without their stack traces: {@code error:stackTrace()}
+ * returns an empty call stack, and a panic or an unhandled error is printed with its message, cause and details only.
+ * </p>
+ * <p>
  * <i>Note: This is an internal API and may change in future versions.</i>
  * </p>
  * 
@@ -72,6 +80,11 @@ public class ErrorValue extends BError implements RefValue {
     private static final String INIT_FUNCTION_SUFFIX = "..<init>";
     private static final String START_FUNCTION_SUFFIX = ".<start>";
     private static final String STOP_FUNCTION_SUFFIX = ".<stop>";
+    private static final String FULL_STACK_TRACE = "full";
+    private static final String NO_STACK_TRACE = "none";
+
+    private static final boolean STACK_TRACE_ENABLED =
+            isStackTraceEnabled(System.getenv(BALLERINA_ERROR_STACK_TRACE_ENV_VAR));
 
     public ErrorValue(BString message, Object details) {
         this(new BErrorType(TypeConstants.ERROR, PredefinedTypes.TYPE_ERROR.getPackage(), TypeChecker.getType(details)),
@@ -261,6 +274,20 @@ public class ErrorValue extends BError implements RefValue {
         printWriter.print(ERROR_PRINT_PREFIX + getPrintableStackTrace());
     }
     
+    /**
+     * Captures the stack trace of the error, unless it is disabled. This is called by the constructor of
+     * {@link Throwable}, before the fields of this class are initialized.
+     *
+     * @return this error
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (STACK_TRACE_ENABLED) {
+            return super.fillInStackTrace();
+        }
+        return this;
+    }
+
     @Override
     public StackTraceElement[] getStackTrace() {
         StackTraceElement[] stackTrace = super.getStackTrace();
@@ -396,4 +423,17 @@ public class ErrorValue extends BError implements RefValue {
     private String cleanupClassName(String className) {
         return className.replace(GENERATE_OBJECT_CLASS_PREFIX, ".");
     }
+
+    private static boolean isStackTraceEnabled(String mode) {
+        if (mode == null || FULL_STACK_TRACE.equalsIgnoreCase(mode)) {
+            return true;
+        }
+        if (NO_STACK_TRACE.equalsIgnoreCase(mode)) {
+            return false;
+        }
+        PrintStream err = System.err;
+        err.println("ballerina: invalid value '" + mode + "' for system variable:" +
+                            BALLERINA_ERROR_STACK_TRACE_ENV_VAR + ", capturing full stack traces");
+        return true;
+    }
 }
@@ -40,20 +40,19 @@ import io.ballerina.runtime.internal.types.BTableType;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.util.exceptions.BLangFreezeException;
 
+import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -64,6 +63,9 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
 
 /**
  * The runtime representation of table.
+ * <p>
+ * Each row is stored once, in a doubly linked list which keeps the insertion order. Rows of a table with a key are
+ * also chained in buckets by the hash of their key, and keys with the same hash are told apart by value equality.
  *
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
@@ -74,17 +76,16 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
+    // rows in the insertion order
+    private Row<K, V> head;
+    private Row<K, V> tail;
+    private int size;
+    // first row of each bucket of rows with the same key hash, only used by tables with a key
+    private final Map<Long, Row<K, V>> keyBuckets = new HashMap<>();
 
     private boolean nextKeySupported;
 
@@ -93,11 +94,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
             this.valueHolder = new KeyHashValueHolder();
@@ -125,7 +121,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public IteratorValue getIterator() {
-        return new TableIterator<K, V>();
+        return new TableIterator();
     }
 
     @Override
@@ -143,15 +139,12 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             clone.fieldNames = fieldNames;
         }
 
-        IteratorValue itr = getIterator();
-        while (itr.hasNext()) {
-            TupleValueImpl tupleValue = (TupleValueImpl) itr.next();
-            Object value = tupleValue.get(1);
+        for (Row<K, V> row = head; row != null; row = row.after) {
+            Object value = row.value;
             value = value instanceof RefValue ? ((RefValue) value).copy(refs) : value;
             clone.add((V) value);
         }
-
-       return clone;
+        return clone;
     }
 
     @Override
@@ -212,23 +205,55 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entries = new LinkedHashSet<>();
+        for (Row<K, V> row = head; row != null; row = row.after) {
+            entries.add(new AbstractMap.SimpleEntry<>(row.key, row.value));
+        }
+        return entries;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new Iterator<V>() {
+                    private Row<K, V> current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return nextRow(current) != null;
+                    }
+
+                    @Override
+                    public V next() {
+                        Row<K, V> next = nextRow(current);
+                        if (next == null) {
+                            throw new NoSuchElementException();
+                        }
+                        current = next;
+                        return next.value;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        for (Row<K, V> row = head; row != null; row = row.after) {
+            row.removed = true;
+        }
+        head = null;
+        tail = null;
+        size = 0;
+        keyBuckets.clear();
     }
 
     @Override
@@ -257,7 +282,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -285,17 +310,25 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (type.getFieldNames() == null) {
+            return (K[]) new Object[0];
+        }
+        Object[] keys = new Object[size];
+        int i = 0;
+        for (Row<K, V> row = head; row != null; row = row.after) {
+            keys[i++] = row.key;
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -320,8 +353,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(values().iterator(), parent);
     }
 
     @Override
@@ -331,21 +363,19 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(values().iterator(), parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getStringValue(struct.getValue(),
-                                              new CycleUtils.Node(this, parent)));
+            V struct = itr.next();
+            sj.add(StringUtils.getStringValue(struct, new CycleUtils.Node(this, parent)));
         }
         return "[" + sj.toString() + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -355,9 +385,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
         }
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getExpressionStringValue(struct.getValue(),
-                                                        new CycleUtils.Node(this, parent)));
+            V struct = itr.next();
+            sj.add(StringUtils.getExpressionStringValue(struct, new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner.toString() + ") [" + sj.toString() + "]";
     }
@@ -385,40 +414,117 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return iteratorNextReturnType;
     }
 
-    private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+    private Row<K, V> findRow(K key, long hash) {
+        for (Row<K, V> row = keyBuckets.get(hash); row != null; row = row.nextInBucket) {
+            if (TypeChecker.isEqual(row.key, key)) {
+                return row;
+            }
+        }
+        return null;
+    }
 
-        TableIterator() {
-            this.cursor = 0;
+    private V insertRow(K key, V value, long hash, boolean keyed) {
+        Row<K, V> row = new Row<>(key, value, hash);
+        row.before = tail;
+        if (tail == null) {
+            head = row;
+        } else {
+            tail.after = row;
         }
+        tail = row;
+        size++;
+
+        if (keyed) {
+            row.nextInBucket = keyBuckets.put(hash, row);
+            if (nextKeySupported) {
+                long intKey = TypeChecker.anyToInt(key);
+                if (size == 1 || maxIntKey < intKey) {
+                    maxIntKey = intKey;
+                }
+            }
+        }
+        return null;
+    }
+
+    private V replaceValue(Row<K, V> row, V value) {
+        V oldValue = row.value;
+        row.value = value;
+        return oldValue;
+    }
+
+    private void removeRow(Row<K, V> row) {
+        // the links of the removed row are kept as they are, so that iterators positioned at it can continue
+        row.removed = true;
+        if (row.before == null) {
+            head = row.after;
+        } else {
+            row.before.after = row.after;
+        }
+        if (row.after == null) {
+            tail = row.before;
+        } else {
+            row.after.before = row.before;
+        }
+        size--;
+
+        Row<K, V> bucketHead = keyBuckets.get(row.hash);
+        if (bucketHead == row) {
+            if (row.nextInBucket == null) {
+                keyBuckets.remove(row.hash);
+            } else {
+                keyBuckets.put(row.hash, row.nextInBucket);
+            }
+        } else if (bucketHead != null) {
+            Row<K, V> previous = bucketHead;
+            while (previous.nextInBucket != null && previous.nextInBucket != row) {
+                previous = previous.nextInBucket;
+            }
+            previous.nextInBucket = row.nextInBucket;
+        }
+    }
+
+    /**
+     * Returns the row which follows the given row in the insertion order, skipping the rows removed since.
+     *
+     * @param row row returned last by an iterator, or null if the iterator has not returned a row yet
+     * @return the next row, or null if there are no more rows
+     */
+    private Row<K, V> nextRow(Row<K, V> row) {
+        Row<K, V> next = row == null ? head : row.after;
+        // rows removed after an iterator moved past them still point to the rows which followed them
+        while (next != null && next.removed) {
+            next = next.after;
+        }
+        return next;
+    }
+
+    private class TableIterator implements IteratorValue {
+        private Row<K, V> current;
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            Row<K, V> next = nextRow(current);
+            if (next == null) {
+                throw new NoSuchElementException();
             }
+            current = next;
+
+            K key = next.key;
+            V value = next.value;
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            return nextRow(current) != null;
         }
     }
 
@@ -440,11 +546,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            // a row of a table without a key is its own key
+            return insertRow((K) data, data, 0, false);
         }
 
         public V remove(K key) {
@@ -480,68 +583,56 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
 
-            if (containsKey((K) key)) {
+            long hash = TableUtils.hash(key, null);
+            if (findRow(key, hash) != null) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                                                StringUtils.fromString("A value " + "found for key '" + key + "'"));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
-                maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
-            }
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            insertRow(key, data, hash, true);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            Row<K, V> row = findRow(key, TableUtils.hash(key, null));
+            return row == null ? null : row.value;
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
-
-            if (!hash.equals(actualHash)) {
+            if (!TypeChecker.isEqual(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR, StringUtils.fromString("The key '" +
                         key + "' not found in value " + data.toString()));
             }
 
-            return putData(key, data, entry, hash);
+            return putData(key, data, TableUtils.hash(key, null));
         }
 
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+        private V putData(K key, V data, long hash) {
+            Row<K, V> row = findRow(key, hash);
+            if (row != null) {
+                return replaceValue(row, data);
+            }
+            return insertRow(key, data, hash, true);
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            return putData(key, data, TableUtils.hash(key, null));
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
+            Row<K, V> row = findRow(key, TableUtils.hash(key, null));
+            if (row == null) {
+                return null;
             }
-            return values.remove(hash);
+            removeRow(row);
+            return row.value;
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return findRow(key, TableUtils.hash(key, null)) != null;
         }
 
         public Type getKeyType() {
@@ -592,15 +683,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
-        }
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
@@ -627,7 +709,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             return false;
         }
 
-        if (this.entrySet().size() != tableValue.entrySet().size()) {
+        if (this.size() != tableValue.size()) {
             return false;
         }
 
@@ -673,4 +755,26 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public BArray getArrayValue(BString key) {
         return (BArray) get(key);
     }
+
+    /**
+     * A row of the table.
+     *
+     * @param <K> type of the key
+     * @param <V> type of the value
+     */
+    private static class Row<K, V> {
+        final K key;
+        final long hash;
+        V value;
+        Row<K, V> before;
+        Row<K, V> after;
+        Row<K, V> nextInBucket;
+        boolean removed;
+
+        Row(K key, V value, long hash) {
+            this.key = key;
+            this.value = value;
+            this.hash = hash;
+        }
+    }
 }
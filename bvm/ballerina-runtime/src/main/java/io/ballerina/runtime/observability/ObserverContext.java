@@ -19,6 +19,8 @@ package io.ballerina.runtime.observability;
 
 import io.ballerina.runtime.observability.metrics.Tag;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -92,6 +94,16 @@ public class ObserverContext {
         return new HashSet<>(tags.values());
     }
 
+    /**
+     * Returns the tags of this context without copying them. Unlike {@link #getAllTags()}, the returned collection
+     * reflects the tags added to the context later.
+     *
+     * @return an unmodifiable view of the tags
+     */
+    public Collection<Tag> getTagsView() {
+        return Collections.unmodifiableCollection(tags.values());
+    }
+
     public String getEntrypointFunctionModule() {
         return entrypointFunctionModule;
     }
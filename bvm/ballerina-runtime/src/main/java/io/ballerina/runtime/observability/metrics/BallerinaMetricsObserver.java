@@ -22,9 +22,11 @@ import io.ballerina.runtime.observability.ObserverContext;
 
 import java.io.PrintStream;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.STATUS_CODE_GROUP_SUFFIX;
@@ -32,16 +34,20 @@ import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_
 
 /**
  * Observe the runtime and collect measurements.
+ * <p>
+ * The metrics of the requests are resolved from the registry once for each set of tags, and kept in this observer.
+ * So a request with a set of tags which has been seen before does not copy its tags, allocate metric IDs or look up
+ * the registry for each metric. The metrics of at most {@value #MAX_CACHED_TAG_SETS} sets of tags are kept, so that
+ * tags with many distinct values do not grow the cache without bound.
  */
 public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private static final String PROPERTY_START_TIME = "_observation_start_time_";
     private static final String PROPERTY_IN_PROGRESS_COUNTER = "_observation_in_progress_counter_";
+    private static final int MAX_CACHED_TAG_SETS = 1000;
 
     private static final PrintStream consoleError = System.err;
 
-    private static final MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
-
     private static final StatisticConfig[] responseTimeStatisticConfigs = new StatisticConfig[]{
             StatisticConfig.builder()
                     .expiry(Duration.ofMinutes(1))
@@ -57,6 +63,27 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    // Tags of the HTTP status code groups 1xx to 5xx, indexed by the first digit of the status code
+    private static final Tag[] statusCodeGroupTags = new Tag[6];
+
+    static {
+        for (int i = 1; i < statusCodeGroupTags.length; i++) {
+            statusCodeGroupTags[i] = Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, i + STATUS_CODE_GROUP_SUFFIX);
+        }
+    }
+
+    private final MetricRegistry metricRegistry;
+    private final Map<TagSetKey, InProgressRequests> inProgressRequests = new ConcurrentHashMap<>();
+    private final Map<TagSetKey, ResponseMetrics> responseMetrics = new ConcurrentHashMap<>();
+
+    public BallerinaMetricsObserver() {
+        this(DefaultMetricRegistry.getInstance());
+    }
+
+    public BallerinaMetricsObserver(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
         startObservation(observerContext);
@@ -87,10 +114,19 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private void startObservation(ObserverContext observerContext) {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        Set<Tag> tags = observerContext.getAllTags();
+        Collection<Tag> tags = observerContext.getTagsView();
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            TagSetKey key = new TagSetKey(tags, null, null);
+            InProgressRequests metrics = inProgressRequests.get(key);
+            if (metrics == null || metrics.removalCount != metricRegistry.getRemovalCount()) {
+                if (metrics != null) {
+                    // Metrics were removed from the registry, so the other cached metrics may be stale as well
+                    inProgressRequests.clear();
+                }
+                metrics = new InProgressRequests(metricRegistry, key.toSet());
+                cache(inProgressRequests, metrics.tags, metrics);
+            }
+            Gauge inProgressGauge = metrics.inProgressGauge;
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
@@ -104,37 +140,187 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> tags = new HashSet<>();
         Map<String, Tag> customTags = observerContext.customMetricTags;
-        if (customTags != null) {
-            tags.addAll(customTags.values());
-        }
-        tags.addAll(observerContext.getAllTags());
 
         // Add status_code_group tag
+        Tag statusCodeGroupTag = null;
         Integer statusCode = (Integer) observerContext.getProperty(PROPERTY_KEY_HTTP_STATUS_CODE);
         if (statusCode != null && statusCode > 0) {
-            tags.add(Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, (statusCode / 100) + STATUS_CODE_GROUP_SUFFIX));
+            int statusCodeGroup = statusCode / 100;
+            statusCodeGroupTag = statusCodeGroup < statusCodeGroupTags.length ? statusCodeGroupTags[statusCodeGroup] :
+                    Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, statusCodeGroup + STATUS_CODE_GROUP_SUFFIX);
         }
+        TagSetKey key = new TagSetKey(observerContext.getTagsView(), customTags != null ? customTags.values() : null,
+                                      statusCodeGroupTag);
 
         try {
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
             ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+            ResponseMetrics metrics = responseMetrics.get(key);
+            if (metrics == null || metrics.removalCount != metricRegistry.getRemovalCount()) {
+                if (metrics != null) {
+                    // Metrics were removed from the registry, so the other cached metrics may be stale as well
+                    responseMetrics.clear();
+                }
+                metrics = new ResponseMetrics(metricRegistry, key.toSet());
+                cache(responseMetrics, metrics.tags, metrics);
+            }
+            metrics.responseTimeGauge.setValue(duration / 1E9);
+            metrics.responseTimeTotalCounter.increment(duration);
+            metrics.requestsTotalCounter.increment();
         } catch (RuntimeException e) {
-            handleError("multiple metrics", tags, e);
+            handleError("multiple metrics", key.toSet(), e);
         }
     }
 
-    private void handleError(String metricName, Set<Tag> tags, RuntimeException e) {
+    private static <M> void cache(Map<TagSetKey, M> cache, Set<Tag> tags, M metrics) {
+        TagSetKey key = new TagSetKey(tags);
+        if (cache.size() < MAX_CACHED_TAG_SETS) {
+            cache.put(key, metrics);
+        } else {
+            // The metrics of new sets of tags are looked up in the registry for each request
+            cache.replace(key, metrics);
+        }
+    }
+
+    private void handleError(String metricName, Collection<Tag> tags, RuntimeException e) {
         // Metric Provider may throw exceptions if there is a mismatch in tags.
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    /**
+     * Key of the metrics of a set of tags. The keys of the cached metrics hold a copy of the tags, while the keys
+     * used to look up the metrics refer to the tags of the observer context, which are not copied.
+     */
+    private static class TagSetKey {
+
+        // Copy of the tags, which is null for the keys used to look up the metrics
+        private final Set<Tag> tagSet;
+        private final Collection<Tag> tags;
+        private final Collection<Tag> moreTags;
+        private final Tag tag;
+        private final int size;
+        private final int hashCode;
+
+        TagSetKey(Collection<Tag> tags, Collection<Tag> moreTags, Tag tag) {
+            this.tagSet = null;
+            this.tags = tags;
+            this.moreTags = moreTags;
+            this.tag = tag;
+            // Same as the size and the hash code of the set of the tags, which has no duplicates. The tags of each
+            // collection have distinct keys, so only the tags which are in more than one source are duplicates.
+            int size = tags.size();
+            int hashCode = 0;
+            for (Tag t : tags) {
+                hashCode += t.hashCode();
+            }
+            if (moreTags != null) {
+                for (Tag t : moreTags) {
+                    if (!tags.contains(t)) {
+                        size++;
+                        hashCode += t.hashCode();
+                    }
+                }
+            }
+            if (tag != null && !tags.contains(tag) && (moreTags == null || !moreTags.contains(tag))) {
+                size++;
+                hashCode += tag.hashCode();
+            }
+            this.size = size;
+            this.hashCode = hashCode;
+        }
+
+        TagSetKey(Set<Tag> tagSet) {
+            this.tagSet = tagSet;
+            this.tags = tagSet;
+            this.moreTags = null;
+            this.tag = null;
+            this.size = tagSet.size();
+            this.hashCode = tagSet.hashCode();
+        }
+
+        Set<Tag> toSet() {
+            if (tagSet != null) {
+                return tagSet;
+            }
+            Set<Tag> set = new HashSet<>(tags);
+            if (moreTags != null) {
+                set.addAll(moreTags);
+            }
+            if (tag != null) {
+                set.add(tag);
+            }
+            return set;
+        }
+
+        private boolean isContainedIn(Set<Tag> set) {
+            return set.containsAll(tags) && (moreTags == null || set.containsAll(moreTags)) &&
+                    (tag == null || set.contains(tag));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TagSetKey)) {
+                return false;
+            }
+            TagSetKey other = (TagSetKey) o;
+            if (size != other.size || hashCode != other.hashCode) {
+                return false;
+            }
+            // A key with the same number of tags, which contains all the tags of this key, has the same tags
+            return other.tagSet != null ? isContainedIn(other.tagSet) : other.isContainedIn(toSet());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Metrics of the in-progress requests with a set of tags.
+     */
+    private static class InProgressRequests {
+
+        private final Set<Tag> tags;
+        private final Gauge inProgressGauge;
+        // Removal count of the registry when the metrics were resolved
+        private final int removalCount;
+
+        InProgressRequests(MetricRegistry metricRegistry, Set<Tag> tags) {
+            this.tags = tags;
+            this.removalCount = metricRegistry.getRemovalCount();
+            this.inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
+                    tags));
+        }
+    }
+
+    /**
+     * Metrics of the completed requests with a set of tags.
+     */
+    private static class ResponseMetrics {
+
+        private final Set<Tag> tags;
+        private final Gauge responseTimeGauge;
+        private final Counter responseTimeTotalCounter;
+        private final Counter requestsTotalCounter;
+        // Removal count of the registry when the metrics were resolved
+        private final int removalCount;
+
+        ResponseMetrics(MetricRegistry metricRegistry, Set<Tag> tags) {
+            this.tags = tags;
+            this.removalCount = metricRegistry.getRemovalCount();
+            this.responseTimeGauge = metricRegistry.gauge(new MetricId("response_time_seconds",
+                    "Response time", tags), responseTimeStatisticConfigs);
+            this.responseTimeTotalCounter = metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                    "Total response response time for all requests", tags));
+            this.requestsTotalCounter = metricRegistry.counter(new MetricId("requests_total",
+                    "Total number of requests", tags));
+        }
+    }
 }
@@ -22,7 +22,7 @@ import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.function.Supplier;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
@@ -35,6 +35,8 @@ public class MetricRegistry {
     private final MetricProvider metricProvider;
     // Metrics Map by ID
     private final ConcurrentMap<MetricId, Metric> metrics;
+    // Number of times metrics were removed
+    private final AtomicInteger removalCount = new AtomicInteger();
 
     public MetricRegistry(MetricProvider metricProvider) {
         this.metricProvider = metricProvider;
@@ -48,7 +50,12 @@ public class MetricRegistry {
      * @return A existing or a new {@link Counter} metric.
      */
     public Counter counter(MetricId id) {
-        return getOrCreate(id, Counter.class, () -> metricProvider.newCounter(id));
+        // The metric is read before creating it, so that no objects are allocated when it exists
+        Counter counter = readMetric(id, Counter.class);
+        if (counter != null) {
+            return counter;
+        }
+        return writeMetricIfNotExists(metricProvider.newCounter(id), Counter.class);
     }
 
     /**
@@ -78,7 +85,11 @@ public class MetricRegistry {
      * @return A existing or a new {@link Gauge} metric.
      */
     public Gauge gauge(MetricId id, StatisticConfig... statisticConfigs) {
-        return getOrCreate(id, Gauge.class, () -> metricProvider.newGauge(id, statisticConfigs));
+        Gauge gauge = readMetric(id, Gauge.class);
+        if (gauge != null) {
+            return gauge;
+        }
+        return writeMetricIfNotExists(metricProvider.newGauge(id, statisticConfigs), Gauge.class);
     }
 
     /**
@@ -110,7 +121,11 @@ public class MetricRegistry {
      * @return A existing or a new {@link PolledGauge} metric.
      */
     public <T> PolledGauge polledGauge(MetricId id, T obj, ToDoubleFunction<T> valueFunction) {
-        return getOrCreate(id, PolledGauge.class, () -> metricProvider.newPolledGauge(id, obj, valueFunction));
+        PolledGauge gauge = readMetric(id, PolledGauge.class);
+        if (gauge != null) {
+            return gauge;
+        }
+        return writeMetricIfNotExists(metricProvider.newPolledGauge(id, obj, valueFunction), PolledGauge.class);
     }
 
     /**
@@ -132,16 +147,6 @@ public class MetricRegistry {
         unregister(gauge, PolledGauge.class);
     }
 
-    private <M extends Metric> M getOrCreate(MetricId id, Class<M> metricClass, Supplier<M> metricSupplier) {
-        M metric = readMetric(id, metricClass);
-        if (metric == null) {
-            M newMetric = metricSupplier.get();
-            return writeMetricIfNotExists(newMetric, metricClass);
-        } else {
-            return metric;
-        }
-    }
-
     private <M extends Metric> M readMetric(MetricId metricId, Class<M> metricClass) {
         Metric existingMetrics = lookup(metricId);
         if (existingMetrics != null) {
@@ -181,6 +186,7 @@ public class MetricRegistry {
         Metric metric = readMetric(registerMetric.getId(), metricClass);
         if (metric != null) {
             metrics.remove(registerMetric.getId());
+            removalCount.incrementAndGet();
         }
     }
 
@@ -193,6 +199,17 @@ public class MetricRegistry {
         List<MetricId> ids = metrics.keySet().stream()
                 .filter(id -> id.getName().equals(name)).collect(Collectors.toList());
         ids.forEach(metrics::remove);
+        removalCount.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of times metrics were removed from the registry. The metrics which are kept outside the
+     * registry should be looked up again when this changes, as they may no longer be registered.
+     *
+     * @return the number of removals
+     */
+    public int getRemovalCount() {
+        return removalCount.get();
     }
 
     public MetricProvider getMetricProvider() {
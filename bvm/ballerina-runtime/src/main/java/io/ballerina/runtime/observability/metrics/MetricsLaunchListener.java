@@ -25,11 +25,13 @@ import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
 import io.ballerina.runtime.observability.metrics.spi.MetricReporter;
 import io.ballerina.runtime.observability.tracer.InvalidConfigurationException;
 import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.logging.BLogManager;
 
 import java.io.PrintStream;
 import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
 import java.util.ServiceLoader;
+import java.util.logging.LogManager;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_METRICS_ENABLED;
 import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_OBSERVABILITY_PROVIDER;
@@ -110,6 +112,12 @@ public class MetricsLaunchListener implements LaunchListener {
     }
 
     private void registerBallerinaMetrics() {
+        LogManager logManager = LogManager.getLogManager();
+        if (logManager instanceof BLogManager) {
+            PolledGauge.builder("ballerina_log_dropped_records_total", (BLogManager) logManager,
+                    BLogManager::getDroppedLogRecordCount)
+                    .description("Number of log records dropped since the async log buffer was full").register();
+        }
 //        final BLangScheduler.SchedulerStats schedulerStats = BLangScheduler.getStats();
 //        final String prefix = "ballerina_scheduler_";
 //        PolledGauge.builder(prefix + "ready_worker_count", schedulerStats,
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Test cases for executing blocking interop calls with {@link AsyncUtils#executeBlocking}.
+ */
+public class BlockingCallTest {
+
+    private final ExecutorService threadPool = BlockingCallExecutor.createExecutor("thread-pool");
+    private final ExecutorService virtualThreads = BlockingCallExecutor.createExecutor("virtual-thread");
+
+    @AfterClass
+    public void tearDown() {
+        threadPool.shutdown();
+        virtualThreads.shutdown();
+    }
+
+    @DataProvider(name = "executors")
+    public Object[][] executors() {
+        return new Object[][]{{threadPool}, {virtualThreads}};
+    }
+
+    @Test
+    public void testInlineMode() {
+        Assert.assertNull(BlockingCallExecutor.createExecutor(null));
+        Assert.assertNull(BlockingCallExecutor.createExecutor("inline"));
+
+        AtomicReference<Thread> taskThread = new AtomicReference<>();
+        AtomicReference<Thread> strandThread = new AtomicReference<>();
+        AtomicBoolean blocked = new AtomicBoolean();
+        FutureValue future = run(strand -> {
+            strandThread.set(Thread.currentThread());
+            return AsyncUtils.executeBlocking(strand, () -> {
+                taskThread.set(Thread.currentThread());
+                blocked.set(strand.isBlockedOnExtern());
+                return 42L;
+            }, null);
+        });
+
+        // The task runs on the strand worker thread, and its result is returned directly.
+        Assert.assertEquals(future.result, 42L);
+        Assert.assertNull(future.panic);
+        Assert.assertSame(taskThread.get(), strandThread.get());
+        Assert.assertFalse(blocked.get());
+    }
+
+    @Test(dataProvider = "executors")
+    public void testStrandResumesWithResult(ExecutorService executor) {
+        AtomicReference<Thread> taskThread = new AtomicReference<>();
+        AtomicReference<Thread> strandThread = new AtomicReference<>();
+        AtomicBoolean blocked = new AtomicBoolean();
+        FutureValue future = run(strand -> {
+            strandThread.set(Thread.currentThread());
+            return AsyncUtils.executeBlocking(strand, () -> {
+                taskThread.set(Thread.currentThread());
+                blocked.set(strand.isBlockedOnExtern());
+                return StringUtils.fromString("done");
+            }, executor);
+        });
+
+        Assert.assertEquals(future.result, StringUtils.fromString("done"));
+        Assert.assertNull(future.panic);
+        Assert.assertNotSame(taskThread.get(), strandThread.get());
+        Assert.assertTrue(blocked.get());
+    }
+
+    @Test(dataProvider = "executors")
+    public void testWorkerThreadIsReleased(ExecutorService executor) {
+        // With a single worker thread, the other strand can only run while the blocking task waits for it.
+        Scheduler scheduler = new Scheduler(1, false);
+        CountDownLatch latch = new CountDownLatch(1);
+        Function<Object[], Object> blockingStrand = resumable(strand -> AsyncUtils.executeBlocking(strand, () -> {
+            try {
+                return latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }, executor));
+        Function<Object[], Object> releasingStrand = params -> {
+            latch.countDown();
+            return null;
+        };
+        FutureValue future = scheduler.schedule(new Object[1], blockingStrand, null, null, "blocking", null);
+        scheduler.schedule(new Object[1], releasingStrand, null, null, "releasing", null);
+        scheduler.start();
+
+        Assert.assertEquals(future.result, true);
+    }
+
+    @Test(dataProvider = "executors")
+    public void testTaskReturnsError(ExecutorService executor) {
+        BError error = ErrorCreator.createError(StringUtils.fromString("returned error"));
+        FutureValue future = run(strand -> AsyncUtils.executeBlocking(strand, () -> error, executor));
+
+        Assert.assertSame(future.result, error);
+        Assert.assertNull(future.panic);
+    }
+
+    @Test(dataProvider = "executors")
+    public void testTaskThrowsError(ExecutorService executor) {
+        BError error = ErrorCreator.createError(StringUtils.fromString("thrown error"));
+        FutureValue future = run(strand -> AsyncUtils.executeBlocking(strand, () -> {
+            throw error;
+        }, executor));
+
+        Assert.assertSame(future.panic, error);
+    }
+
+    @Test(dataProvider = "executors")
+    public void testTaskThrowsException(ExecutorService executor) {
+        FutureValue future = run(strand -> AsyncUtils.executeBlocking(strand, () -> {
+            throw new IllegalStateException("connection closed");
+        }, executor));
+
+        Assert.assertTrue(future.panic instanceof BError);
+        Assert.assertTrue(future.panic.getMessage().contains("connection closed"), future.panic.getMessage());
+    }
+
+    @Test
+    public void testInlineTaskThrowsError() {
+        BError error = ErrorCreator.createError(StringUtils.fromString("thrown error"));
+        Supplier<Object> task = () -> {
+            throw error;
+        };
+        FutureValue future = run(strand -> AsyncUtils.executeBlocking(strand, task, null));
+
+        Assert.assertSame(future.panic, error);
+    }
+
+    private static FutureValue run(Function<Strand, Object> call) {
+        Scheduler scheduler = new Scheduler(2, false);
+        FutureValue future = scheduler.schedule(new Object[1], resumable(call), null, null, "caller", null);
+        // returns once the strand is completed
+        scheduler.start();
+        return future;
+    }
+
+    /**
+     * Returns a strand function which makes the given call, and which returns the result of the call when the strand
+     * is resumed after being blocked by the call, as generated code for an interop call does.
+     */
+    private static Function<Object[], Object> resumable(Function<Strand, Object> call) {
+        return params -> {
+            Strand strand = (Strand) params[0];
+            if (!strand.isBlockedOnExtern()) {
+                return call.apply(strand);
+            }
+            strand.blockedOnExtern = false;
+            if (strand.panic != null) {
+                BError panic = strand.panic;
+                strand.panic = null;
+                throw panic;
+            }
+            return strand.returnValue;
+        };
+    }
+}
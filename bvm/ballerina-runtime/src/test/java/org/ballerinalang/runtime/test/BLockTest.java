@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.BLockStore;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link BLock} and {@link BLockStore}.
+ */
+public class BLockTest {
+
+    private final Scheduler scheduler = new Scheduler(1, false);
+
+    @Test
+    public void testSharedLockBlocksWriter() {
+        BLock lock = new BLock();
+        Strand reader1 = newStrand();
+        Strand reader2 = newStrand();
+        Strand writer = newStrand();
+
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertTrue(lock.lockShared(reader2));
+        Assert.assertFalse(lock.lock(writer));
+        Assert.assertEquals(writer.getState(), State.BLOCK_AND_YIELD);
+
+        lock.unlockShared(reader1);
+        Assert.assertEquals(writer.getState(), State.BLOCK_AND_YIELD);
+        lock.unlockShared(reader2);
+        // the writer is resumed to retry acquiring the lock
+        Assert.assertEquals(writer.getState(), State.YIELD);
+        Assert.assertTrue(lock.lock(writer));
+        Assert.assertTrue(reader1.getAcquiredLocks().isEmpty());
+        Assert.assertEquals(writer.getAcquiredLocks().size(), 1);
+    }
+
+    @Test
+    public void testReaderWaitsBehindWaitingWriter() {
+        BLock lock = new BLock();
+        Strand reader1 = newStrand();
+        Strand reader2 = newStrand();
+        Strand writer = newStrand();
+
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertFalse(lock.lock(writer));
+        Assert.assertFalse(lock.lockShared(reader2));
+        // nested acquisitions by a strand already holding the lock do not wait
+        Assert.assertTrue(lock.lockShared(reader1));
+    }
+
+    @Test
+    public void testPanicIfInLock() {
+        BLockStore store = new BLockStore();
+        Strand strand = newStrand();
+        store.panicIfInLock("$global$lock", strand);
+
+        BLock lock = store.getLockFromMap("$global$lock0");
+        Assert.assertTrue(lock.lock(strand));
+        // locks from other stores are not considered
+        new BLockStore().panicIfInLock("$global$lock", strand);
+        Assert.assertThrows(BError.class, () -> store.panicIfInLock("$global$lock", strand));
+
+        lock.unlock();
+        store.panicIfInLock("$global$lock", strand);
+    }
+
+    private Strand newStrand() {
+        Function<Object[], Object> function = params -> null;
+        return scheduler.schedule(new Object[1], function, null, null, "test", null).strand;
+    }
+}
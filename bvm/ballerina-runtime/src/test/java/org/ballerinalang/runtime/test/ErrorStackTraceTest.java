@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_ERROR_STACK_TRACE_ENV_VAR;
+
+/**
+ * Test cases for the stack trace capture modes of error values. The mode is read from the environment when the
+ * runtime is loaded, so each mode is tested in a separate JVM.
+ */
+public class ErrorStackTraceTest {
+
+    private static final String CHECKS_PASSED = "error checks passed";
+
+    @Test
+    public void testNoStackTrace() throws IOException, InterruptedException {
+        String output = runErrorChecks("none", false);
+        Assert.assertTrue(output.endsWith(CHECKS_PASSED), output);
+        Assert.assertFalse(output.contains("invalid value"), output);
+    }
+
+    @Test
+    public void testFullStackTrace() throws IOException, InterruptedException {
+        String output = runErrorChecks("full", true);
+        Assert.assertTrue(output.endsWith(CHECKS_PASSED), output);
+        Assert.assertFalse(output.contains("invalid value"), output);
+    }
+
+    @Test
+    public void testInvalidMode() throws IOException, InterruptedException {
+        String output = runErrorChecks("partial", true);
+        Assert.assertTrue(output.endsWith(CHECKS_PASSED), output);
+        Assert.assertTrue(output.contains("ballerina: invalid value 'partial' for system variable:" +
+                                                  BALLERINA_ERROR_STACK_TRACE_ENV_VAR), output);
+    }
+
+    private static String runErrorChecks(String mode, boolean stackTraceCaptured)
+            throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        ProcessBuilder processBuilder = new ProcessBuilder(Arrays.asList(
+                java, "-ea", "-cp", System.getProperty("java.class.path"), ErrorChecks.class.getName(),
+                String.valueOf(stackTraceCaptured)));
+        processBuilder.environment().put(BALLERINA_ERROR_STACK_TRACE_ENV_VAR, mode);
+        processBuilder.redirectErrorStream(true);
+        Process process = processBuilder.start();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (InputStream inputStream = process.getInputStream()) {
+            inputStream.transferTo(output);
+        }
+        Assert.assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+        String result = output.toString(StandardCharsets.UTF_8).trim();
+        Assert.assertEquals(process.exitValue(), 0, result);
+        return result;
+    }
+
+    /**
+     * Checks that error values behave the same, regardless of whether their stack traces are captured.
+     */
+    public static class ErrorChecks {
+
+        public static void main(String[] args) throws Throwable {
+            boolean stackTraceCaptured = Boolean.parseBoolean(args[0]);
+            BMap<BString, Object> details = ValueCreator.createMapValue();
+            details.put(StringUtils.fromString("code"), 404L);
+            BError cause = ErrorCreator.createError(StringUtils.fromString("not found"));
+            BError error = ErrorCreator.createError(PredefinedTypes.TYPE_ERROR, StringUtils.fromString("failed"),
+                                                    cause, details);
+
+            Assert.assertEquals(error.getErrorMessage().getValue(), "failed");
+            Assert.assertEquals(error.getMessage(), "failed");
+            Assert.assertSame(error.getCause(), cause);
+            Assert.assertEquals(cause.getErrorMessage().getValue(), "not found");
+            Assert.assertEquals(((BMap<?, ?>) error.getDetails()).get(StringUtils.fromString("code")), 404L);
+            Assert.assertEquals(error.toString(), "error(\"failed\",error(\"not found\"),code=404)");
+
+            // The stack trace keeps only the Ballerina frames, and there are none here, so it is empty in every mode.
+            Assert.assertEquals(error.getStackTrace().length, 0);
+            Assert.assertEquals(error.getPrintableStackTrace(), "failed cause: not found {\"code\":404}");
+            StringWriter stringWriter = new StringWriter();
+            error.printStackTrace(new PrintWriter(stringWriter, true));
+            Assert.assertTrue(stringWriter.toString().endsWith(error.getPrintableStackTrace()),
+                              stringWriter.toString());
+
+            try {
+                throw error;
+            } catch (BError e) {
+                Assert.assertSame(e, error);
+                Assert.assertEquals(e.getStackTrace().length, 0);
+            }
+
+            // The stack trace printed to a print stream is not filtered, so it shows the captured Java frames
+            ByteArrayOutputStream capturedStackTrace = new ByteArrayOutputStream();
+            error.printStackTrace(new PrintStream(capturedStackTrace, true, StandardCharsets.UTF_8));
+            String capturedFrames = capturedStackTrace.toString(StandardCharsets.UTF_8);
+            String mainFrame = "at " + ErrorChecks.class.getName() + ".main(";
+            Assert.assertEquals(capturedFrames.contains(mainFrame), stackTraceCaptured, capturedFrames);
+            Assert.assertEquals(capturedFrames.contains("\tat "), stackTraceCaptured, capturedFrames);
+            System.out.println(CHECKS_PASSED);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Test cases for parsing the elements of a JSON array one at a time.
+ */
+public class JsonArrayElementsTest {
+
+    @Test
+    public void testParseArrayElements() {
+        String content = " [{\"a\": [1, {\"b\": null}], \"c\": \"d\"}, \"x\", 1, 2.50, -0, true, null, [], {}, [[3]]] ";
+        BArray array = (BArray) JsonUtils.parse(content);
+        Iterator<Object> elements = parseArrayElements(content);
+        for (int i = 0; i < array.size(); i++) {
+            Assert.assertTrue(elements.hasNext());
+            Assert.assertEquals(StringUtils.getJsonString(elements.next()), StringUtils.getJsonString(array.get(i)));
+        }
+        Assert.assertFalse(elements.hasNext());
+        Assert.assertFalse(parseArrayElements("[]").hasNext());
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void testNextAfterLastElement() {
+        Iterator<Object> elements = parseArrayElements("[1]");
+        Assert.assertEquals(elements.next(), 1L);
+        elements.next();
+    }
+
+    @Test
+    public void testInvalidContent() {
+        assertError(parseArrayElements("{\"a\": 1}"), "expected [ at line: 1 column: 1");
+        assertError(parseArrayElements("\"a\""), "expected [ at line: 1 column: 1");
+        assertError(parseArrayElements("  "), "empty JSON document at line: 1 column: 3");
+
+        Iterator<Object> elements = parseArrayElements("[1, \"a\", }");
+        Assert.assertEquals(elements.next(), 1L);
+        Assert.assertEquals(((BString) elements.next()).getValue(), "a");
+        assertError(elements, null);
+
+        elements = parseArrayElements("[1] 2");
+        Assert.assertEquals(elements.next(), 1L);
+        assertError(elements, "JSON document has already ended at line: 1 column: 6");
+    }
+
+    @Test
+    public void testParseLargeArray() {
+        int elementCount = 100000;
+        Iterator<Object> elements = JsonUtils.parseArrayElements(
+                new ArrayReader(elementCount), JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        int count = 0;
+        while (elements.hasNext()) {
+            BMap<BString, Object> element = (BMap<BString, Object>) elements.next();
+            Assert.assertEquals(element.get(StringUtils.fromString("id")), (long) count);
+            count++;
+        }
+        Assert.assertEquals(count, elementCount);
+    }
+
+    private static Iterator<Object> parseArrayElements(String content) {
+        return JsonUtils.parseArrayElements(new StringReader(content),
+                                            JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    private static void assertError(Iterator<Object> elements, String message) {
+        try {
+            elements.hasNext();
+            Assert.fail("expected an error");
+        } catch (BError e) {
+            if (message != null) {
+                Assert.assertEquals(e.getMessage(), message);
+            }
+        }
+        Assert.assertFalse(elements.hasNext());
+    }
+
+    /**
+     * A reader of a JSON array of objects, which creates the content as it is read.
+     */
+    private static class ArrayReader extends Reader {
+
+        private final int elementCount;
+        private int elementIndex;
+        private String pending = "[";
+        private int pendingIndex;
+
+        ArrayReader(int elementCount) {
+            this.elementCount = elementCount;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (pendingIndex == pending.length()) {
+                if (elementIndex > elementCount) {
+                    return -1;
+                }
+                if (elementIndex == elementCount) {
+                    pending = "]";
+                } else {
+                    pending = (elementIndex == 0 ? "" : ",") + "{\"id\": " + elementIndex +
+                            ", \"name\": \"element\", \"values\": [1.5, 2.5]}";
+                }
+                elementIndex++;
+                pendingIndex = 0;
+            }
+            int count = Math.min(len, pending.length() - pendingIndex);
+            pending.getChars(pendingIndex, pendingIndex + count, cbuf, off);
+            pendingIndex += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
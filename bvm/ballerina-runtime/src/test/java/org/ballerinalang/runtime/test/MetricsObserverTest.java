@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_HTTP_STATUS_CODE_GROUP;
+
+/**
+ * Test cases for the metrics of the requests collected by {@link BallerinaMetricsObserver}.
+ */
+public class MetricsObserverTest {
+
+    private static final String REQUESTS_TOTAL = "requests_total";
+    private static final String IN_PROGRESS_REQUESTS = "inprogress_requests";
+
+    @Test
+    public void testMetricsOfTags() {
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(registry);
+        ObserverContext context = createContext("/orders", 200);
+        context.customMetricTags = new HashMap<>();
+        context.customMetricTags.put("tenant", Tag.of("tenant", "t1"));
+        observe(observer, context);
+
+        Assert.assertNotNull(lookup(registry, IN_PROGRESS_REQUESTS, Tag.of("resource", "/orders")));
+        Assert.assertNotNull(lookup(registry, REQUESTS_TOTAL, Tag.of("resource", "/orders"), Tag.of("tenant", "t1"),
+                                    Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, "2xx")));
+
+        // A request with the same tags uses the same metrics, while other tags have their own metrics
+        observe(observer, createContext("/orders", 404));
+        observe(observer, createContext("/orders", 201));
+        Assert.assertNotNull(lookup(registry, REQUESTS_TOTAL, Tag.of("resource", "/orders"),
+                                    Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, "4xx")));
+        Assert.assertNotNull(lookup(registry, REQUESTS_TOTAL, Tag.of("resource", "/orders"),
+                                    Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, "2xx")));
+        Assert.assertEquals(registry.getAllMetrics().length, 10);
+    }
+
+    @Test
+    public void testOverlappingTags() {
+        CountingMetricRegistry registry = new CountingMetricRegistry();
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(registry);
+        for (int i = 0; i < 3; i++) {
+            // The custom tags and the status code group tag are also tags of the context
+            ObserverContext context = createContext("/orders", 200);
+            context.addTag("tenant", "t1");
+            context.addTag(TAG_KEY_HTTP_STATUS_CODE_GROUP, "2xx");
+            context.customMetricTags = new HashMap<>();
+            context.customMetricTags.put("tenant", Tag.of("tenant", "t1"));
+            observe(observer, context);
+        }
+
+        // The metrics are resolved from the registry for the first request only
+        Assert.assertEquals(registry.counterLookups, 2);
+        Assert.assertNotNull(lookup(registry, REQUESTS_TOTAL, Tag.of("resource", "/orders"), Tag.of("tenant", "t1"),
+                                    Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, "2xx")));
+        Assert.assertEquals(registry.getAllMetrics().length, 4);
+    }
+
+    @Test
+    public void testRemovedMetrics() {
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(registry);
+        observe(observer, createContext("/orders", 200));
+        observe(observer, createContext("/customers", 200));
+        Tag[] ordersTags = {Tag.of("resource", "/orders"), Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, "2xx")};
+        Metric requestsTotal = lookup(registry, REQUESTS_TOTAL, ordersTags);
+        Metric inProgressRequests = lookup(registry, IN_PROGRESS_REQUESTS, Tag.of("resource", "/orders"));
+        Assert.assertNotNull(requestsTotal);
+        Assert.assertNotNull(inProgressRequests);
+
+        observe(observer, createContext("/orders", 200));
+        Assert.assertSame(lookup(registry, REQUESTS_TOTAL, ordersTags), requestsTotal);
+
+        // The cached metrics are registered again after they are removed from the registry
+        int removalCount = registry.getRemovalCount();
+        registry.remove(REQUESTS_TOTAL);
+        registry.remove(IN_PROGRESS_REQUESTS);
+        Assert.assertTrue(registry.getRemovalCount() > removalCount);
+        Assert.assertNull(lookup(registry, REQUESTS_TOTAL, ordersTags));
+
+        observe(observer, createContext("/orders", 200));
+        Metric newRequestsTotal = lookup(registry, REQUESTS_TOTAL, ordersTags);
+        Metric newInProgressRequests = lookup(registry, IN_PROGRESS_REQUESTS, Tag.of("resource", "/orders"));
+        Assert.assertNotNull(newRequestsTotal);
+        Assert.assertNotSame(newRequestsTotal, requestsTotal);
+        Assert.assertNotNull(newInProgressRequests);
+        Assert.assertNotSame(newInProgressRequests, inProgressRequests);
+
+        observe(observer, createContext("/customers", 200));
+        Assert.assertNotNull(lookup(registry, REQUESTS_TOTAL, Tag.of("resource", "/customers"),
+                                    Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, "2xx")));
+    }
+
+    @Test
+    public void testManyTagValues() {
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(registry);
+        int resourceCount = 1500;
+        for (int i = 0; i < resourceCount; i++) {
+            observe(observer, createContext("/orders/" + i, 200));
+        }
+        Assert.assertEquals(registry.getAllMetrics().length, resourceCount * 4);
+
+        // The metrics of the tags which are not cached are looked up again after they are removed
+        registry.remove(REQUESTS_TOTAL);
+        observe(observer, createContext("/orders/" + (resourceCount - 1), 200));
+        Assert.assertNotNull(lookup(registry, REQUESTS_TOTAL, Tag.of("resource", "/orders/" + (resourceCount - 1)),
+                                    Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, "2xx")));
+    }
+
+    private static ObserverContext createContext(String resource, int statusCode) {
+        ObserverContext context = new ObserverContext() {
+            @Override
+            public boolean isStarted() {
+                return true;
+            }
+        };
+        context.addTag("resource", resource);
+        context.addProperty(PROPERTY_KEY_HTTP_STATUS_CODE, statusCode);
+        return context;
+    }
+
+    private static void observe(BallerinaMetricsObserver observer, ObserverContext context) {
+        observer.startServerObservation(context);
+        observer.stopServerObservation(context);
+    }
+
+    private static Metric lookup(MetricRegistry registry, String name, Tag... tags) {
+        Set<Tag> tagSet = new HashSet<>();
+        for (Tag tag : tags) {
+            tagSet.add(tag);
+        }
+        return registry.lookup(new MetricId(name, null, tagSet));
+    }
+
+    /**
+     * Registry which counts the lookups of the counters.
+     */
+    private static class CountingMetricRegistry extends MetricRegistry {
+
+        private int counterLookups;
+
+        CountingMetricRegistry() {
+            super(new NoOpMetricProvider());
+        }
+
+        @Override
+        public Counter counter(MetricId id) {
+            counterLookups++;
+            return super.counter(id);
+        }
+    }
+}
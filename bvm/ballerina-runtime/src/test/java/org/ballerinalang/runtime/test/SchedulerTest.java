@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link Scheduler} run queue policies.
+ */
+public class SchedulerTest {
+
+    private static final int FAN_OUT = 10000;
+
+    @DataProvider(name = "schedulerPolicies")
+    public Object[][] schedulerPolicies() {
+        return new Object[][]{{false}, {true}};
+    }
+
+    @Test(dataProvider = "schedulerPolicies")
+    public void testFanOut(boolean workStealing) {
+        Scheduler scheduler = new Scheduler(4, false, workStealing);
+        AtomicInteger completed = new AtomicInteger();
+        Function<Object[], Object> child = params -> completed.incrementAndGet();
+        Function<Object[], Object> parent = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < FAN_OUT; i++) {
+                scheduler.schedule(new Object[1], child, strand, null, "child", null);
+            }
+            return null;
+        };
+        scheduler.schedule(new Object[1], parent, null, null, "parent", null);
+
+        // returns once all the scheduled strands are completed
+        scheduler.start();
+        Assert.assertEquals(completed.get(), FAN_OUT);
+    }
+}
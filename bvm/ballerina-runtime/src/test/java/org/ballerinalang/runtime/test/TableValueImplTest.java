@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.IteratorValue;
+import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import io.ballerina.runtime.internal.values.TupleValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for {@link TableValueImpl}.
+ */
+public class TableValueImplTest {
+
+    private static final Module MODULE = new Module("testorg", "tables", "1.0.0");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString CITY = StringUtils.fromString("city");
+    private static final BString NAME = StringUtils.fromString("name");
+
+    private final RecordType personType = createPersonType();
+
+    @Test
+    public void testKeysWithSameHash() {
+        TableValueImpl<Object, MapValue<BString, Object>> table = createTable();
+        // "Aa" and "BB" have the same hash code
+        table.add(createPerson("Aa", "Colombo", "Anne"));
+        table.add(createPerson("BB", "Kandy", "Bob"));
+
+        Assert.assertEquals(table.size(), 2);
+        Assert.assertEquals(table.get(StringUtils.fromString("Aa")).get(NAME).toString(), "Anne");
+        Assert.assertEquals(table.get(StringUtils.fromString("BB")).get(NAME).toString(), "Bob");
+
+        table.remove(StringUtils.fromString("Aa"));
+        Assert.assertFalse(table.containsKey(StringUtils.fromString("Aa")));
+        Assert.assertEquals(table.get(StringUtils.fromString("BB")).get(NAME).toString(), "Bob");
+        Assert.assertThrows(BError.class, () -> table.add(createPerson("BB", "Galle", "Ben")));
+    }
+
+    @Test
+    public void testInsertionOrder() {
+        TableValueImpl<Object, MapValue<BString, Object>> table = createTable();
+        table.add(createPerson("p1", "Colombo", "Anne"));
+        table.add(createPerson("p2", "Kandy", "Bob"));
+        table.add(createPerson("p3", "Galle", "Carl"));
+        // replacing a value keeps its position
+        table.put(createPerson("p1", "Colombo", "Alice"));
+        table.remove(StringUtils.fromString("p2"));
+        table.add(createPerson("p4", "Jaffna", "Dan"));
+
+        Assert.assertEquals(iterateNames(table), List.of("Alice", "Carl", "Dan"));
+        Assert.assertEquals(table.getKeys(), new Object[]{StringUtils.fromString("p1"), StringUtils.fromString("p3"),
+                StringUtils.fromString("p4")});
+    }
+
+    @Test
+    public void testRemoveWhileIterating() {
+        TableValueImpl<Object, MapValue<BString, Object>> table = createTable();
+        table.add(createPerson("p1", "Colombo", "Anne"));
+        table.add(createPerson("p2", "Kandy", "Bob"));
+        table.add(createPerson("p3", "Galle", "Carl"));
+
+        IteratorValue iterator = table.getIterator();
+        iterator.next();
+        table.remove(StringUtils.fromString("p1"));
+        table.remove(StringUtils.fromString("p2"));
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(((MapValue) ((TupleValueImpl) iterator.next()).get(1)).get(NAME).toString(), "Carl");
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testValuesAfterRemove() {
+        TableValueImpl<Object, MapValue<BString, Object>> table = createTable();
+        table.add(createPerson("p1", "Colombo", "Anne"));
+        table.add(createPerson("p2", "Kandy", "Bob"));
+        table.add(createPerson("p3", "Galle", "Carl"));
+        table.add(createPerson("p4", "Jaffna", "Dan"));
+        table.remove(StringUtils.fromString("p1"));
+
+        Iterator<MapValue<BString, Object>> iterator = table.values().iterator();
+        Assert.assertEquals(iterator.next().get(NAME).toString(), "Bob");
+        table.remove(StringUtils.fromString("p2"));
+        table.remove(StringUtils.fromString("p3"));
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(iterator.next().get(NAME).toString(), "Dan");
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals(table.values().size(), 1);
+        Assert.assertEquals(table.stringValue(null), "[{\"id\":\"p4\",\"city\":\"Jaffna\",\"name\":\"Dan\"}]");
+    }
+
+    private TableValueImpl<Object, MapValue<BString, Object>> createTable() {
+        TableType tableType = TypeCreator.createTableType(personType, new String[]{"id"}, false);
+        return new TableValueImpl<>(tableType);
+    }
+
+    private MapValue<BString, Object> createPerson(String id, String city, String name) {
+        MapValue<BString, Object> person = new MapValueImpl<>(personType);
+        person.put(ID, StringUtils.fromString(id));
+        person.put(CITY, StringUtils.fromString(city));
+        person.put(NAME, StringUtils.fromString(name));
+        return person;
+    }
+
+    private static RecordType createPersonType() {
+        long readonlyField = SymbolFlags.REQUIRED | SymbolFlags.READONLY;
+        Map<String, Field> fields = new HashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "id", readonlyField));
+        fields.put("city", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "city", SymbolFlags.REQUIRED));
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        return TypeCreator.createRecordType("Person", MODULE, 0, fields, null, true, 0);
+    }
+
+    private static List<String> iterateNames(TableValueImpl<Object, MapValue<BString, Object>> table) {
+        List<String> names = new ArrayList<>();
+        IteratorValue iterator = table.getIterator();
+        while (iterator.hasNext()) {
+            MapValue<?, ?> person = (MapValue<?, ?>) ((TupleValueImpl) iterator.next()).get(1);
+            names.add(person.get(NAME).toString());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link TypeCheckCache}.
+ */
+public class TypeCheckCacheTest {
+
+    private static final Module MODULE = new Module("testorg", "types", "1.0.0");
+
+    @Test
+    public void testStructuralCheckIsCached() {
+        RecordType person = createRecordType("Person", PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT);
+        RecordType named = createRecordType("Named", PredefinedTypes.TYPE_STRING, null);
+        Type union = TypeCreator.createUnionType(Arrays.asList(named, PredefinedTypes.TYPE_NULL));
+
+        long hits = TypeCheckCache.getHitCount();
+        long misses = TypeCheckCache.getMissCount();
+        Assert.assertTrue(TypeChecker.checkIsType(person, union));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), misses + 1);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits);
+
+        Assert.assertTrue(TypeChecker.checkIsType(person, union));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), misses + 1);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits + 1);
+    }
+
+    @Test
+    public void testCacheInvalidatedOnTypeChange() {
+        RecordType person = createRecordType("Person", PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT);
+        RecordType named = createRecordType("Named", PredefinedTypes.TYPE_STRING, null);
+        Assert.assertTrue(TypeChecker.checkIsType(person, named));
+
+        named.setFields(createFields(PredefinedTypes.TYPE_INT, null));
+        Assert.assertFalse(TypeChecker.checkIsType(person, named));
+    }
+
+    @Test
+    public void testValueCheckIsCached() {
+        RecordType person = createRecordType("Person", PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT);
+        RecordType named = createRecordType("Named", PredefinedTypes.TYPE_STRING, null);
+        Type union = TypeCreator.createUnionType(Arrays.asList(named, PredefinedTypes.TYPE_NULL));
+        BMap<BString, Object> value = createValue(person, StringUtils.fromString("Anne"));
+
+        long hits = TypeCheckCache.getHitCount();
+        long misses = TypeCheckCache.getMissCount();
+        Assert.assertTrue(TypeChecker.checkIsType(value, union));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), misses + 1);
+
+        // Other values of the same type use the cached result
+        Assert.assertTrue(TypeChecker.checkIsType(createValue(person, StringUtils.fromString("Bob")), union));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), misses + 1);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits + 1);
+    }
+
+    @Test
+    public void testValueDependentCheckIsNotCached() {
+        Map<String, Field> fields = new HashMap<>();
+        fields.put("name", TypeCreator.createField(
+                TypeCreator.createUnionType(Arrays.asList(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT)),
+                "name", SymbolFlags.REQUIRED | SymbolFlags.READONLY));
+        RecordType id = TypeCreator.createRecordType("Id", MODULE, 0, fields, PredefinedTypes.TYPE_ANYDATA, false,
+                                                     0);
+        RecordType numbered = createRecordType("Numbered", PredefinedTypes.TYPE_INT, null);
+
+        long hits = TypeCheckCache.getHitCount();
+        long misses = TypeCheckCache.getMissCount();
+        Assert.assertTrue(TypeChecker.checkIsType(createValue(id, 100L), numbered));
+        Assert.assertFalse(TypeChecker.checkIsType(createValue(id, StringUtils.fromString("100")), numbered));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), misses);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        RecordType named = createRecordType("Named", PredefinedTypes.TYPE_STRING, null);
+        int capacity = TypeCheckCache.getCapacity();
+        long evictions = TypeCheckCache.getEvictionCount();
+        RecordType person = null;
+        for (int i = 0; i <= capacity; i++) {
+            person = createRecordType("Person" + i, PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT);
+            Assert.assertTrue(TypeChecker.checkIsType(person, named));
+        }
+        Assert.assertTrue(TypeCheckCache.getSize() <= capacity);
+        Assert.assertTrue(TypeCheckCache.getEvictionCount() > evictions);
+
+        // Only some of the results are evicted, so most of the results, including the latest one, are still cached
+        Assert.assertTrue(TypeCheckCache.getSize() > capacity / 2);
+        long hits = TypeCheckCache.getHitCount();
+        Assert.assertTrue(TypeChecker.checkIsType(person, named));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits + 1);
+    }
+
+    private static BMap<BString, Object> createValue(RecordType recordType, Object name) {
+        BMap<BString, Object> value = ValueCreator.createMapValue(recordType);
+        value.put(StringUtils.fromString("name"), name);
+        return value;
+    }
+
+    private static RecordType createRecordType(String name, Type nameType, Type ageType) {
+        return TypeCreator.createRecordType(name, MODULE, 0, createFields(nameType, ageType),
+                                            PredefinedTypes.TYPE_ANYDATA, false, 0);
+    }
+
+    private static Map<String, Field> createFields(Type nameType, Type ageType) {
+        Map<String, Field> fields = new HashMap<>();
+        fields.put("name", TypeCreator.createField(nameType, "name", SymbolFlags.REQUIRED));
+        if (ageType != null) {
+            fields.put("age", TypeCreator.createField(ageType, "age", SymbolFlags.REQUIRED));
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypedJsonParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Test cases for {@link TypedJsonParser}.
+ */
+public class TypedJsonParserTest {
+
+    @Test
+    public void testParseArray() {
+        Type intArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        BArray array = (BArray) TypedJsonParser.parse(" [1, -2, 9223372036854775807]\n", intArray, null);
+        Assert.assertEquals(array.getType(), intArray);
+        Assert.assertEquals(array.size(), 3);
+        Assert.assertEquals(array.getInt(1), -2);
+        Assert.assertEquals(array.getInt(2), Long.MAX_VALUE);
+
+        Type floatArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_FLOAT);
+        array = (BArray) TypedJsonParser.parse("[1, -0, 2.5, 1.5e3]", floatArray, null);
+        Assert.assertEquals(array.getFloat(0), 1.0);
+        Assert.assertEquals(Double.doubleToRawLongBits(array.getFloat(1)), Double.doubleToRawLongBits(-0.0));
+        Assert.assertEquals(array.getFloat(2), 2.5);
+        Assert.assertEquals(array.getFloat(3), 1500.0);
+    }
+
+    @Test
+    public void testParseMap() {
+        Type decimalMap = TypeCreator.createMapType(PredefinedTypes.TYPE_DECIMAL);
+        BMap<BString, Object> map = (BMap<BString, Object>) TypedJsonParser.parse("{\"a\": 2.50, \"b\": 3}",
+                                                                                  decimalMap, null);
+        Assert.assertEquals(map.getType(), decimalMap);
+        Assert.assertEquals(((BDecimal) map.get(StringUtils.fromString("a"))).decimalValue(),
+                            new BigDecimal("2.50"));
+        Assert.assertEquals(((BDecimal) map.get(StringUtils.fromString("b"))).decimalValue().compareTo(
+                new BigDecimal("3")), 0);
+
+        Type optionalIntMap = TypeCreator.createMapType(
+                TypeCreator.createUnionType(Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_NULL)));
+        map = (BMap<BString, Object>) TypedJsonParser.parse("{\"a\": null, \"b\": 1}", optionalIntMap, null);
+        Assert.assertNull(map.get(StringUtils.fromString("a")));
+        Assert.assertEquals(map.get(StringUtils.fromString("b")), 1L);
+    }
+
+    @Test
+    public void testParseJson() {
+        Object json = TypedJsonParser.parse("{\"b\": [1, 2.0, \"x\", true, null], \"a\": {}}",
+                                            PredefinedTypes.TYPE_JSON, null);
+        BMap<BString, Object> map = (BMap<BString, Object>) json;
+        Assert.assertEquals(map.getType().getTag(), TypeCreator.createMapType(PredefinedTypes.TYPE_JSON).getTag());
+        Assert.assertEquals(map.getKeys()[0].getValue(), "b");
+        Assert.assertEquals(map.getKeys()[1].getValue(), "a");
+        Assert.assertEquals(StringUtils.getJsonString(json), "{\"b\":[1, 2.0, \"x\", true, null], \"a\":{}}");
+
+        Assert.assertEquals(TypedJsonParser.parse("12", PredefinedTypes.TYPE_JSON, null), 12L);
+        Assert.assertNull(TypedJsonParser.parse(" null ", PredefinedTypes.TYPE_JSON, null));
+    }
+
+    @Test
+    public void testParseString() {
+        String json = "[\"plain\", \"tab\\there \\\"quoted\\\" \\u00e9\", \"Jos\u00e9 \ud83d\ude00\", " +
+                "\"\\ud83d\\ude00\"]";
+        Type stringArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING);
+        BArray array = (BArray) TypedJsonParser.parse(json, stringArray, null);
+        Assert.assertEquals(array.getBString(0).getValue(), "plain");
+        Assert.assertEquals(array.getBString(1).getValue(), "tab\there \"quoted\" \u00e9");
+        Assert.assertEquals(array.getBString(2).getValue(), "Jos\u00e9 \ud83d\ude00");
+        Assert.assertEquals(array.getBString(3).getValue(), "\ud83d\ude00");
+
+        byte[] bytes = ("xx" + json + "yy").getBytes(StandardCharsets.UTF_8);
+        int length = json.getBytes(StandardCharsets.UTF_8).length;
+        array = (BArray) TypedJsonParser.parse(bytes, 2, length, stringArray, null);
+        Assert.assertEquals(array.getBString(2).getValue(), "Jos\u00e9 \ud83d\ude00");
+    }
+
+    @Test
+    public void testUnparsedContent() {
+        Type intArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        String[] contents = {"", "[1, 2", "[1, 2] x", "[01]", "[1e3]", "[1.0]", "[\"1\"]", "[9223372036854775808]",
+                "[1,]", "[null]", "{}"};
+        for (String content : contents) {
+            Assert.assertSame(TypedJsonParser.parse(content, intArray, null), TypedJsonParser.UNPARSED, content);
+        }
+
+        Type stringArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING);
+        Assert.assertSame(TypedJsonParser.parse("[\"a\\q\"]", stringArray, null), TypedJsonParser.UNPARSED);
+        byte[] invalidUtf8 = {'[', '"', (byte) 0xc0, (byte) 0xaf, '"', ']'};
+        Assert.assertSame(TypedJsonParser.parse(invalidUtf8, 0, invalidUtf8.length, stringArray, null),
+                          TypedJsonParser.UNPARSED);
+    }
+
+    @Test
+    public void testSupportedTypes() {
+        Assert.assertTrue(TypedJsonParser.isSupportedType(PredefinedTypes.TYPE_JSON));
+        Assert.assertTrue(TypedJsonParser.isSupportedType(
+                TypeCreator.createMapType(TypeCreator.createArrayType(PredefinedTypes.TYPE_DECIMAL))));
+        Assert.assertFalse(TypedJsonParser.isSupportedType(TypeCreator.createUnionType(
+                Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING))));
+        Assert.assertFalse(TypedJsonParser.isSupportedType(TypeCreator.createArrayType(PredefinedTypes.TYPE_INT, 2)));
+        Assert.assertFalse(TypedJsonParser.isSupportedType(PredefinedTypes.TYPE_BYTE));
+        Assert.assertSame(TypedJsonParser.parse("1", PredefinedTypes.TYPE_BYTE, null), TypedJsonParser.UNPARSED);
+    }
+
+    @Test
+    public void testParseBytes() {
+        Type intArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        BArray array = (BArray) JsonUtils.parse("[1, 2]".getBytes(StandardCharsets.UTF_8), intArray);
+        Assert.assertEquals(array.getType(), intArray);
+        Assert.assertEquals(array.getInt(1), 2);
+
+        // The content which is not parsed into the type is left to be parsed as json and converted
+        Assert.assertNull(JsonUtils.parse("[1, \"a\"]".getBytes(StandardCharsets.UTF_8), intArray));
+        Assert.assertNull(JsonUtils.parse("1".getBytes(StandardCharsets.UTF_8), PredefinedTypes.TYPE_BYTE));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.scheduling.WorkerDataChannel;
+import io.ballerina.runtime.internal.values.ChannelDetails;
+import io.ballerina.runtime.internal.values.ErrorValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link WorkerDataChannel}.
+ */
+public class WorkerDataChannelTest {
+
+    private static final int MESSAGE_COUNT = 100000;
+    private static final String CHANNEL_NAME = "w1 -> w2";
+
+    @Test
+    public void testReceiverResumedBySend() throws Throwable {
+        WorkerDataChannel channel = new WorkerDataChannel(CHANNEL_NAME);
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand receiver = newStrand(scheduler);
+        Strand sender = newStrand(scheduler);
+
+        Assert.assertNull(channel.tryTakeData(receiver));
+        Assert.assertEquals(receiver.getState(), State.BLOCK_AND_YIELD);
+        channel.sendData(1L, sender);
+        channel.sendData(2L, sender);
+        Assert.assertEquals(receiver.getState(), State.YIELD);
+
+        Assert.assertEquals(channel.tryTakeData(receiver), 1L);
+        Assert.assertEquals(channel.tryTakeData(receiver), 2L);
+    }
+
+    @Test
+    public void testSyncSendAfterReceiverError() throws Throwable {
+        WorkerDataChannel channel = new WorkerDataChannel(CHANNEL_NAME);
+        Strand sender = newStrand(new Scheduler(1, false));
+        ErrorValue error = (ErrorValue) ErrorCreator.createError(StringUtils.fromString("receiver failed"));
+
+        channel.setReceiveError(error);
+        Assert.assertSame(channel.syncSendData(1L, sender), error);
+        // there is no one to resume the sender, so it should not be blocked
+        Assert.assertEquals(sender.getState(), State.RUNNABLE);
+    }
+
+    @Test
+    public void testAsyncSendAndFlush() {
+        Scheduler scheduler = new Scheduler(4, false);
+        AtomicLong receivedSum = new AtomicLong();
+        AtomicBoolean flushed = new AtomicBoolean();
+        ChannelDetails[] flushChannels = {new ChannelDetails(CHANNEL_NAME, false, true)};
+
+        AtomicInteger sent = new AtomicInteger();
+        Worker sender = (strand, channel) -> {
+            while (sent.get() < MESSAGE_COUNT) {
+                channel.sendData((long) sent.incrementAndGet(), strand);
+            }
+            Assert.assertNull(strand.handleFlush(flushChannels));
+            if (!strand.isYielded()) {
+                flushed.set(true);
+            }
+        };
+        AtomicInteger received = new AtomicInteger();
+        Worker receiver = (strand, channel) -> {
+            while (received.get() < MESSAGE_COUNT) {
+                Object data = channel.tryTakeData(strand);
+                if (strand.isYielded()) {
+                    return;
+                }
+                receivedSum.addAndGet((Long) data);
+                received.incrementAndGet();
+            }
+        };
+
+        runWorkers(scheduler, sender, receiver);
+        Assert.assertEquals(receivedSum.get(), expectedSum());
+        Assert.assertTrue(flushed.get());
+    }
+
+    @Test
+    public void testSyncSend() {
+        Scheduler scheduler = new Scheduler(4, false);
+        AtomicLong receivedSum = new AtomicLong();
+
+        AtomicInteger sent = new AtomicInteger();
+        Worker sender = (strand, channel) -> {
+            while (sent.get() < MESSAGE_COUNT) {
+                Assert.assertNull(channel.syncSendData((long) sent.get() + 1, strand));
+                if (strand.isYielded()) {
+                    return;
+                }
+                sent.incrementAndGet();
+            }
+        };
+        AtomicInteger received = new AtomicInteger();
+        Worker receiver = (strand, channel) -> {
+            while (received.get() < MESSAGE_COUNT) {
+                Object data = channel.tryTakeData(strand);
+                if (strand.isYielded()) {
+                    return;
+                }
+                receivedSum.addAndGet((Long) data);
+                received.incrementAndGet();
+            }
+        };
+
+        runWorkers(scheduler, sender, receiver);
+        Assert.assertEquals(sent.get(), MESSAGE_COUNT);
+        Assert.assertEquals(receivedSum.get(), expectedSum());
+    }
+
+    private static long expectedSum() {
+        return (long) MESSAGE_COUNT * (MESSAGE_COUNT + 1) / 2;
+    }
+
+    private static void runWorkers(Scheduler scheduler, Worker sender, Worker receiver) {
+        AtomicInteger panics = new AtomicInteger();
+        Function<Object[], Object> parent = params -> {
+            Strand parentStrand = (Strand) params[0];
+            WorkerDataChannel channel = parentStrand.getWDChannels().getWorkerDataChannel(CHANNEL_NAME);
+            for (Worker worker : new Worker[]{receiver, sender}) {
+                Function<Object[], Object> function = workerParams -> {
+                    try {
+                        worker.run((Strand) workerParams[0], channel);
+                    } catch (Throwable e) {
+                        panics.incrementAndGet();
+                        throw new AssertionError(e);
+                    }
+                    return null;
+                };
+                scheduler.schedule(new Object[1], function, parentStrand, null, "worker", null);
+            }
+            return null;
+        };
+        scheduler.schedule(new Object[1], parent, null, null, "parent", null);
+
+        // returns once both the workers are completed
+        scheduler.start();
+        Assert.assertEquals(panics.get(), 0);
+    }
+
+    private static Strand newStrand(Scheduler scheduler) {
+        Function<Object[], Object> function = params -> null;
+        return scheduler.schedule(new Object[1], function, null, null, "test", null).strand;
+    }
+
+    /**
+     * Body of a worker, which is executed again from the start each time the strand is resumed after yielding.
+     */
+    @FunctionalInterface
+    private interface Worker {
+
+        void run(Strand strand, WorkerDataChannel channel) throws Throwable;
+    }
+}
@@ -301,6 +301,12 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
 
         public Integer lockId = -1;
 
+        /**
+         * Whether the locked region only reads the locked variables, in which case the lock is acquired in shared
+         * mode.
+         */
+        public boolean readOnly = false;
+
         public Lock(Location pos, BIRBasicBlock lockedBB) {
             super(pos, InstructionKind.LOCK);
             this.lockedBB = lockedBB;
@@ -19,11 +19,19 @@
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +44,21 @@ import java.util.Set;
  */
 public class BIRLockOptimizer extends BIRVisitor {
 
+    /**
+     * Instructions which do not mutate any value, as long as they do not assign to a global variable.
+     */
+    private static final Set<InstructionKind> READ_ONLY_INSTRUCTIONS = EnumSet.of(
+            InstructionKind.MOVE, InstructionKind.CONST_LOAD, InstructionKind.MAP_LOAD, InstructionKind.ARRAY_LOAD,
+            InstructionKind.OBJECT_LOAD, InstructionKind.STRING_LOAD, InstructionKind.TYPE_CAST,
+            InstructionKind.IS_LIKE, InstructionKind.TYPE_TEST, InstructionKind.ADD, InstructionKind.SUB,
+            InstructionKind.MUL, InstructionKind.DIV, InstructionKind.MOD, InstructionKind.EQUAL,
+            InstructionKind.NOT_EQUAL, InstructionKind.GREATER_THAN, InstructionKind.GREATER_EQUAL,
+            InstructionKind.LESS_THAN, InstructionKind.LESS_EQUAL, InstructionKind.AND, InstructionKind.OR,
+            InstructionKind.REF_EQUAL, InstructionKind.REF_NOT_EQUAL, InstructionKind.TYPEOF, InstructionKind.NOT,
+            InstructionKind.NEGATE, InstructionKind.BITWISE_AND, InstructionKind.BITWISE_OR,
+            InstructionKind.BITWISE_XOR, InstructionKind.BITWISE_LEFT_SHIFT, InstructionKind.BITWISE_RIGHT_SHIFT,
+            InstructionKind.BITWISE_UNSIGNED_RIGHT_SHIFT);
+
     private final List<BIRTerminator.Lock> lockList = new ArrayList<>();
     private final Map<BIRTerminator.Lock, Integer> lockToSetMap = new HashMap<>();
     private final Map<Integer, List<BIRTerminator.Lock>> setToLockMap = new HashMap<>();
@@ -206,6 +229,59 @@ public class BIRLockOptimizer extends BIRVisitor {
     @Override
     public void visit(BIRTerminator.Lock lock) {
         lockList.add(lock);
+        lock.readOnly = isReadOnlyRegion(lock);
+    }
+
+    /**
+     * Checks whether the region guarded by the given lock only reads values. The region is conservatively treated as
+     * read-write if it contains any call, since the callee may update the locked variables.
+     *
+     * @param lock lock of the region
+     * @return true if the region does not mutate any value
+     */
+    private boolean isReadOnlyRegion(BIRTerminator.Lock lock) {
+        Set<BIRNode.BIRBasicBlock> visited = new HashSet<>();
+        Deque<BIRNode.BIRBasicBlock> toVisit = new ArrayDeque<>();
+        toVisit.add(lock.lockedBB);
+        while (!toVisit.isEmpty()) {
+            BIRNode.BIRBasicBlock basicBlock = toVisit.poll();
+            if (!visited.add(basicBlock)) {
+                continue;
+            }
+
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!READ_ONLY_INSTRUCTIONS.contains(instruction.kind) || isGlobalVarStore(instruction)) {
+                    return false;
+                }
+            }
+
+            BIRTerminator terminator = basicBlock.terminator;
+            if (terminator == null) {
+                return false;
+            }
+            switch (terminator.kind) {
+                case UNLOCK:
+                    if (((BIRTerminator.Unlock) terminator).relatedLock == lock) {
+                        // end of the region
+                        continue;
+                    }
+                    break;
+                case GOTO:
+                case BRANCH:
+                case LOCK:
+                case PANIC:
+                case RETURN:
+                    break;
+                default:
+                    return false;
+            }
+            Collections.addAll(toVisit, terminator.getNextBasicBlocks());
+        }
+        return true;
+    }
+
+    private boolean isGlobalVarStore(BIRNonTerminator instruction) {
+        return instruction.lhsOp != null && instruction.lhsOp.variableDcl.kind == VarKind.GLOBAL;
     }
 
     @Override
@@ -19,8 +19,10 @@ package org.wso2.ballerinalang.compiler.desugar;
 import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
+import org.ballerinalang.model.tree.BlockNode;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -30,9 +32,11 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BOperatorSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
@@ -167,6 +171,7 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangLetVariable;
 import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
+import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -206,6 +211,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
     private static final Name QUERY_ADD_TO_TABLE_FUNCTION = new Name("addToTable");
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
+    private static final Name QUERY_COLLECT_PARALLEL_FUNCTION = new Name("collectParallel");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
@@ -248,6 +254,9 @@ public class QueryDesugar extends BLangNodeVisitor {
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+        if (isLoopQuery(queryExpr)) {
+            return buildLoop(queryExpr, env, queryBlock);
+        }
         BLangVariableReference streamRef = buildStream(clauses, queryExpr.type, env, queryBlock);
         BLangStatementExpression streamStmtExpr;
         if (queryExpr.isStream) {
@@ -288,6 +297,238 @@ public class QueryDesugar extends BLangNodeVisitor {
         return streamStmtExpr;
     }
 
+    /**
+     * Check whether the query expression can be desugared into a single loop instead of a stream pipeline. This is
+     * possible for queries which iterate an array and produce an array, using only let, where and select clauses,
+     * since none of those clauses need the frames of the other rows.
+     *
+     * @param queryExpr query expression to be checked.
+     * @return true if the query can be desugared into a loop.
+     */
+    private boolean isLoopQuery(BLangQueryExpr queryExpr) {
+        if (queryExpr.isStream || queryExpr.isTable || queryExpr.isPipelineRequired ||
+                queryExpr.type.tag != TypeTags.ARRAY || ((BArrayType) queryExpr.type).state != BArrayState.OPEN) {
+            return false;
+        }
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        if (fromClause.collection.type.tag != TypeTags.ARRAY) {
+            return false;
+        }
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            NodeKind kind = clause.getKind();
+            if (kind != NodeKind.LET_CLAUSE && kind != NodeKind.WHERE && kind != NodeKind.SELECT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether a query expression which satisfies {@link #isLoopQuery(BLangQueryExpr)} can be evaluated in
+     * parallel over chunks of the collection. This requires the members of the collection to be immutable and the
+     * clauses to be isolated, so that evaluating the clauses for a member does not affect any other member.
+     *
+     * @param queryExpr query expression to be checked.
+     * @return true if the query can be evaluated in parallel.
+     */
+    private boolean isParallelQuery(BLangQueryExpr queryExpr) {
+        BLangFromClause fromClause = (BLangFromClause) queryExpr.getQueryClauses().get(0);
+        BType memberType = ((BArrayType) fromClause.collection.type).eType;
+        return queryExpr.isIsolated && types.isSubTypeOfReadOnlyOrIsolatedObjectUnion(memberType);
+    }
+
+    /**
+     * Desugar a query expression which satisfies {@link #isLoopQuery(BLangQueryExpr)} into a loop, where the
+     * variables of the clauses are locals of the enclosing function rather than fields of a _Frame.
+     * int[] $result$ = [];
+     * int[] $data$ = collection;
+     * int $count$ = 0;
+     * int $index$ = 0;
+     * while ($index$ < $data$.length()) {
+     * int x = $data$[$index$];
+     * $index$ += 1;
+     * int y = x * 2;
+     * if (x > 0) {
+     * $result$[$count$] = x + y;
+     * $count$ += 1;
+     * }
+     * }
+     * If the query can be evaluated in parallel, the loop is moved to a function which evaluates the query over a
+     * chunk of the collection, and the chunks are collected in order.
+     * function (int[] $data$, int $start$, int $end$) returns int[] $chunkFunc$ = function (...) returns int[] {
+     * int[] $chunk$ = [];
+     * ...
+     * return $chunk$;
+     * };
+     * $result$ = collectParallel($data$, $chunkFunc$, $result$);
+     *
+     * @param queryExpr  query expression to be desugared.
+     * @param env        symbol env.
+     * @param queryBlock parent block to write to.
+     * @return desugared query expression.
+     */
+    private BLangStatementExpression buildLoop(BLangQueryExpr queryExpr, SymbolEnv env, BLangBlockStmt queryBlock) {
+        this.env = env;
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        Location pos = fromClause.pos;
+        BArrayType resultType = (BArrayType) queryExpr.type;
+        BType collectionType = fromClause.collection.type;
+
+        BVarSymbol resultSymbol = defineLoopVariable(queryBlock, pos, resultType, createEmptyArray(resultType));
+        BVarSymbol dataSymbol = defineLoopVariable(queryBlock, pos, collectionType, fromClause.collection);
+        if (!isParallelQuery(queryExpr)) {
+            addLoop(queryBlock, clauses, resultSymbol, dataSymbol,
+                    ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L),
+                    desugar.createLengthInvocation(pos, ASTBuilderUtil.createVariableRef(pos, dataSymbol)));
+            BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
+                    ASTBuilderUtil.createVariableRef(pos, resultSymbol));
+            stmtExpr.type = resultType;
+            return stmtExpr;
+        }
+
+        // function (int[] $data$, int $start$, int $end$) returns int[] { ... }
+        BLangSimpleVariable chunkDataParam = createParameter(pos, collectionType);
+        BLangSimpleVariable startParam = createParameter(pos, symTable.intType);
+        BLangSimpleVariable endParam = createParameter(pos, symTable.intType);
+        BLangBlockFunctionBody body = (BLangBlockFunctionBody) TreeBuilder.createBlockFunctionBodyNode();
+        BVarSymbol chunkSymbol = defineLoopVariable(body, pos, resultType, createEmptyArray(resultType));
+        addLoop(body, clauses, chunkSymbol, chunkDataParam.symbol,
+                ASTBuilderUtil.createVariableRef(pos, startParam.symbol),
+                ASTBuilderUtil.createVariableRef(pos, endParam.symbol));
+        BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
+        returnNode.pos = pos;
+        returnNode.setExpression(ASTBuilderUtil.createVariableRef(pos, chunkSymbol));
+        body.addStatement(returnNode);
+
+        BLangLambdaFunction chunkFunction = createLambdaFunction(pos, Lists.of(chunkDataParam, startParam, endParam),
+                ASTBuilderUtil.createTypeNode(resultType), body);
+        // The chunks are started through the function pointer, which runs them on the calling thread unless the
+        // function may run on any thread, as with @strand {thread: "any"}.
+        chunkFunction.function.symbol.schedulerPolicy = SchedulerPolicy.ANY;
+        chunkFunction.accept(this);
+
+        BLangVariableReference result = getStreamFunctionVariableRef(queryBlock, QUERY_COLLECT_PARALLEL_FUNCTION,
+                resultType, Lists.of(ASTBuilderUtil.createVariableRef(pos, dataSymbol), chunkFunction,
+                        ASTBuilderUtil.createVariableRef(pos, resultSymbol)), pos);
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock, result);
+        stmtExpr.type = resultType;
+        return stmtExpr;
+    }
+
+    /**
+     * Write the loop which evaluates the clauses for the members of the collection from `startExpr` to `endExpr`,
+     * and adds the selected values to the result.
+     *
+     * @param block         parent block to write to.
+     * @param clauses       list of query clauses.
+     * @param resultSymbol  symbol of the result array.
+     * @param dataSymbol    symbol of the collection.
+     * @param startExpr     index of the first member.
+     * @param endExpr       index after the last member, evaluated before each iteration.
+     */
+    private void addLoop(BlockNode block, List<BLangNode> clauses, BVarSymbol resultSymbol, BVarSymbol dataSymbol,
+                         BLangExpression startExpr, BLangExpression endExpr) {
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        Location pos = fromClause.pos;
+        BArrayType resultType = (BArrayType) resultSymbol.type;
+        BVarSymbol countSymbol = defineLoopVariable(block, pos, symTable.intType,
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L));
+        BVarSymbol indexSymbol = defineLoopVariable(block, pos, symTable.intType, startExpr);
+
+        // while ($index$ < $data$.length()) { ... }
+        BLangWhile whileNode = (BLangWhile) TreeBuilder.createWhileNode();
+        whileNode.pos = pos;
+        whileNode.expr = createIntBinaryExpr(pos, ASTBuilderUtil.createVariableRef(pos, indexSymbol), endExpr,
+                symTable.booleanType, OperatorKind.LESS_THAN);
+        whileNode.body = ASTBuilderUtil.createBlockStmt(pos);
+        block.addStatement(whileNode);
+
+        // int x = $data$[$index$];
+        BLangIndexBasedAccess valueAccessExpr = ASTBuilderUtil.createIndexBasesAccessExpr(pos,
+                ((BArrayType) dataSymbol.type).eType, dataSymbol, ASTBuilderUtil.createVariableRef(pos, indexSymbol));
+        VariableDefinitionNode variableDefinitionNode = fromClause.variableDefinitionNode;
+        BLangVariable variable = (BLangVariable) variableDefinitionNode.getVariable();
+        variable.setInitialExpression(desugar.addConversionExprIfRequired(valueAccessExpr, fromClause.varType));
+        whileNode.body.addStatement((BLangStatement) variableDefinitionNode);
+        whileNode.body.addStatement(createIncrementStmt(pos, indexSymbol));
+        List<BVarSymbol> symbols = new ArrayList<>(getIntroducedSymbols(variable));
+
+        BLangBlockStmt body = whileNode.body;
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    BLangLetClause letClause = (BLangLetClause) clause;
+                    for (BLangLetVariable letVariable : letClause.letVarDeclarations) {
+                        body.addStatement((BLangStatement) letVariable.definitionNode);
+                    }
+                    symbols.addAll(getIntroducedSymbols(letClause));
+                    break;
+                case WHERE:
+                    BLangWhereClause whereClause = (BLangWhereClause) clause;
+                    BLangIf ifNode = ASTBuilderUtil.createIfStmt(whereClause.pos, body);
+                    ifNode.expr = whereClause.expression;
+                    ifNode.body = ASTBuilderUtil.createBlockStmt(whereClause.pos);
+                    body = ifNode.body;
+                    break;
+                case SELECT:
+                    // $result$[$count$] = select-expr;
+                    BLangSelectClause selectClause = (BLangSelectClause) clause;
+                    BLangIndexBasedAccess resultAccessExpr = ASTBuilderUtil.createIndexBasesAccessExpr(
+                            selectClause.pos, resultType.eType, resultSymbol,
+                            ASTBuilderUtil.createVariableRef(selectClause.pos, countSymbol));
+                    resultAccessExpr.lhsVar = true;
+                    body.addStatement(ASTBuilderUtil.createAssignmentStmt(selectClause.pos, resultAccessExpr,
+                            desugar.addConversionExprIfRequired(selectClause.expression, resultType.eType)));
+                    body.addStatement(createIncrementStmt(selectClause.pos, countSymbol));
+                    break;
+            }
+        }
+
+        // since the var decls are now within the loop, remove scope entries from encl env.
+        for (BVarSymbol symbol : symbols) {
+            env.scope.entries.remove(symbol.name);
+        }
+    }
+
+    private BLangArrayLiteral createEmptyArray(BArrayType arrayType) {
+        BLangArrayLiteral arrayLiteral = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        arrayLiteral.exprs = new ArrayList<>();
+        arrayLiteral.type = arrayType;
+        return arrayLiteral;
+    }
+
+    private BLangSimpleVariable createParameter(Location pos, BType type) {
+        String name = getNewVarName();
+        BVarSymbol symbol = new BVarSymbol(0, names.fromString(name), env.scope.owner.pkgID, type,
+                                           env.scope.owner, pos, VIRTUAL);
+        return ASTBuilderUtil.createVariable(pos, null, type, null, symbol);
+    }
+
+    private BVarSymbol defineLoopVariable(BlockNode block, Location pos, BType type, BLangExpression expr) {
+        String name = getNewVarName();
+        BVarSymbol symbol = new BVarSymbol(0, names.fromString(name), env.scope.owner.pkgID, type,
+                                           env.scope.owner, pos, VIRTUAL);
+        BLangSimpleVariable variable = ASTBuilderUtil.createVariable(pos, name, type, expr, symbol);
+        block.addStatement(ASTBuilderUtil.createVariableDef(pos, variable));
+        return symbol;
+    }
+
+    private BLangStatement createIncrementStmt(Location pos, BVarSymbol symbol) {
+        BLangBinaryExpr incrementExpr = createIntBinaryExpr(pos, ASTBuilderUtil.createVariableRef(pos, symbol),
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 1L), symTable.intType, OperatorKind.ADD);
+        return ASTBuilderUtil.createAssignmentStmt(pos, ASTBuilderUtil.createVariableRef(pos, symbol),
+                incrementExpr);
+    }
+
+    private BLangBinaryExpr createIntBinaryExpr(Location pos, BLangExpression lhsExpr, BLangExpression rhsExpr,
+                                                BType type, OperatorKind opKind) {
+        BOperatorSymbol opSymbol = (BOperatorSymbol) symResolver.resolveBinaryOperator(opKind, symTable.intType,
+                symTable.intType);
+        return ASTBuilderUtil.createBinaryExpr(pos, lhsExpr, rhsExpr, type, opKind, opSymbol);
+    }
+
     /**
      * Desugar query action.
      *
@@ -1237,6 +1478,9 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangFunction function = lambda.function;
         currentFrameSymbol = function.requiredParams.get(0).symbol;
         identifiers = new HashMap<>();
+        for (BLangSimpleVariable param : function.requiredParams) {
+            identifiers.put(param.symbol.name.value, param.symbol);
+        }
         currentLambdaBody = (BLangBlockFunctionBody) function.getBody();
         List<BLangStatement> stmts = new ArrayList<>(currentLambdaBody.getStatements());
         stmts.forEach(stmt -> {
@@ -237,6 +237,7 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
     private boolean inLockStatement = false;
     private Stack<PotentiallyInvalidExpressionInfo> copyInLockInfoStack = new Stack<>();
     private Stack<Set<BSymbol>> isolatedLetVarStack = new Stack<>();
+    private Stack<QueryInfo> queryInfoStack = new Stack<>();
 
     private IsolationAnalyzer(CompilerContext context) {
         context.put(ISOLATION_ANALYZER_KEY, this);
@@ -403,6 +404,10 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
         BVarSymbol symbol = varNode.symbol;
         var flags = symbol.flags;
 
+        if (!queryInfoStack.empty()) {
+            queryInfoStack.peek().introducedSymbols.add(symbol);
+        }
+
         BLangExpression expr = varNode.expr;
 
         BType fieldType = varNode.type;
@@ -989,6 +994,10 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
         if (!recordFieldDefaultValue && !objectFieldDefaultValue && enclInvokable != null &&
                 isReferenceToVarDefinedInSameInvokable(symbol.owner, enclInvokable.symbol)) {
+            if (!queryInfoStack.empty() && !isQueryIntroducedSymbol(symbol) &&
+                    !types.isSubTypeOfReadOnlyOrIsolatedObjectUnion(symbol.type)) {
+                queryInfoStack.peek().accessesMutableLocalVar = true;
+            }
             return;
         }
 
@@ -1339,9 +1348,25 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangQueryExpr queryExpr) {
-        for (BLangNode clause : queryExpr.getQueryClauses()) {
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        // The initial collection is evaluated only once, so it does not affect the isolation of the clauses.
+        analyzeNode(fromClause.collection, env);
+
+        boolean prevInferredIsolated = inferredIsolated;
+        inferredIsolated = true;
+        queryInfoStack.push(new QueryInfo());
+        analyzeNode((BLangNode) fromClause.getVariableDefinitionNode(), env);
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
             analyzeNode(clause, env);
         }
+        QueryInfo queryInfo = queryInfoStack.pop();
+
+        queryExpr.isIsolated = inferredIsolated && !queryInfo.accessesMutableLocalVar;
+        if (!queryInfoStack.empty() && queryInfo.accessesMutableLocalVar) {
+            queryInfoStack.peek().accessesMutableLocalVar = true;
+        }
+        inferredIsolated = prevInferredIsolated && inferredIsolated;
     }
 
     @Override
@@ -2628,6 +2653,17 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
         return false;
     }
 
+    private boolean isQueryIntroducedSymbol(BSymbol symbol) {
+        BSymbol originalSymbol = getOriginalSymbol(symbol);
+
+        for (QueryInfo queryInfo : queryInfoStack) {
+            if (queryInfo.introducedSymbols.contains(originalSymbol)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean isReferenceToVarDefinedInSameInvokable(BSymbol currentOwner, BInvokableSymbol enclInvokableSymbol) {
         if (currentOwner == enclInvokableSymbol) {
             return true;
@@ -2646,6 +2682,15 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
         return isReferenceToVarDefinedInSameInvokable(nextOwner, enclInvokableSymbol);
     }
 
+    /**
+     * Holds the variables introduced by the clauses of a query expression, and whether the clauses access a local
+     * variable of the enclosing function which may refer to a mutable value.
+     */
+    private static class QueryInfo {
+        Set<BSymbol> introducedSymbols = new HashSet<>();
+        boolean accessesMutableLocalVar = false;
+    }
+
     /**
      * For lock statements with restricted var usage, invalid transfers and non-isolated invocations should result in
      * compilation errors. This class holds potentially erroneous expression per lock statement, and the protected
@@ -257,6 +257,7 @@ public class TypeChecker extends BLangNodeVisitor {
     private int letCount = 0;
     private Stack<SymbolEnv> queryEnvs, prevEnvs;
     private Stack<BLangSelectClause> selectClauses;
+    private Stack<BLangQueryExpr> queryExprs;
     private BLangMissingNodesHelper missingNodesHelper;
 
     /**
@@ -336,6 +337,7 @@ public class TypeChecker extends BLangNodeVisitor {
         this.missingNodesHelper = BLangMissingNodesHelper.getInstance(context);
         this.typeBuilder = new ResolvedTypeBuilder();
         this.selectClauses = new Stack<>();
+        this.queryExprs = new Stack<>();
         this.queryEnvs = new Stack<>();
         this.prevEnvs = new Stack<>();
     }
@@ -3904,6 +3906,7 @@ public class TypeChecker extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangLambdaFunction bLangLambdaFunction) {
+        markEnclosingQueryPipelineRequired();
         bLangLambdaFunction.type = bLangLambdaFunction.function.symbol.type;
         // creating a copy of the env to visit the lambda function later
         bLangLambdaFunction.capturedClosureEnv = env.createClone();
@@ -3913,6 +3916,7 @@ public class TypeChecker extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangArrowFunction bLangArrowFunction) {
+        markEnclosingQueryPipelineRequired();
         BType expectedType = expType;
         if (expectedType.tag == TypeTags.UNION) {
             BUnionType unionType = (BUnionType) expectedType;
@@ -4366,6 +4370,8 @@ public class TypeChecker extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangCheckedExpr checkedExpr) {
+        // `check` returns the error from the query, not from the enclosing function.
+        markEnclosingQueryPipelineRequired();
         visitCheckAndCheckPanicExpr(checkedExpr);
     }
 
@@ -4376,6 +4382,7 @@ public class TypeChecker extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangQueryExpr queryExpr) {
+        markEnclosingQueryPipelineRequired();
         if (prevEnvs.empty()) {
             prevEnvs.push(env.createClone());
         } else {
@@ -4383,11 +4390,13 @@ public class TypeChecker extends BLangNodeVisitor {
         }
         queryEnvs.push(prevEnvs.peek().createClone());
         selectClauses.push(queryExpr.getSelectClause());
+        queryExprs.push(queryExpr);
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         BLangExpression collectionNode = (BLangExpression) ((BLangFromClause) clauses.get(0)).getCollection();
         clauses.forEach(clause -> clause.accept(this));
         BType actualType = resolveQueryType(queryEnvs.peek(),
                 selectClauses.peek().expression, collectionNode.type, expType, queryExpr);
+        queryExprs.pop();
         resultType = (actualType == symTable.semanticError) ? actualType :
                 types.checkType(queryExpr.pos, actualType, expType, DiagnosticErrorCode.INCOMPATIBLE_TYPES);
         selectClauses.pop();
@@ -4395,6 +4404,17 @@ public class TypeChecker extends BLangNodeVisitor {
         prevEnvs.pop();
     }
 
+    /**
+     * Marks the query expression being checked, if any, as one that has to be desugared into a stream pipeline.
+     * Query expressions with checks, functions or nested queries in their clauses cannot be desugared into a loop
+     * in the enclosing function.
+     */
+    private void markEnclosingQueryPipelineRequired() {
+        if (!queryExprs.empty()) {
+            queryExprs.peek().isPipelineRequired = true;
+        }
+    }
+
     private BType resolveQueryType(SymbolEnv env, BLangExpression selectExp, BType collectionType,
                                    BType targetType, BLangQueryExpr queryExpr) {
         List<BType> resultTypes = types.getAllTypes(targetType).stream()
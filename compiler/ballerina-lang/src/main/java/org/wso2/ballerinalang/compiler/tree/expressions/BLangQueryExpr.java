@@ -38,6 +38,10 @@ public class BLangQueryExpr extends BLangExpression implements QueryExpressionNo
     public List<IdentifierNode> fieldNameIdentifierList = new ArrayList<>();
     public boolean isStream = false;
     public boolean isTable = false;
+    // set when a clause has a check, a function or a nested query, which needs a stream pipeline to be evaluated
+    public boolean isPipelineRequired = false;
+    // set when the clauses call only isolated functions and access no mutable state defined outside the query
+    public boolean isIsolated = false;
 
     @Override
     public BLangSelectClause getSelectClause() {
@@ -151,6 +151,65 @@ function consumeStream(stream<Type, error?> strm) returns error? {
     }
 }
 
+function collectParallel((any|error)[] collection,
+        function ((any|error)[] collection, int 'start, int end) returns Type[] chunkFunc, Type[] result)
+        returns Type[] {
+    int length = collection.length();
+    int chunkCount = getChunkCount(length);
+    if (chunkCount < 2) {
+        result.push(...chunkFunc(collection, 0, length));
+        return result;
+    }
+
+    int chunkSize = (length + chunkCount - 1) / chunkCount;
+    future<Type[]>[] chunks = [];
+    int 'start = 0;
+    while ('start < length) {
+        int end = 'start + chunkSize;
+        if (end > length) {
+            end = length;
+        }
+        future<Type[]> chunk = start chunkFunc(collection, 'start, end);
+        chunks.push(chunk);
+        'start = end;
+    }
+    foreach future<Type[]> chunk in chunks {
+        Type[] values = wait chunk;
+        result.push(...values);
+    }
+    return result;
+}
+
+function getChunkCount(int length) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.QueryParallelism",
+    name: "getChunkCount"
+} external;
+
+function createFrameIndex() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameIndex",
+    name: "createFrameIndex"
+} external;
+
+function getFrames(handle index, any key) returns _Frame[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameIndex",
+    name: "getFrames"
+} external;
+
+function putFrames(handle index, any key, _Frame[] frames) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameIndex",
+    name: "putFrames"
+} external;
+
+function mergeFrames(_Frame lhsFrame, _Frame rhsFrame) returns _Frame = @java:Method {
+    'class: "org.ballerinalang.langlib.query.MergeFrames",
+    name: "mergeFrames"
+} external;
+
+function sortFrames(_Frame[] frames) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.SortFrames",
+    name: "sortFrames"
+} external;
+
 // TODO: This for debugging purposes, remove once completed.
 function print(any|error? data) = @java:Method {
     'class: "org.ballerinalang.langlib.query.Print",
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash index of the frames of the right hand side of a join clause, keyed by the value of the join key.
+ * <p>
+ * Keys are compared using `==`, so that the join does not depend on the string representation of the keys.
+ *
+ * @since 2.0.0
+ */
+public class FrameIndex {
+
+    public static BHandle createFrameIndex() {
+        return ValueCreator.createHandleValue(new HashMap<IndexKey, BArray>());
+    }
+
+    public static Object getFrames(BHandle index, Object key) {
+        return getIndex(index).get(new IndexKey(key));
+    }
+
+    public static void putFrames(BHandle index, Object key, BArray frames) {
+        getIndex(index).put(new IndexKey(key), frames);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<IndexKey, BArray> getIndex(BHandle index) {
+        return (Map<IndexKey, BArray>) index.getValue();
+    }
+
+    /**
+     * Join key which is hashed and compared by value.
+     * <p>
+     * Floats are compared with `==` semantics, so that 0.0 and -0.0 are equal, and decimals are compared by value,
+     * so that 1.0 and 1.00 are equal. Both are normalized the same way when they are members of list and mapping
+     * keys, so that equal keys always land in the same bucket.
+     */
+    private static class IndexKey {
+
+        // Limits the recursion into nested members, so that cyclic keys do not overflow the stack.
+        private static final int MAX_DEPTH = 16;
+
+        private final Object value;
+        private final int hash;
+
+        IndexKey(Object value) {
+            this.value = value;
+            this.hash = hash(value, 0);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static int hash(Object value, int depth) {
+            if (value == null) {
+                return 0;
+            }
+            if (value instanceof Double) {
+                double doubleValue = (Double) value;
+                // 0.0 == -0.0
+                return doubleValue == 0 ? 0 : Double.hashCode(doubleValue);
+            }
+            if (value instanceof BDecimal) {
+                // 1.0 == 1.00
+                return ((BDecimal) value).decimalValue().stripTrailingZeros().hashCode();
+            }
+            if (value instanceof BArray) {
+                if (depth == MAX_DEPTH) {
+                    return 0;
+                }
+                BArray array = (BArray) value;
+                int result = 1;
+                for (int i = 0; i < array.size(); i++) {
+                    result = 31 * result + hash(array.get(i), depth + 1);
+                }
+                return result;
+            }
+            if (value instanceof BMap) {
+                if (depth == MAX_DEPTH) {
+                    return 0;
+                }
+                // Independent of the order of the fields, since mappings are compared field by field.
+                int result = 0;
+                for (Map.Entry<Object, Object> entry : ((BMap<Object, Object>) value).entrySet()) {
+                    result += entry.getKey().hashCode() ^ hash(entry.getValue(), depth + 1);
+                }
+                return result;
+            }
+            return TableUtils.hash(value, null).hashCode();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static boolean isEqual(Object lhs, Object rhs, int depth) {
+            if (lhs instanceof Double && rhs instanceof Double) {
+                double lhsValue = (Double) lhs;
+                double rhsValue = (Double) rhs;
+                return lhsValue == rhsValue || (Double.isNaN(lhsValue) && Double.isNaN(rhsValue));
+            }
+            if (depth == MAX_DEPTH) {
+                return TypeChecker.isEqual(lhs, rhs);
+            }
+            if (lhs instanceof BArray && rhs instanceof BArray) {
+                BArray lhsArray = (BArray) lhs;
+                BArray rhsArray = (BArray) rhs;
+                if (lhsArray.size() != rhsArray.size()) {
+                    return false;
+                }
+                for (int i = 0; i < lhsArray.size(); i++) {
+                    if (!isEqual(lhsArray.get(i), rhsArray.get(i), depth + 1)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            if (lhs instanceof BMap && rhs instanceof BMap) {
+                BMap<Object, Object> lhsMap = (BMap<Object, Object>) lhs;
+                BMap<Object, Object> rhsMap = (BMap<Object, Object>) rhs;
+                if (lhsMap.size() != rhsMap.size()) {
+                    return false;
+                }
+                for (Map.Entry<Object, Object> entry : lhsMap.entrySet()) {
+                    if (!rhsMap.containsKey(entry.getKey()) ||
+                            !isEqual(entry.getValue(), rhsMap.get(entry.getKey()), depth + 1)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return TypeChecker.isEqual(lhs, rhs);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof IndexKey)) {
+                return false;
+            }
+            IndexKey other = (IndexKey) obj;
+            return this.hash == other.hash && isEqual(this.value, other.value, 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
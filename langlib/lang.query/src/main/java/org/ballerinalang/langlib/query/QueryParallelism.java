@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+
+import java.io.PrintStream;
+
+/**
+ * Decides how many chunks the collection of a parallel query is split into.
+ * <p>
+ * Parallel evaluation is opt-in. The maximum number of chunks is read from the BALLERINA_QUERY_PARALLELISM system
+ * variable, where 0 means the number of available processors. Queries are evaluated sequentially if it is not set.
+ *
+ * @since 2.0.0
+ */
+public class QueryParallelism {
+
+    // Smaller chunks cost more to schedule than to evaluate.
+    private static final long MIN_CHUNK_SIZE = 1024;
+    private static final int PARALLELISM = readParallelism();
+
+    public static long getChunkCount(long length) {
+        return Math.max(1, Math.min(PARALLELISM, length / MIN_CHUNK_SIZE));
+    }
+
+    private static int readParallelism() {
+        String parallelism = System.getenv(RuntimeConstants.BALLERINA_QUERY_PARALLELISM_ENV_VAR);
+        if (parallelism == null) {
+            return 1;
+        }
+        int value;
+        try {
+            value = Integer.parseInt(parallelism);
+        } catch (NumberFormatException e) {
+            value = -1;
+        }
+        if (value >= 0) {
+            return value == 0 ? Runtime.getRuntime().availableProcessors() : value;
+        }
+        PrintStream err = System.err;
+        err.println("ballerina: invalid value '" + parallelism + "' for system variable:" +
+                            RuntimeConstants.BALLERINA_QUERY_PARALLELISM_ENV_VAR + ", queries will be evaluated " +
+                            "sequentially");
+        return 1;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Sorts the frames of an order by clause, using the `$orderKey$` and `$orderDirection$` fields populated by the
+ * order key function.
+ * <p>
+ * The sort is stable, so frames with equal keys retain the order in which they were received. As with
+ * lang.array:sort, () is placed last irrespective of the direction, and NaN is placed just before ().
+ *
+ * @since 2.0.0
+ */
+public class SortFrames {
+
+    private static final BString ORDER_KEY = StringUtils.fromString("$orderKey$");
+    private static final BString ORDER_DIRECTION = StringUtils.fromString("$orderDirection$");
+
+    @SuppressWarnings("unchecked")
+    public static void sortFrames(BArray frames) {
+        int size = frames.size();
+        if (size < 2) {
+            return;
+        }
+
+        SortEntry[] entries = new SortEntry[size];
+        for (int i = 0; i < size; i++) {
+            BMap<BString, Object> frame = (BMap<BString, Object>) frames.get(i);
+            BArray keyArray = (BArray) frame.get(ORDER_KEY);
+            Object[] keys = new Object[keyArray.size()];
+            for (int j = 0; j < keys.length; j++) {
+                keys[j] = keyArray.get(j);
+            }
+            entries[i] = new SortEntry(keys, frame);
+        }
+
+        BArray directionArray = (BArray) ((BMap<BString, Object>) frames.get(0)).get(ORDER_DIRECTION);
+        boolean[] ascending = new boolean[directionArray.size()];
+        for (int i = 0; i < ascending.length; i++) {
+            ascending[i] = (Boolean) directionArray.get(i);
+        }
+
+        Arrays.sort(entries, new FrameComparator(ascending));
+        for (int i = 0; i < size; i++) {
+            frames.add(i, entries[i].frame);
+        }
+    }
+
+    private static int compareKeys(Object key1, Object key2, boolean ascending) {
+        if (key1 == null) {
+            return key2 == null ? 0 : 1;
+        }
+        if (key2 == null) {
+            return -1;
+        }
+        if (key1 instanceof Double && key2 instanceof Double) {
+            boolean isNaN1 = Double.isNaN((Double) key1);
+            boolean isNaN2 = Double.isNaN((Double) key2);
+            if (isNaN1 || isNaN2) {
+                return isNaN1 == isNaN2 ? 0 : (isNaN1 ? 1 : -1);
+            }
+        }
+        int result = compareValues(key1, key2);
+        return ascending ? result : -result;
+    }
+
+    private static int compareValues(Object key1, Object key2) {
+        if (key1 instanceof Long && key2 instanceof Long) {
+            return Long.compare((Long) key1, (Long) key2);
+        } else if (key1 instanceof BString && key2 instanceof BString) {
+            return compareStrings(((BString) key1).getValue(), ((BString) key2).getValue());
+        } else if (key1 instanceof Double && key2 instanceof Double) {
+            double value1 = (Double) key1;
+            double value2 = (Double) key2;
+            // -0.0 == +0.0
+            return value1 == value2 ? 0 : Double.compare(value1, value2);
+        } else if (key1 instanceof BDecimal && key2 instanceof BDecimal) {
+            return ((BDecimal) key1).decimalValue().compareTo(((BDecimal) key2).decimalValue());
+        } else if (key1 instanceof Boolean && key2 instanceof Boolean) {
+            return Boolean.compare((Boolean) key1, (Boolean) key2);
+        } else if (key1 instanceof Integer && key2 instanceof Integer) {
+            return Integer.compare((Integer) key1, (Integer) key2);
+        }
+        throw ErrorCreator.createError(StringUtils.fromString(
+                "order by keys of types '" + TypeUtils.getType(key1) + "' and '" + TypeUtils.getType(key2) +
+                        "' cannot be compared"));
+    }
+
+    // Strings are ordered by code point, which differs from String#compareTo for surrogate pairs.
+    private static int compareStrings(String str1, String str2) {
+        int length = Math.min(str1.length(), str2.length());
+        for (int i = 0; i < length; i++) {
+            char c1 = str1.charAt(i);
+            char c2 = str2.charAt(i);
+            if (c1 != c2) {
+                return Integer.compare(Character.codePointAt(str1, i), Character.codePointAt(str2, i));
+            }
+        }
+        return Integer.compare(str1.length(), str2.length());
+    }
+
+    /**
+     * Frame together with its order keys.
+     */
+    private static class SortEntry {
+
+        private final Object[] keys;
+        private final Object frame;
+
+        SortEntry(Object[] keys, Object frame) {
+            this.keys = keys;
+            this.frame = frame;
+        }
+    }
+
+    /**
+     * Compares frames by their order keys, from the first key to the last.
+     */
+    private static class FrameComparator implements Comparator<SortEntry> {
+
+        private final boolean[] ascending;
+
+        FrameComparator(boolean[] ascending) {
+            this.ascending = ascending;
+        }
+
+        @Override
+        public int compare(SortEntry entry1, SortEntry entry2) {
+            for (int i = 0; i < ascending.length; i++) {
+                int result = compareKeys(entry1.keys[i], entry2.keys[i], ascending[i]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.TypedJsonParser;
 
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CONVERSION_ERROR;
 
@@ -41,6 +42,11 @@ public class FromJsonStringWithType {
             if (str.equals("null")) {
                 return FromJsonWithType.fromJsonWithType(null, t);
             } else {
+                // Parse directly into the type, and fall back to converting the json value for the errors
+                Object typedValue = TypedJsonParser.parse(str, t.getDescribingType(), t);
+                if (typedValue != TypedJsonParser.UNPARSED) {
+                    return typedValue;
+                }
                 Object jsonFromString = JsonParser.parse(str);
                 return FromJsonWithType.fromJsonWithType(jsonFromString, t);
             }
@@ -347,6 +347,9 @@ public class LangLibValueTest {
                 { "testFromJsonStringWithTypeStringArray" },
                 { "testFromJsonStringWithTypeArrayNegative" },
                 { "testFromJsonStringWithTypeIntArray" },
+                { "testFromJsonStringWithTypeNestedRecord" },
+                { "testFromJsonStringWithTypeRecordNegative" },
+                { "testFromJsonStringWithTypeNumbers" },
         };
     }
 
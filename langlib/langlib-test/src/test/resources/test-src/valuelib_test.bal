@@ -944,6 +944,86 @@ function testFromJsonStringWithTypeIntArray() {
     assert(intArr[1], 2);
 }
 
+type LineItem record {|
+    string sku;
+    int quantity;
+    decimal price;
+    float weight?;
+|};
+
+type Customer record {
+    string name;
+    string? email;
+};
+
+type PurchaseOrder record {
+    int id;
+    Customer customer;
+    LineItem[] items;
+    map<string> tags;
+    json meta;
+    boolean paid = false;
+    string note?;
+};
+
+function testFromJsonStringWithTypeNestedRecord() {
+    string s = "{\"id\": 1001, \"customer\": {\"name\": \"Jos\\u00e9\", \"email\": null, \"tier\": \"gold\"}, " +
+        "\"items\": [{\"sku\": \"A-1\", \"quantity\": 2, \"price\": 10.50, \"weight\": 2}, " +
+        "{\"sku\": \"B-2\", \"quantity\": 1, \"price\": 3}], \"tags\": {\"source\": \"web\"}, " +
+        "\"meta\": {\"score\": 1.5, \"flags\": [true, null]}, \"coupon\": \"X1\"}";
+    PurchaseOrder po = checkpanic s.fromJsonStringWithType(PurchaseOrder);
+
+    assert(po.id, 1001);
+    assert(po.customer.name, "José");
+    assert(po.customer.email, ());
+    assert(po.customer["tier"], "gold");
+    assert(po.items.length(), 2);
+    assert(po.items[0].price, 10.50d);
+    assert(po.items[0]?.weight, 2.0);
+    assert(po.items[1].price, 3d);
+    assert(po.items[1]?.weight, ());
+    assert(po.tags["source"], "web");
+    assert(po.meta.toJsonString(), "{\"score\":1.5, \"flags\":[true, null]}");
+    assert(po.paid, false);
+    assert(po?.note, ());
+    assert(po["coupon"], "X1");
+}
+
+function testFromJsonStringWithTypeRecordNegative() {
+    string[] payloads = [
+        "{\"id\": 1, \"customer\": {\"email\": null}, \"items\": [], \"tags\": {}, \"meta\": null}",
+        "{\"id\": 1, \"customer\": {\"name\": \"A\", \"email\": null}, \"items\": [{\"sku\": \"A-1\", " +
+            "\"quantity\": 2, \"price\": 1, \"colour\": \"red\"}], \"tags\": {}, \"meta\": null}",
+        "{\"id\": \"1\", \"customer\": {\"name\": \"A\", \"email\": null}, \"items\": [], \"tags\": {}, " +
+            "\"meta\": null}",
+        "{\"id\": 1, \"customer\": {\"name\": \"A\", \"email\": null}, \"items\": [], \"tags\": {\"a\": 1}, " +
+            "\"meta\": null}",
+        "{\"id\": 1, \"customer\": {\"name\": \"A\", \"email\": null}, \"items\": [], \"tags\": {}"
+    ];
+    foreach string s in payloads {
+        PurchaseOrder|error po = s.fromJsonStringWithType(PurchaseOrder);
+        if (po is PurchaseOrder) {
+            panic error("expected an error for " + s);
+        }
+    }
+}
+
+type MapOfJson map<json>;
+
+function testFromJsonStringWithTypeNumbers() {
+    string s = "[1, -0, 2.50, 1.5e3]";
+    float[] floats = checkpanic s.fromJsonStringWithType(FloatArray);
+    assert(floats, [1.0, -0.0, 2.5, 1500.0]);
+
+    decimal[] decimals = checkpanic s.fromJsonStringWithType(DecimalArray);
+    assert(decimals, [1d, 0d, 2.50d, 1500d]);
+
+    map<json> m = checkpanic "{\"a\": 2.50, \"b\": -0, \"c\": 3}".fromJsonStringWithType(MapOfJson);
+    assert(m["a"], 2.50d);
+    assert(m["b"], -0.0);
+    assert(m["c"], 3);
+}
+
 /////////////////////////// Tests for `toJson()` ///////////////////////////
 
 function testToJsonWithRecord1() {
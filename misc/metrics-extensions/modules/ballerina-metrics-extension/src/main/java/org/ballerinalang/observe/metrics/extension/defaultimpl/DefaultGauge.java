@@ -23,6 +23,7 @@ import io.ballerina.runtime.observability.metrics.MetricId;
 import io.ballerina.runtime.observability.metrics.Snapshot;
 import io.ballerina.runtime.observability.metrics.StatisticConfig;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -38,7 +39,8 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
 
     private final LongAdder count = new LongAdder();
     private final DoubleAdder sum = new DoubleAdder();
-    private final DoubleAdder value = new DoubleAdder();
+    // Bits of the double value, which is updated without locking
+    private final AtomicLong value = new AtomicLong(Double.doubleToLongBits(0.0));
     private final RollingHistogram[] rollingHistograms;
 
     private DefaultGauge(MetricId id, Clock clock, StatisticConfig... statisticConfigs) {
@@ -66,36 +68,35 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
         }
     }
 
+    private double addAndGet(double amount) {
+        long bits;
+        double newValue;
+        do {
+            bits = value.get();
+            newValue = Double.longBitsToDouble(bits) + amount;
+        } while (!value.compareAndSet(bits, Double.doubleToLongBits(newValue)));
+        return newValue;
+    }
+
     @Override
     public void increment(double amount) {
-        synchronized (this) {
-            value.add(amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(addAndGet(amount));
     }
 
     @Override
     public void decrement(double amount) {
-        synchronized (this) {
-            value.add(-amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(addAndGet(-amount));
     }
 
     @Override
     public void setValue(double value) {
-        synchronized (this) {
-            this.value.reset();
-            this.value.add(value);
-            updateHistogram(value);
-        }
+        this.value.set(Double.doubleToLongBits(value));
+        updateHistogram(value);
     }
 
     @Override
     public double getValue() {
-        synchronized (this) {
-            return value.sum();
-        }
+        return Double.longBitsToDouble(value.get());
     }
 
     @Override
@@ -23,11 +23,17 @@ import io.ballerina.runtime.observability.metrics.StatisticConfig;
 import org.HdrHistogram.DoubleHistogram;
 import org.HdrHistogram.DoubleRecorder;
 
-import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Using {@link DoubleHistogram} to maintain samples in a ring buffer to decay older samples and give greater weight
  * to recent samples. This implementation allows to get summary statistics for a rolling window over the last X minutes.
+ * <p>
+ * Each bucket of the ring buffer holds the samples recorded during one rotation interval. A sample is recorded only
+ * in the {@link DoubleRecorder} of the current bucket, which is wait-free. The samples of the recorders are moved to
+ * the histograms of the buckets when taking a snapshot, and the histograms are reused when the buckets are rotated.
+ * The threads which record never wait for the lock: if a rotation is due while the lock is held by another thread,
+ * the sample is recorded in the current bucket and the bucket is rotated by a later call.
  */
 public class RollingHistogram {
 
@@ -42,14 +48,19 @@ public class RollingHistogram {
     private final StatisticConfig statisticConfig;
 
     /**
-     * Recorder in a ring buffer.
+     * Recorder of each bucket in the ring buffer.
      */
     private final DoubleRecorder[] ringBuffer;
 
+    /**
+     * Samples taken from the recorder of each bucket.
+     */
+    private final DoubleHistogram[] bucketHistograms;
+
     /**
      * Current bucket index.
      */
-    private int currentBucket;
+    private volatile int currentBucket;
 
     /**
      * Last time the {@link RollingHistogram} was rotated.
@@ -69,31 +80,22 @@ public class RollingHistogram {
     /**
      * A histogram to keep accumulated stats.
      */
-    private DoubleHistogram accumulatedHistogram;
-
-    /**
-     * Global atomic field updater to update volatile {@code rotating} integer.
-     */
-    private static final AtomicIntegerFieldUpdater<RollingHistogram> rotatingUpdater =
-            AtomicIntegerFieldUpdater.newUpdater(RollingHistogram.class, "rotating");
-
-    /**
-     * A flag to check whether {@link RollingHistogram} is being rotated.
-     */
-    private volatile int rotating; // 0 - not rotating, 1 - rotating
+    private final DoubleHistogram accumulatedHistogram;
 
     /**
-     * A flag to check whether accumulatedHistogram is stale or not.
+     * Guards the rotation and the histograms of the buckets.
      */
-    private volatile boolean accumulatedHistogramStale;
+    private final ReentrantLock lock = new ReentrantLock();
 
     public RollingHistogram(Clock clock, StatisticConfig statisticConfig) {
         this.clock = clock;
         this.statisticConfig = statisticConfig;
         int ageBuckets = (int) statisticConfig.getBuckets();
         ringBuffer = new DoubleRecorder[ageBuckets];
+        bucketHistograms = new DoubleHistogram[ageBuckets];
         for (int i = 0; i < ageBuckets; i++) {
             ringBuffer[i] = new DoubleRecorder(statisticConfig.getPercentilePrecision());
+            bucketHistograms[i] = new DoubleHistogram(statisticConfig.getPercentilePrecision());
         }
         this.currentBucket = 0;
         this.lastRotateTimestampMillis = clock.getCurrentTime();
@@ -103,53 +105,41 @@ public class RollingHistogram {
     }
 
     public void record(double value) {
-        rotate();
-        try {
-            for (DoubleRecorder recorder : ringBuffer) {
-                recorder.recordValue(value);
+        if (isRotationDue() && lock.tryLock()) {
+            try {
+                rotate();
+            } finally {
+                lock.unlock();
             }
-        } finally {
-            accumulatedHistogramStale = true;
         }
+        ringBuffer[currentBucket].recordValue(value);
+    }
+
+    private boolean isRotationDue() {
+        return clock.getCurrentTime() - lastRotateTimestampMillis >= durationBetweenRotatesMillis;
     }
 
+    /**
+     * Moves to the next buckets, if the rotation interval has elapsed. The lock must be held by the caller.
+     */
     private void rotate() {
         long timeSinceLastRotateMillis = clock.getCurrentTime() - lastRotateTimestampMillis;
-        if (timeSinceLastRotateMillis < durationBetweenRotatesMillis) {
-            // Need to wait more for next rotation.
-            return;
-        }
-        if (!rotatingUpdater.compareAndSet(this, 0, 1)) {
-            // Being rotated by other thread already.
-            return;
+        int iterations = 0;
+        while (timeSinceLastRotateMillis >= durationBetweenRotatesMillis && iterations < ringBuffer.length) {
+            // The next bucket holds the samples of the oldest interval, which are discarded.
+            int nextBucket = currentBucket + 1 < ringBuffer.length ? currentBucket + 1 : 0;
+            ringBuffer[nextBucket].reset();
+            bucketHistograms[nextBucket].reset();
+            currentBucket = nextBucket;
+            timeSinceLastRotateMillis -= durationBetweenRotatesMillis;
+            lastRotateTimestampMillis += durationBetweenRotatesMillis;
+            iterations++;
         }
-
-        try {
-            int iterations = 0;
-            synchronized (this) {
-                do {
-                    currentHistogram().reset();
-                    if (++currentBucket >= ringBuffer.length) {
-                        currentBucket = 0;
-                    }
-                    timeSinceLastRotateMillis -= durationBetweenRotatesMillis;
-                    lastRotateTimestampMillis += durationBetweenRotatesMillis;
-                } while (timeSinceLastRotateMillis >= durationBetweenRotatesMillis && ++iterations < ringBuffer.length);
-
-                if (iterations >= ringBuffer.length) {
-                    // All buckets have been reset, therefore update lastRotateTimestampMillis
-                    // to the most recent time window
-                    lastRotateTimestampMillis += durationBetweenRotatesMillis *
-                            (timeSinceLastRotateMillis / durationBetweenRotatesMillis);
-                }
-
-                accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
-                //TODO: Use accumulatedHistogram.reset(); and make accumulatedHistogram as final
-                //Refer: https://github.com/HdrHistogram/HdrHistogram/issues/143
-                accumulatedHistogramStale = true;
-            }
-        } finally {
-            rotating = 0;
+        if (iterations >= ringBuffer.length) {
+            // All buckets have been reset, therefore update lastRotateTimestampMillis
+            // to the most recent time window
+            lastRotateTimestampMillis += durationBetweenRotatesMillis *
+                    (timeSinceLastRotateMillis / durationBetweenRotatesMillis);
         }
     }
 
@@ -158,9 +148,10 @@ public class RollingHistogram {
     }
 
     public Snapshot getSnapshot() {
-        rotate();
-        synchronized (this) {
-            accumulateIfStale();
+        lock.lock();
+        try {
+            rotate();
+            accumulate();
             PercentileValue[] percentileValues = null;
             final double[] monitoredPercentiles = statisticConfig.getPercentiles();
             if (monitoredPercentiles != null) {
@@ -176,22 +167,19 @@ public class RollingHistogram {
                     accumulatedHistogram.getStdDeviation(),
                     accumulatedHistogram.getMaxValue(),
                     percentileValues);
-        }
-    }
-
-    private void accumulateIfStale() {
-        if (accumulatedHistogramStale) {
-            accumulate();
-            accumulatedHistogramStale = false;
+        } finally {
+            lock.unlock();
         }
     }
 
     private void accumulate() {
-        currentHistogram().getIntervalHistogramInto(intervalHistogram);
-        accumulatedHistogram.add(intervalHistogram);
-    }
-
-    private DoubleRecorder currentHistogram() {
-        return ringBuffer[currentBucket];
+        accumulatedHistogram.reset();
+        for (int i = 0; i < ringBuffer.length; i++) {
+            // Taking the interval histogram waits for the in-flight recordings, but does not block new ones. The
+            // previous buckets are sampled as well, for the recordings which started before they were rotated.
+            ringBuffer[i].getIntervalHistogramInto(intervalHistogram);
+            bucketHistograms[i].add(intervalHistogram);
+            accumulatedHistogram.add(bucketHistograms[i]);
+        }
     }
 }
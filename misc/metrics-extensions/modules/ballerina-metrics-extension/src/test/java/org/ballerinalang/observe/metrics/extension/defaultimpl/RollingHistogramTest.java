@@ -24,6 +24,9 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.mock;
@@ -204,4 +207,49 @@ public class RollingHistogramTest {
         }
     }
 
+    @Test
+    public void testConcurrentRecording() throws Exception {
+        final AtomicInteger currentTime = new AtomicInteger(0);
+        Clock clock = mock(Clock.class);
+        when(clock.getCurrentTime()).then(invocationOnMock -> currentTime.get());
+        double[] percentiles = new double[]{0.5, 1.0};
+        RollingHistogram histogram = new RollingHistogram(clock, StatisticConfig.builder()
+                .percentiles(percentiles)
+                .expiry(Duration.ofSeconds(4)).buckets(4).build());
+
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                futures[i] = executor.submit(() -> {
+                    for (int j = 1; j <= 10_000; j++) {
+                        histogram.record(j);
+                        if (j % 1000 == 0) {
+                            // Rotates twice within the time window, while the other threads are recording
+                            currentTime.addAndGet(50);
+                        }
+                    }
+                });
+            }
+            for (int i = 0; i < 100; i++) {
+                histogram.getSnapshot();
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Snapshot snapshot = histogram.getSnapshot();
+        Assert.assertEquals(snapshot.getMin(), 1.0, 1.0);
+        Assert.assertEquals(snapshot.getMax(), 10_000.0, 100.0);
+        Assert.assertEquals(percentileValue(snapshot, 0.5), 5_000.0, 100.0);
+
+        Assert.assertEquals(clock.getCurrentTime(), 2000);
+        currentTime.addAndGet(4000);
+        snapshot = histogram.getSnapshot();
+        Assert.assertEquals(snapshot.getMax(), 0.0, 1.0);
+    }
 }
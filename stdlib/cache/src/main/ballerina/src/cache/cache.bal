@@ -21,7 +21,8 @@ import ballerina/time;
 # Represents configurations for the `cache:Cache` object.
 #
 # + capacity - Maximum number of entries allowed in the cache
-# + evictionPolicy - The policy, which defines the cache eviction algorithm
+# + evictionPolicy - The policy, which defines the cache eviction algorithm. The `cache:LruEvictionPolicy` and the
+#                    `cache:TinyLfuEvictionPolicy` are implemented natively, and do not use the linked list
 # + evictionFactor - The factor by which the entries will be evicted once the cache is full
 # + defaultMaxAgeInSeconds - The default value in seconds which all the cache entries are valid.
 #                            '-1' means, the entries are valid forever. This will be overwritten by the the
@@ -46,18 +47,25 @@ boolean cleanupInProgress = false;
 
 // Cleanup service which cleans the cache entries periodically.
 service class CleanupService {
-    remote function onTrigger(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy) {
+    remote function onTrigger(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy,
+                              boolean nativeEviction) {
         // This check will skip the processes triggered while the clean up in progress.
         if (!cleanupInProgress) {
             cleanupInProgress = true;
-            cleanup(cache, list, evictionPolicy);
+            if (nativeEviction) {
+                externRemoveExpired(cache);
+            } else {
+                cleanup(cache, list, evictionPolicy);
+            }
             cleanupInProgress = false;
         }
     }
 }
 
 # The `cache:Cache` object, which is used for all the cache-related operations. It is not recommended to insert `()`
-# as the value of the cache since it doesn't make any sense to cache a nil.
+# as the value of the cache since it doesn't make any sense to cache a nil. With the eviction policies of this module,
+# the entries, their recency order and their expiry are maintained natively by a concurrent data structure, so that
+# the cache can be shared by strands which run in parallel. A custom eviction policy is invoked within a lock.
 public class Cache {
 
     *AbstractCache;
@@ -67,6 +75,7 @@ public class Cache {
     private float evictionFactor;
     private int defaultMaxAgeInSeconds;
     private LinkedList list;
+    private boolean nativeEviction;
 
     # Called when a new `cache:Cache` object is created.
     #
@@ -96,7 +105,7 @@ public class Cache {
             tail: ()
         };
 
-        externInit(self, self.capacity_);
+        self.nativeEviction = externInit(self, self.evictionPolicy, self.capacity_, self.evictionFactor);
 
         int? cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds;
         if (cleanupIntervalInSeconds is int) {
@@ -105,7 +114,8 @@ public class Cache {
                 initialDelayInMillis: cleanupIntervalInSeconds
             };
             task:Scheduler cleanupScheduler = new(timerConfiguration);
-            task:SchedulerError? result = cleanupScheduler.attach(new CleanupService(), self, self.list, self.evictionPolicy);
+            task:SchedulerError? result = cleanupScheduler.attach(new CleanupService(), self, self.list,
+                                                                  self.evictionPolicy, self.nativeEviction);
             if (result is task:SchedulerError) {
                 panic prepareError("Failed to create the cache cleanup task.", result);
             }
@@ -129,11 +139,6 @@ public class Cache {
             return prepareError("Unsupported cache value '()' for the key: " + key + ".",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
-        // If the current cache is full (i.e. size = capacity), evict cache.
-        if (self.size() == self.capacity_) {
-            evict(self, self.list, self.evictionPolicy, self.capacity_, self.evictionFactor);
-        }
-
         // Calculate the `expTime` of the cache entry based on the `maxAgeInSeconds` property and
         // `defaultMaxAgeInSeconds` property.
         int calculatedExpTime = -1;
@@ -145,20 +150,32 @@ public class Cache {
             }
         }
 
-        CacheEntry entry = {
-            key: key,
-            data: value,
-            expTime: calculatedExpTime
-        };
-        Node newNode = { value: entry };
+        if (self.nativeEviction) {
+            externPut(self, key, value, calculatedExpTime);
+            return;
+        }
 
-        if (self.hasKey(key)) {
-            Node oldNode = externGet(self, key);
-            self.evictionPolicy.replace(self.list, newNode, oldNode);
-        } else {
-            self.evictionPolicy.put(self.list, newNode);
+        lock {
+            // If the current cache is full (i.e. size = capacity), evict cache.
+            if (self.size() == self.capacity_) {
+                evict(self, self.list, self.evictionPolicy, self.capacity_, self.evictionFactor);
+            }
+
+            CacheEntry entry = {
+                key: key,
+                data: value,
+                expTime: calculatedExpTime
+            };
+            Node newNode = { value: entry };
+
+            any|error oldNode = externGet(self, key);
+            if (oldNode is Node) {
+                self.evictionPolicy.replace(self.list, newNode, oldNode);
+            } else {
+                self.evictionPolicy.put(self.list, newNode);
+            }
+            externPut(self, key, newNode, -1);
         }
-        externPut(self, key, newNode);
     }
 
     # Returns the cached value associated with the provided key.
@@ -167,25 +184,39 @@ public class Cache {
     # + return - The cached value associated with the provided key or an `Error` if the provided cache key is not
     #            exisiting in the cache or any error occurred while retrieving the value from the cache.
     public function get(string key) returns any|Error {
-        if (!self.hasKey(key)) {
-            return prepareError("Cache entry from the given key: " + key + ", is not available.",
-                                logLevel = LOG_LEVEL_DEBUG);
+        if (self.nativeEviction) {
+            // An expired entry is removed by `externGet`, which returns `()` for it.
+            any|error value = externGet(self, key);
+            if (value is error) {
+                return prepareError("Cache entry from the given key: " + key + ", is not available.",
+                                    logLevel = LOG_LEVEL_DEBUG);
+            }
+            return value;
         }
 
-        Node node = externGet(self, key);
-        CacheEntry entry = <CacheEntry>node.value;
+        lock {
+            any|error value = externGet(self, key);
+            if (!(value is Node)) {
+                return prepareError("Cache entry from the given key: " + key + ", is not available.",
+                                    logLevel = LOG_LEVEL_DEBUG);
+            }
 
-        // Check whether the cache entry is already expired. Even though the cache cleaning task is configured
-        // and runs in predefined intervals, sometimes the cache entry might not have been removed at this point
-        // even though it is expired. So this check guarantees that the expired cache entries will not be returned.
-        if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
-            self.evictionPolicy.remove(self.list, node);
-            externRemove(self, key);
-            return ();
-        }
+            Node node = <Node>value;
+            CacheEntry entry = <CacheEntry>node.value;
 
-        self.evictionPolicy.get(self.list, node);
-        return entry.data;
+            // Check whether the cache entry is already expired. Even though the cache cleaning task is configured
+            // and runs in predefined intervals, sometimes the cache entry might not have been removed at this point
+            // even though it is expired. So this check guarantees that the expired cache entries will not be
+            // returned.
+            if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
+                self.evictionPolicy.remove(self.list, node);
+                _ = externRemove(self, key);
+                return ();
+            }
+
+            self.evictionPolicy.get(self.list, node);
+            return entry.data;
+        }
     }
 
     # Discards a cached value from the cache.
@@ -194,14 +225,23 @@ public class Cache {
     # + return - `()` if successfully discarded the value or an `Error` if the provided cache key is not present in the
     #            cache
     public function invalidate(string key) returns Error? {
-        if (!self.hasKey(key)) {
-            return prepareError("Cache entry from the given key: " + key + ", is not available.",
-                                logLevel = LOG_LEVEL_DEBUG);
+        if (self.nativeEviction) {
+            if (!externRemove(self, key)) {
+                return prepareError("Cache entry from the given key: " + key + ", is not available.",
+                                    logLevel = LOG_LEVEL_DEBUG);
+            }
+            return;
         }
 
-        Node node = externGet(self, key);
-        self.evictionPolicy.remove(self.list, node);
-        externRemove(self, key);
+        lock {
+            any|error node = externGet(self, key);
+            if (!(node is Node)) {
+                return prepareError("Cache entry from the given key: " + key + ", is not available.",
+                                    logLevel = LOG_LEVEL_DEBUG);
+            }
+            self.evictionPolicy.remove(self.list, <Node>node);
+            _ = externRemove(self, key);
+        }
     }
 
     # Discards all the cached values from the cache.
@@ -209,8 +249,15 @@ public class Cache {
     # + return - `()` if successfully discarded all the values from the cache or an `Error` if any error occurred while
     # discarding all the values from the cache.
     public function invalidateAll() returns Error? {
-        self.evictionPolicy.clear(self.list);
-        externRemoveAll(self);
+        if (self.nativeEviction) {
+            externRemoveAll(self);
+            return;
+        }
+
+        lock {
+            self.evictionPolicy.clear(self.list);
+            externRemoveAll(self);
+        }
     }
 
     # Checks whether the given key has an associated cached value.
@@ -250,9 +297,7 @@ function evict(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPoli
         Node? node = evictionPolicy.evict(list);
         if (node is Node) {
             CacheEntry entry = <CacheEntry>node.value;
-            externRemove(cache, entry.key);
-            // The return result (error which occurred due to unavailability of the key or nil) is ignored
-            // since no purpose of handling it.
+            _ = externRemove(cache, entry.key);
         } else {
             break;
         }
@@ -260,35 +305,34 @@ function evict(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPoli
 }
 
 function cleanup(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy) {
-    if (externSize(cache) == 0) {
-        return;
-    }
-    foreach string key in externKeys(cache) {
-        Node node = externGet(cache, key);
-        CacheEntry entry = <CacheEntry>node.value;
-        if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
-            evictionPolicy.remove(list, node);
-            externRemove(cache, entry.key);
-            // The return result (error which occurred due to unavailability of the key or nil) is ignored
-            // since no purpose of handling it.
-            return;
+    lock {
+        foreach string key in externKeys(cache) {
+            any|error value = externGet(cache, key);
+            if (value is Node) {
+                CacheEntry entry = <CacheEntry>value.value;
+                if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
+                    evictionPolicy.remove(list, value);
+                    _ = externRemove(cache, entry.key);
+                }
+            }
         }
     }
 }
 
-function externInit(Cache cache, int capacity) = @java:Method {
+function externInit(Cache cache, AbstractEvictionPolicy evictionPolicy, int capacity, float evictionFactor)
+        returns boolean = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externPut(Cache cache, string key, Node value) = @java:Method {
+function externPut(Cache cache, string key, any value, int expTime) = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externGet(Cache cache, string key) returns Node = @java:Method {
+function externGet(Cache cache, string key) returns any|error = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externRemove(Cache cache, string key) = @java:Method {
+function externRemove(Cache cache, string key) returns boolean = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
@@ -296,6 +340,10 @@ function externRemoveAll(Cache cache) = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
+function externRemoveExpired(Cache cache) = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
 function externHasKey(Cache cache, string key) returns boolean = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
@@ -15,7 +15,8 @@
 // under the License.
 
 # The `cache:LruEvictionPolicy` object consists of the LRU eviction algorithm related operations based on a linked
-# list data structure.
+# list data structure. When used with the `cache:Cache` object, the policy is implemented natively, and the recency
+# order is updated without locking the cache on each read.
 public class LruEvictionPolicy {
 
     *AbstractEvictionPolicy;
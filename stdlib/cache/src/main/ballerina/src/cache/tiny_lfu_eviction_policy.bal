@@ -0,0 +1,78 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# The `cache:TinyLfuEvictionPolicy` object selects the entries to be evicted based on both the recency and the
+# frequency of use. When the cache is full, a new entry is admitted only if its key is used more frequently than the
+# key of the least recently used entry, which is evicted in its place. Otherwise, the new entry is discarded. This
+# keeps the frequently used entries in the cache, when it is filled with entries which are used only once.
+#
+# The policy is implemented natively by the `cache:Cache` object, which evicts one entry at a time irrespective of
+# the `evictionFactor`. The operations below maintain the linked list in the LRU order, for the use of the policy
+# outside of a `cache:Cache`.
+public class TinyLfuEvictionPolicy {
+
+    *AbstractEvictionPolicy;
+
+    # Updates the linked list based on the get operation.
+    #
+    # + list - Linked list data structure, which is used to govern the eviction policy
+    # + node - Node of the linked list, which is retrieved
+    public function get(LinkedList list, Node node) {
+        remove(list, node);
+        addFirst(list, node);
+    }
+
+    # Updates the linked list based on the put operation.
+    #
+    # + list - Linked list data structure, which is used to govern the eviction policy
+    # + node - Node of the linked list, which is added newly
+    public function put(LinkedList list, Node node) {
+        addFirst(list, node);
+    }
+
+    # Updates the linked list based on the remove operation.
+    #
+    # + list - Linked list data structure, which is used to govern the eviction policy
+    # + node - Node of the linked list, which is deleted
+    public function remove(LinkedList list, Node node) {
+        remove(list, node);
+    }
+
+    # Updates the linked list based on the replace operation.
+    #
+    # + list - Linked list data structure, which is used to govern the eviction policy
+    # + newNode - Node of the linked list, which will be replacing the `oldNode`
+    # + oldNode - Node of the linked list, which will be replaced by the `newNode`
+    public function replace(LinkedList list, Node newNode, Node oldNode) {
+        remove(list, oldNode);
+        addFirst(list, newNode);
+    }
+
+    # Updates the linked list based on the clear operation.
+    #
+    # + list - Linked list data structure, which is used to govern the eviction policy
+    public function clear(LinkedList list) {
+        clear(list);
+    }
+
+    # Updates the linked list based on the evict operation.
+    #
+    # + list - Linked list data structure, which is used to govern the eviction policy
+    # + return - The Node, which is evicted from the linked list or `()` if nothing to be evicted
+    public function evict(LinkedList list) returns Node? {
+        return removeLast(list);
+    }
+}
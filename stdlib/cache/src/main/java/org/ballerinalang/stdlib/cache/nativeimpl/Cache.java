@@ -18,16 +18,18 @@
 
 package org.ballerinalang.stdlib.cache.nativeimpl;
 
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
-import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
- * Ballerina function to cache with java.util.concurrent.ConcurrentHashMap.
+ * Ballerina functions of the cache, backed by a {@link ConcurrentCache}.
  *
  * @since 2.0.0
  */
@@ -35,50 +37,91 @@ public class Cache {
 
     public static final String CACHE_MAP = "CACHE_MAP";
 
-    public static void externInit(BObject cache, int capacity) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map = new ConcurrentHashMap<>(capacity);
-        cache.addNativeData(CACHE_MAP, map);
+    private static final String PACKAGE_ORG = "ballerina";
+    private static final String PACKAGE_NAME = "cache";
+    private static final String LRU_EVICTION_POLICY = "LruEvictionPolicy";
+    private static final String TINY_LFU_EVICTION_POLICY = "TinyLfuEvictionPolicy";
+    // Returned by `externGet` for a key which is not in the cache, so that it is not confused with an expired entry
+    private static final BError KEY_NOT_FOUND = ErrorCreator.createError(StringUtils.fromString("key not found"));
+
+    /**
+     * Initializes the native cache of the given cache object. The eviction policies of this module are implemented
+     * natively. For any other eviction policy, the cache does not evict entries by itself, and the caller maintains
+     * the linked list of the policy.
+     *
+     * @param cache          cache object
+     * @param evictionPolicy eviction policy of the cache
+     * @param capacity       maximum number of entries in the cache
+     * @param evictionFactor factor of the capacity, which is evicted at once when the cache is full
+     * @return true if the entries are evicted by the native cache
+     */
+    public static boolean externInit(BObject cache, BObject evictionPolicy, long capacity, double evictionFactor) {
+        String policyName = getPolicyName(evictionPolicy);
+        if (LRU_EVICTION_POLICY.equals(policyName)) {
+            cache.addNativeData(CACHE_MAP, ConcurrentCache.lru((int) capacity, (int) (capacity * evictionFactor)));
+            return true;
+        } else if (TINY_LFU_EVICTION_POLICY.equals(policyName)) {
+            cache.addNativeData(CACHE_MAP, ConcurrentCache.tinyLfu((int) capacity));
+            return true;
+        }
+        cache.addNativeData(CACHE_MAP, ConcurrentCache.unbounded());
+        return false;
     }
 
-    public static void externPut(BObject cache, BString key, BMap<BString, Object> value) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.put(key, value);
+    public static void externPut(BObject cache, BString key, Object value, long expTime) {
+        getCache(cache).put(key, value, expTime, System.nanoTime());
     }
 
-    public static BMap<BString, Object> externGet(BObject cache, BString key) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.get(key);
+    /**
+     * Returns the value of the given key. An expired entry is removed, and `()` is returned.
+     *
+     * @param cache cache object
+     * @param key   key of the entry
+     * @return the value of the entry, `()` if the entry has expired, or an error if the key is not in the cache
+     */
+    public static Object externGet(BObject cache, BString key) {
+        long currentTime = System.nanoTime();
+        ConcurrentCache.CacheNode node = getCache(cache).get(key, currentTime);
+        if (node == null) {
+            return KEY_NOT_FOUND;
+        }
+        return node.isExpired(currentTime) ? null : node.getValue();
     }
 
-    public static void externRemove(BObject cache, BString key) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.remove(key);
+    public static boolean externRemove(BObject cache, BString key) {
+        return getCache(cache).remove(key);
     }
 
     public static void externRemoveAll(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.clear();
+        getCache(cache).clear();
+    }
+
+    public static void externRemoveExpired(BObject cache) {
+        getCache(cache).removeExpired(System.nanoTime());
     }
 
     public static boolean externHasKey(BObject cache, BString key) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.containsKey(key);
+        return getCache(cache).containsKey(key);
     }
 
     public static BArray externKeys(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return ValueCreator.createArrayValue(map.keySet().toArray(new BString[0]));
+        return ValueCreator.createArrayValue(getCache(cache).keySet().toArray(new BString[0]));
     }
 
     public static int externSize(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.size();
+        return getCache(cache).size();
+    }
+
+    private static ConcurrentCache getCache(BObject cache) {
+        return (ConcurrentCache) cache.getNativeData(CACHE_MAP);
+    }
+
+    private static String getPolicyName(BObject evictionPolicy) {
+        Type type = evictionPolicy.getType();
+        Module module = type.getPackage();
+        if (module == null || !PACKAGE_ORG.equals(module.getOrg()) || !PACKAGE_NAME.equals(module.getName())) {
+            return "";
+        }
+        return type.getName();
     }
 }
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent cache with bounded capacity, which evicts entries based on either the LRU or the TinyLFU policy.
+ * <p>
+ * The entries are stored in a {@link ConcurrentHashMap}, so reads and writes of different keys do not block each
+ * other. The recency order of the entries is kept in a doubly linked list, which is only modified while holding the
+ * eviction lock. A read does not take the lock, but records the entry in a ring buffer, which is drained into the
+ * recency order by the next write, or by a read which finds the buffer half full. The buffer is lossy, so under
+ * heavy contention some reads may not update the recency order.
+ * <p>
+ * With the TinyLFU policy, the access frequency of the keys is estimated with a {@link FrequencySketch}. When the
+ * cache is full, a new entry is admitted only if its key is used more frequently than the key of the least recently
+ * used entry, so that a burst of one time keys does not flush the frequently used entries out of the cache.
+ * <p>
+ * The entries which expire are indexed by their expiry time in a {@link TimerWheel}. The wheel is advanced by the
+ * writes, by the reads which drain the read buffer, and by the cleanup task of the cache, so that the expired entries
+ * are removed without scanning the keys of the cache.
+ *
+ * @since 2.0.0
+ */
+public class ConcurrentCache {
+
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 2;
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    private final ConcurrentHashMap<BString, CacheNode> map;
+    private final int capacity;
+    private final int evictionCount;
+    private final FrequencySketch sketch;
+    // Guarded by the eviction lock
+    private final TimerWheel timerWheel;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicReferenceArray<CacheNode> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readBufferWriteCount = new AtomicLong();
+    // Written while holding the eviction lock
+    private volatile long readBufferReadCount;
+    // Least recently used entry, guarded by the eviction lock
+    private CacheNode head;
+    // Most recently used entry, guarded by the eviction lock
+    private CacheNode tail;
+
+    /**
+     * Creates a cache which evicts the least recently used entries.
+     *
+     * @param capacity      maximum number of entries in the cache
+     * @param evictionCount number of entries evicted at once, when the cache is full
+     * @return the cache
+     */
+    public static ConcurrentCache lru(int capacity, int evictionCount) {
+        return new ConcurrentCache(capacity, evictionCount, null);
+    }
+
+    /**
+     * Creates a cache which admits new entries based on the access frequency of the keys.
+     *
+     * @param capacity maximum number of entries in the cache
+     * @return the cache
+     */
+    public static ConcurrentCache tinyLfu(int capacity) {
+        return new ConcurrentCache(capacity, 1, new FrequencySketch(capacity));
+    }
+
+    /**
+     * Creates a cache which never evicts entries, for which the eviction is done by the caller.
+     *
+     * @return the cache
+     */
+    public static ConcurrentCache unbounded() {
+        return new ConcurrentCache(Integer.MAX_VALUE, 1, null);
+    }
+
+    private ConcurrentCache(int capacity, int evictionCount, FrequencySketch sketch) {
+        this.map = new ConcurrentHashMap<>(Math.min(capacity, MAX_INITIAL_CAPACITY));
+        this.capacity = capacity;
+        this.evictionCount = Math.max(1, evictionCount);
+        this.sketch = sketch;
+        this.timerWheel = new TimerWheel(System.nanoTime(), this::expireNode);
+    }
+
+    /**
+     * Returns the entry of the given key, or null if the key is not in the cache. An expired entry is removed and
+     * returned, so that the caller can differentiate it from a missing key.
+     *
+     * @param key         key of the entry
+     * @param currentTime the current time in nanoseconds, as returned by {@link System#nanoTime()}
+     * @return the entry of the given key
+     */
+    public CacheNode get(BString key, long currentTime) {
+        CacheNode node = map.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (node.isExpired(currentTime)) {
+            remove(key, node);
+            return node;
+        }
+        recordRead(node, currentTime);
+        return node;
+    }
+
+    /**
+     * Adds an entry to the cache, replacing the entry of the key if there is one. If the cache is full, entries are
+     * evicted according to the policy of the cache. With the TinyLFU policy, this may be the new entry itself.
+     *
+     * @param key         key of the entry
+     * @param value       value of the entry
+     * @param expTime     time in nanoseconds at which the entry expires, or -1 if the entry does not expire
+     * @param currentTime the current time in nanoseconds, as returned by {@link System#nanoTime()}
+     */
+    public void put(BString key, Object value, long expTime, long currentTime) {
+        CacheNode node = new CacheNode(key, value, expTime);
+        CacheNode oldNode = map.put(key, node);
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            timerWheel.advance(currentTime);
+            if (oldNode != null) {
+                discard(oldNode);
+            }
+            // A concurrent put or remove of the same key may have already replaced this entry in the map.
+            if (map.get(key) != node) {
+                return;
+            }
+            linkLast(node);
+            if (node.expTime != -1) {
+                timerWheel.schedule(node);
+            }
+            if (sketch != null) {
+                sketch.increment(key.hashCode());
+            }
+            evict(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry of the given key.
+     *
+     * @param key key of the entry
+     * @return true if the key was in the cache
+     */
+    public boolean remove(BString key) {
+        CacheNode node = map.remove(key);
+        if (node == null) {
+            return false;
+        }
+        evictionLock.lock();
+        try {
+            discard(node);
+        } finally {
+            evictionLock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Removes all the entries of the cache.
+     */
+    public void clear() {
+        evictionLock.lock();
+        try {
+            map.clear();
+            for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+                readBuffer.set(i, null);
+            }
+            readBufferReadCount = readBufferWriteCount.get();
+            CacheNode node = head;
+            while (node != null) {
+                CacheNode next = node.next;
+                node.prev = null;
+                node.next = null;
+                node.linked = false;
+                node = next;
+            }
+            head = null;
+            tail = null;
+            timerWheel.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the expired entries of the cache. Only the buckets of the timer wheel which have elapsed since the
+     * last removal are visited, so the cost is proportional to the number of expired entries.
+     *
+     * @param currentTime the current time in nanoseconds, as returned by {@link System#nanoTime()}
+     */
+    public void removeExpired(long currentTime) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            timerWheel.advance(currentTime);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public boolean containsKey(BString key) {
+        return map.containsKey(key);
+    }
+
+    public Set<BString> keySet() {
+        return map.keySet();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    private void remove(BString key, CacheNode node) {
+        if (!map.remove(key, node)) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            discard(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void recordRead(CacheNode node, long currentTime) {
+        long writeCount = readBufferWriteCount.getAndIncrement();
+        readBuffer.lazySet((int) (writeCount & READ_BUFFER_MASK), node);
+        if (writeCount - readBufferReadCount >= READ_BUFFER_DRAIN_THRESHOLD && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+                timerWheel.advance(currentTime);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    // Must be called while holding the eviction lock.
+    private void drainReadBuffer() {
+        long writeCount = readBufferWriteCount.get();
+        // Slots which were overwritten before being drained are lost.
+        long start = Math.max(readBufferReadCount, writeCount - READ_BUFFER_SIZE);
+        for (long i = start; i < writeCount; i++) {
+            CacheNode node = readBuffer.getAndSet((int) (i & READ_BUFFER_MASK), null);
+            if (node == null) {
+                continue;
+            }
+            if (node.linked) {
+                unlink(node);
+                linkLast(node);
+            }
+            if (sketch != null) {
+                sketch.increment(node.key.hashCode());
+            }
+        }
+        readBufferReadCount = writeCount;
+    }
+
+    // Must be called while holding the eviction lock.
+    private void evict(CacheNode candidate) {
+        if (map.size() <= capacity) {
+            return;
+        }
+        if (sketch == null) {
+            for (int i = 0; i < evictionCount && head != candidate; i++) {
+                evictNode(head);
+            }
+            return;
+        }
+        while (map.size() > capacity && head != candidate) {
+            CacheNode victim = head;
+            if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+                evictNode(victim);
+            } else {
+                evictNode(candidate);
+                return;
+            }
+        }
+    }
+
+    private void evictNode(CacheNode node) {
+        discard(node);
+        map.remove(node.key, node);
+    }
+
+    // Called by the timer wheel, which has already removed the entry from its bucket.
+    private void expireNode(CacheNode node) {
+        unlink(node);
+        map.remove(node.key, node);
+    }
+
+    private void discard(CacheNode node) {
+        unlink(node);
+        timerWheel.deschedule(node);
+    }
+
+    private void linkLast(CacheNode node) {
+        node.prev = tail;
+        node.next = null;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        node.linked = true;
+    }
+
+    private void unlink(CacheNode node) {
+        if (!node.linked) {
+            return;
+        }
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.linked = false;
+    }
+
+    /**
+     * Entry of the cache.
+     */
+    public static class CacheNode {
+
+        private final BString key;
+        private final Object value;
+        private final long expTime;
+        // Guarded by the eviction lock
+        private CacheNode prev;
+        private CacheNode next;
+        private boolean linked;
+        // Links of the bucket of the timer wheel, also guarded by the eviction lock
+        CacheNode timerPrev;
+        CacheNode timerNext;
+
+        CacheNode(BString key, Object value, long expTime) {
+            this.key = key;
+            this.value = value;
+            this.expTime = expTime;
+        }
+
+        // Head of a bucket of the timer wheel
+        static CacheNode createSentinel() {
+            CacheNode sentinel = new CacheNode(null, null, -1);
+            sentinel.timerPrev = sentinel;
+            sentinel.timerNext = sentinel;
+            return sentinel;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        long getExpTime() {
+            return expTime;
+        }
+
+        public boolean isExpired(long currentTime) {
+            return expTime != -1 && expTime < currentTime;
+        }
+    }
+}
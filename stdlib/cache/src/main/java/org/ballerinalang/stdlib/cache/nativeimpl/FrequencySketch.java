@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+/**
+ * Approximate access frequency of the cache keys, used by the TinyLFU admission policy. This is a count-min sketch
+ * with four 4-bit counters per key. Once the number of recorded accesses reaches ten times the capacity of the cache,
+ * all the counters are halved, so that the frequencies reflect the recent history of the cache.
+ * <p>
+ * The sketch is not thread safe. It is only accessed while holding the eviction lock of the cache.
+ *
+ * @since 2.0.0
+ */
+class FrequencySketch {
+
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+            0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    FrequencySketch(int capacity) {
+        int tableSize = Integer.highestOneBit(Math.max(1, Math.min(capacity, 1 << 26)) - 1) << 1;
+        this.table = new long[Math.max(1, tableSize)];
+        this.tableMask = table.length - 1;
+        this.sampleSize = capacity > Integer.MAX_VALUE / 10 ? Integer.MAX_VALUE : capacity * 10;
+    }
+
+    /**
+     * Returns the estimated number of accesses of the given key, up to 15.
+     *
+     * @param hashCode hash code of the key
+     * @return the estimated frequency
+     */
+    int frequency(int hashCode) {
+        int hash = spread(hashCode);
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            frequency = Math.min(frequency, getCount(hash, i));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the given key.
+     *
+     * @param hashCode hash code of the key
+     */
+    void increment(int hashCode) {
+        int hash = spread(hashCode);
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementCount(hash, i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private int getCount(int hash, int i) {
+        int index = indexOf(hash, i);
+        int offset = counterOffset(hash, i);
+        return (int) ((table[index] >>> offset) & 0xfL);
+    }
+
+    private boolean incrementCount(int hash, int i) {
+        int index = indexOf(hash, i);
+        int offset = counterOffset(hash, i);
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) == mask) {
+            return false;
+        }
+        table[index] += 1L << offset;
+        return true;
+    }
+
+    // Halves all the counters, so that old accesses have less weight than the recent ones.
+    private void reset() {
+        int oddCounters = 0;
+        for (int i = 0; i < table.length; i++) {
+            oddCounters += Long.bitCount(table[i] & 0x1111111111111111L);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size - (oddCounters >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long value = (hash + SEEDS[i]) * SEEDS[i];
+        value += value >>> 32;
+        return ((int) value) & tableMask;
+    }
+
+    // Each long holds 16 counters, and each of the four hash functions uses a different group of four counters.
+    private static int counterOffset(int hash, int i) {
+        return ((((hash >>> (i << 3)) & 3) << 2) + i) << 2;
+    }
+
+    private static int spread(int hashCode) {
+        int hash = ((hashCode >>> 16) ^ hashCode) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentCache.CacheNode;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timer wheel, which indexes the cache entries by their expiry time, so that the expired entries can be
+ * removed without scanning the whole cache.
+ * <p>
+ * Each level of the wheel is an array of buckets, and each bucket holds the entries which expire within a span of
+ * time. The spans are powers of two of nanoseconds, from about a second in the first level to about three days in the
+ * last one. When the wheel is advanced, only the buckets of the elapsed spans are visited. Their entries are either
+ * expired, or moved down to a level with a finer span. So each entry is visited a few times at most, and the cost of
+ * removing the expired entries is proportional to the number of expired entries rather than the size of the cache.
+ * <p>
+ * The wheel is not thread safe. It is only accessed while holding the eviction lock of the cache.
+ *
+ * @since 2.0.0
+ */
+class TimerWheel {
+
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    // 1.07s, 1.14m, 1.22h, 19.5h, 3.26d
+    private static final int[] SHIFT = {30, 36, 42, 46, 48};
+    private static final long[] SPANS = {1L << 30, 1L << 36, 1L << 42, 1L << 46, 1L << 48};
+
+    private final CacheNode[][] wheel;
+    private final Consumer<CacheNode> expiryListener;
+    // Times are kept relative to the creation of the wheel, as System.nanoTime() may be negative.
+    private final long origin;
+    private long nanos;
+
+    TimerWheel(long currentTime, Consumer<CacheNode> expiryListener) {
+        this.expiryListener = expiryListener;
+        this.origin = currentTime;
+        this.wheel = new CacheNode[BUCKETS.length][];
+        for (int i = 0; i < BUCKETS.length; i++) {
+            wheel[i] = new CacheNode[BUCKETS[i]];
+            for (int j = 0; j < BUCKETS[i]; j++) {
+                wheel[i][j] = CacheNode.createSentinel();
+            }
+        }
+    }
+
+    /**
+     * Adds an entry which expires, to the bucket of its expiry time.
+     *
+     * @param node entry to be added
+     */
+    void schedule(CacheNode node) {
+        // An entry which has already expired is added to the current bucket, which is visited by the next advance.
+        long expTime = Math.max(node.getExpTime() - origin, nanos);
+        long duration = expTime - nanos;
+        int level = BUCKETS.length - 1;
+        for (int i = 1; i < BUCKETS.length; i++) {
+            if (duration < SPANS[i]) {
+                level = i - 1;
+                break;
+            }
+        }
+        int index = (int) ((expTime >>> SHIFT[level]) & (BUCKETS[level] - 1));
+        link(wheel[level][index], node);
+    }
+
+    /**
+     * Removes an entry from the wheel, if it is scheduled.
+     *
+     * @param node entry to be removed
+     */
+    void deschedule(CacheNode node) {
+        if (node.timerNext == null) {
+            return;
+        }
+        node.timerPrev.timerNext = node.timerNext;
+        node.timerNext.timerPrev = node.timerPrev;
+        node.timerPrev = null;
+        node.timerNext = null;
+    }
+
+    /**
+     * Advances the wheel to the given time, and passes the entries which have expired by then to the expiry listener.
+     *
+     * @param currentTime the current time in nanoseconds, as returned by {@link System#nanoTime()}
+     */
+    void advance(long currentTime) {
+        long previousTime = nanos;
+        if (currentTime - origin <= previousTime) {
+            // The time was read by another thread before this one took the eviction lock.
+            return;
+        }
+        nanos = currentTime - origin;
+        for (int i = 0; i < SHIFT.length; i++) {
+            long previousTicks = previousTime >>> SHIFT[i];
+            long currentTicks = nanos >>> SHIFT[i];
+            if (currentTicks - previousTicks <= 0) {
+                break;
+            }
+            expire(i, previousTicks, currentTicks - previousTicks);
+        }
+    }
+
+    /**
+     * Removes all the entries from the wheel.
+     */
+    void clear() {
+        for (CacheNode[] buckets : wheel) {
+            for (CacheNode sentinel : buckets) {
+                CacheNode node = sentinel.timerNext;
+                while (node != sentinel) {
+                    CacheNode next = node.timerNext;
+                    node.timerPrev = null;
+                    node.timerNext = null;
+                    node = next;
+                }
+                sentinel.timerPrev = sentinel;
+                sentinel.timerNext = sentinel;
+            }
+        }
+    }
+
+    private void expire(int level, long previousTicks, long delta) {
+        CacheNode[] buckets = wheel[level];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(delta + 1, buckets.length);
+        int start = (int) (previousTicks & mask);
+        for (int i = start; i < start + steps; i++) {
+            CacheNode sentinel = buckets[i & mask];
+            CacheNode node = sentinel.timerNext;
+            sentinel.timerPrev = sentinel;
+            sentinel.timerNext = sentinel;
+            while (node != sentinel) {
+                CacheNode next = node.timerNext;
+                node.timerPrev = null;
+                node.timerNext = null;
+                if (node.getExpTime() - origin < nanos) {
+                    expiryListener.accept(node);
+                } else {
+                    // The entry expires later within the span of the bucket, or after a full turn of the level.
+                    schedule(node);
+                }
+                node = next;
+            }
+        }
+    }
+
+    private static void link(CacheNode sentinel, CacheNode node) {
+        node.timerPrev = sentinel.timerPrev;
+        node.timerNext = sentinel;
+        sentinel.timerPrev.timerNext = node;
+        sentinel.timerPrev = node;
+    }
+}
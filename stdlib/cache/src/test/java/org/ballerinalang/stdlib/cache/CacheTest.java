@@ -285,6 +285,44 @@ public class CacheTest {
         BRunUtil.invoke(compileResult, "testCreateCacheWithNegativeDefaultMaxAge");
     }
 
+    @Test
+    public void testTinyLfuAdmission() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testTinyLfuAdmission");
+        String[] expected = new String[]{"A", "B", "C"};
+        String[] actual = removeEmptyValues(((BValueArray) returns[0]).getStringArray());
+        // The keys of the cache are not ordered
+        Arrays.sort(actual);
+        Assert.assertTrue(Arrays.equals(actual, expected));
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
+    }
+
+    @Test
+    public void testCustomEvictionPolicy() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCustomEvictionPolicy");
+        String[] expected = new String[]{"B", "C", "D"};
+        String[] actual = removeEmptyValues(((BValueArray) returns[0]).getStringArray());
+        // The keys of the cache are not ordered
+        Arrays.sort(actual);
+        Assert.assertTrue(Arrays.equals(actual, expected));
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
+    }
+
+    @Test
+    public void testConcurrentAccess() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testConcurrentAccess");
+        Assert.assertTrue(((BInteger) returns[0]).intValue() <= 50);
+    }
+
+    @Test
+    public void testExpiredEntriesRemovedByPut() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testExpiredEntriesRemovedByPut");
+        String[] expected = new String[]{"A", "B"};
+        String[] actual = removeEmptyValues(((BValueArray) returns[0]).getStringArray());
+        Arrays.sort(actual);
+        Assert.assertTrue(Arrays.equals(actual, expected));
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
+    }
+
     private String[] removeEmptyValues(String[] arr) {
         List<String> list = new ArrayList<>(Arrays.asList(arr));
         list.removeAll(Arrays.asList("", null));
@@ -293,3 +293,107 @@ function testCreateCacheWithNegativeDefaultMaxAge() {
     };
     cache:Cache c = new(config);
 }
+
+function testTinyLfuAdmission() returns [string[], int] {
+    cache:CacheConfig config = {
+        capacity: 3,
+        evictionPolicy: new cache:TinyLfuEvictionPolicy()
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    checkpanic cache.put("C", "3");
+    foreach int i in 1...3 {
+        any|cache:Error a = cache.get("A");
+        any|cache:Error b = cache.get("B");
+        any|cache:Error c = cache.get("C");
+    }
+    // "D" is used less frequently than the other keys, so it is not admitted.
+    checkpanic cache.put("D", "4");
+    return [cache.keys(), cache.size()];
+}
+
+function testCustomEvictionPolicy() returns [string[], int] {
+    cache:CacheConfig config = {
+        capacity: 3,
+        evictionPolicy: new FifoEvictionPolicy(),
+        evictionFactor: 0.4
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    checkpanic cache.put("C", "3");
+    any|cache:Error x = cache.get("A");
+    checkpanic cache.put("D", "4");
+    return [cache.keys(), cache.size()];
+}
+
+function testConcurrentAccess() returns int {
+    cache:CacheConfig config = {
+        capacity: 50,
+        evictionFactor: 0.2
+    };
+    cache:Cache cache = new(config);
+    future<()>[] futures = [];
+    foreach int i in 0..<4 {
+        future<()> f = start updateCache(cache, i);
+        futures.push(f);
+    }
+    foreach future<()> f in futures {
+        _ = wait f;
+    }
+    return cache.size();
+}
+
+function updateCache(cache:Cache cache, int workerId) {
+    foreach int i in 0..<500 {
+        string key = ((workerId * 31 + i) % 100).toString();
+        any|cache:Error value = cache.get(key);
+        if (value is cache:Error) {
+            checkpanic cache.put(key, i);
+        }
+    }
+}
+
+function testExpiredEntriesRemovedByPut() returns [string[], int] {
+    cache:CacheConfig config = {
+        capacity: 1000
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    foreach int i in 0..<500 {
+        checkpanic cache.put(i.toString(), i, 1);
+    }
+    runtime:sleep(2500);
+    checkpanic cache.put("B", "2");
+    return [cache.keys(), cache.size()];
+}
+
+class FifoEvictionPolicy {
+
+    *cache:AbstractEvictionPolicy;
+
+    public function get(cache:LinkedList list, cache:Node node) {
+    }
+
+    public function put(cache:LinkedList list, cache:Node node) {
+        cache:addFirst(list, node);
+    }
+
+    public function remove(cache:LinkedList list, cache:Node node) {
+        cache:remove(list, node);
+    }
+
+    public function replace(cache:LinkedList list, cache:Node newNode, cache:Node oldNode) {
+        cache:remove(list, oldNode);
+        cache:addFirst(list, newNode);
+    }
+
+    public function clear(cache:LinkedList list) {
+        cache:clear(list);
+    }
+
+    public function evict(cache:LinkedList list) returns cache:Node? {
+        return cache:removeLast(list);
+    }
+}
@@ -0,0 +1,84 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+# The hash algorithms supported by the `crypto:Hasher`.
+public type HashAlgorithm MD5|SHA1|SHA256|SHA384|SHA512;
+
+# The `MD5` hash algorithm.
+public const MD5 = "MD5";
+
+# The `SHA1` hash algorithm.
+public const SHA1 = "SHA1";
+
+# The `SHA256` hash algorithm.
+public const SHA256 = "SHA256";
+
+# The `SHA384` hash algorithm.
+public const SHA384 = "SHA384";
+
+# The `SHA512` hash algorithm.
+public const SHA512 = "SHA512";
+
+# Calculates the hash or the HMAC of data, which is given in chunks. This allows hashing a large payload as it is
+# read, without first collecting it into a single byte array. A `crypto:Hasher` should not be updated by strands
+# which run concurrently.
+# ```ballerina
+#  crypto:Hasher hasher = new(crypto:SHA256);
+#  hasher.update("Hello ".toBytes());
+#  hasher.update("Ballerina".toBytes());
+#  byte[] hash = hasher.finish();
+# ```
+public class Hasher {
+
+    # Called when a new `crypto:Hasher` object is created.
+    #
+    # + algorithm - Hash algorithm
+    # + key - Key used to calculate the HMAC of the data instead of the hash
+    public function init(HashAlgorithm algorithm, byte[]? key = ()) {
+        externInitHasher(self, algorithm, key);
+    }
+
+    # Adds a chunk of data to the hash.
+    #
+    # + input - Data to be hashed
+    public function update(byte[] input) {
+        externUpdateHasher(self, input);
+    }
+
+    # Completes the hash of the data added so far. The hasher is reset, so that it can be used to hash more data.
+    #
+    # + return - Hashed output
+    public function finish() returns byte[] {
+        return externFinishHasher(self);
+    }
+}
+
+function externInitHasher(Hasher hasher, string algorithm, byte[]? key) = @java:Method {
+    name: "init",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hasher"
+} external;
+
+function externUpdateHasher(Hasher hasher, byte[] input) = @java:Method {
+    name: "update",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hasher"
+} external;
+
+function externFinishHasher(Hasher hasher) returns byte[] = @java:Method {
+    name: "finish",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hasher"
+} external;
@@ -33,6 +33,8 @@ import java.security.Signature;
 import java.security.SignatureException;
 import java.security.spec.AlgorithmParameterSpec;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -73,6 +75,15 @@ public class CryptoUtils {
      */
     private static final int[] VALID_AES_KEY_SIZES = new int[] { 16, 24, 32 };
 
+    /*
+     * Instances of the algorithms, which are reused by each thread. Looking up the instances from the providers is
+     * costly, and the instances are not thread safe. Each instance is initialized or reset before it is used.
+     */
+    private static final ThreadLocal<Map<String, MessageDigest>> messageDigests = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Mac>> macs = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Signature>> signatures = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Cipher>> ciphers = ThreadLocal.withInitial(HashMap::new);
+
     private CryptoUtils() {
 
     }
@@ -88,7 +99,7 @@ public class CryptoUtils {
     public static byte[] hmac(String algorithm, byte[] key, byte[] input) {
         try {
             SecretKey secretKey = new SecretKeySpec(key, algorithm);
-            Mac mac = Mac.getInstance(algorithm);
+            Mac mac = getMac(algorithm);
             mac.init(secretKey);
             return mac.doFinal(input);
         } catch (NoSuchAlgorithmException | InvalidKeyException e) {
@@ -105,10 +116,9 @@ public class CryptoUtils {
      */
     public static byte[] hash(String algorithm, byte[] input) {
         try {
-            MessageDigest messageDigest;
-            messageDigest = MessageDigest.getInstance(algorithm);
-            messageDigest.update(input);
-            return messageDigest.digest();
+            MessageDigest messageDigest = getMessageDigest(algorithm);
+            messageDigest.reset();
+            return messageDigest.digest(input);
         } catch (NoSuchAlgorithmException e) {
             throw CryptoUtils.createError("Error occurred while calculating hash: " + e.getMessage());
         }
@@ -124,7 +134,7 @@ public class CryptoUtils {
      */
     public static Object sign(String algorithm, PrivateKey privateKey, byte[] input) {
         try {
-            Signature sig = Signature.getInstance(algorithm);
+            Signature sig = getSignature(algorithm);
             sig.initSign(privateKey);
             sig.update(input);
             return ValueCreator.createArrayValue(sig.sign());
@@ -146,7 +156,7 @@ public class CryptoUtils {
      */
     public static Object verify(String algorithm, PublicKey publicKey, byte[] data, byte[] signature) {
         try {
-            Signature sig = Signature.getInstance(algorithm);
+            Signature sig = getSignature(algorithm);
             sig.initVerify(publicKey);
             sig.update(data);
             return sig.verify(signature);
@@ -188,7 +198,7 @@ public class CryptoUtils {
                 return CryptoUtils.createError("Valid tag sizes are: " + Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance(Constants.RSA + "/" + transformedAlgorithmMode + "/"
+            Cipher cipher = getCipher(Constants.RSA + "/" + transformedAlgorithmMode + "/"
                     + transformedAlgorithmPadding);
             initCipher(cipher, cipherMode, key, paramSpec);
             return ValueCreator.createArrayValue(cipher.doFinal(input));
@@ -231,7 +241,7 @@ public class CryptoUtils {
                         Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance("AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding);
+            Cipher cipher = getCipher("AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding);
             initCipher(cipher, cipherMode, keySpec, paramSpec);
             return ValueCreator.createArrayValue(cipher.doFinal(input));
         } catch (NoSuchAlgorithmException e) {
@@ -246,6 +256,64 @@ public class CryptoUtils {
         }
     }
 
+    /**
+     * Returns the message digest of the given algorithm, which is reused by the current thread.
+     *
+     * @param algorithm hashing algorithm
+     * @return message digest instance
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     */
+    private static MessageDigest getMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, MessageDigest> instances = messageDigests.get();
+        MessageDigest messageDigest = instances.get(algorithm);
+        if (messageDigest == null) {
+            messageDigest = MessageDigest.getInstance(algorithm);
+            instances.put(algorithm, messageDigest);
+        }
+        return messageDigest;
+    }
+
+    /**
+     * Returns the MAC of the given algorithm, which is reused by the current thread.
+     *
+     * @param algorithm HMAC algorithm
+     * @return MAC instance, which has to be initialized with a key
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     */
+    private static Mac getMac(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, Mac> instances = macs.get();
+        Mac mac = instances.get(algorithm);
+        if (mac == null) {
+            mac = Mac.getInstance(algorithm);
+            instances.put(algorithm, mac);
+        }
+        return mac;
+    }
+
+    private static Signature getSignature(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, Signature> instances = signatures.get();
+        Signature signature = instances.get(algorithm);
+        if (signature == null) {
+            signature = Signature.getInstance(algorithm);
+            instances.put(algorithm, signature);
+        }
+        return signature;
+    }
+
+    private static Cipher getCipher(String transformation) throws NoSuchAlgorithmException, NoSuchPaddingException {
+        if (transformation.contains(Constants.GCM)) {
+            // A GCM cipher rejects to be initialized again with the same key and IV for encryption.
+            return Cipher.getInstance(transformation);
+        }
+        Map<String, Cipher> instances = ciphers.get();
+        Cipher cipher = instances.get(transformation);
+        if (cipher == null) {
+            cipher = Cipher.getInstance(transformation);
+            instances.put(transformation, cipher);
+        }
+        return cipher;
+    }
+
     /**
      * Initialize cipher for encryption and decryption operations.
      *
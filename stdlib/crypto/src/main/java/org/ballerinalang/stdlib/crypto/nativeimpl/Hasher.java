@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.crypto.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.stdlib.crypto.CryptoUtils;
+
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Extern functions of the ballerina hasher, which calculates a hash from chunks of data.
+ *
+ * @since 2.0.0
+ */
+public class Hasher {
+
+    // Native data key for the message digest or the MAC of the hasher
+    private static final String NATIVE_DATA_HASHER = "NATIVE_DATA_HASHER";
+
+    public static void init(BObject hasher, BString algorithm, Object key) {
+        String hashAlgorithm = algorithm.getValue();
+        try {
+            if (key == null) {
+                // The instance is kept by the hasher, so it is not taken from the instances reused by the thread.
+                hasher.addNativeData(NATIVE_DATA_HASHER, MessageDigest.getInstance(getDigestAlgorithm(hashAlgorithm)));
+            } else {
+                String hmacAlgorithm = "Hmac" + hashAlgorithm;
+                Mac mac = Mac.getInstance(hmacAlgorithm);
+                mac.init(new SecretKeySpec(((BArray) key).getBytes(), hmacAlgorithm));
+                hasher.addNativeData(NATIVE_DATA_HASHER, mac);
+            }
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw CryptoUtils.createError("Error occurred while initializing the hasher: " + e.getMessage());
+        }
+    }
+
+    public static void update(BObject hasher, BArray input) {
+        byte[] bytes = input.getBytes();
+        Object instance = hasher.getNativeData(NATIVE_DATA_HASHER);
+        if (instance instanceof Mac) {
+            ((Mac) instance).update(bytes);
+        } else {
+            ((MessageDigest) instance).update(bytes);
+        }
+    }
+
+    public static BArray finish(BObject hasher) {
+        Object instance = hasher.getNativeData(NATIVE_DATA_HASHER);
+        if (instance instanceof Mac) {
+            return ValueCreator.createArrayValue(((Mac) instance).doFinal());
+        }
+        return ValueCreator.createArrayValue(((MessageDigest) instance).digest());
+    }
+
+    private static String getDigestAlgorithm(String algorithm) {
+        // SHA1 is named SHA-1 by the message digests, and the other algorithms are named similarly.
+        return algorithm.startsWith("SHA") ? "SHA-" + algorithm.substring(3) : algorithm;
+    }
+}
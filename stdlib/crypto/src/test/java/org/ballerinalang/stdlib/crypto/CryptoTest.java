@@ -138,6 +138,52 @@ public class CryptoTest {
         Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSha512Hash);
     }
 
+    @Test(description = "Test hashing data given in chunks")
+    public void testHasher() throws DecoderException {
+        byte[] expectedMd5Hash = Hex.decodeHex("3B12196DB784CD9F86CC635D32764FDF".toCharArray());
+        byte[] expectedSha1Hash = Hex.decodeHex("73FBC15DB28D52C03359EDE7A7DC40B4A83DF207".toCharArray());
+        byte[] expectedSha256Hash = Hex
+                .decodeHex("68F6CA0B55B55099331BF4EAA659B8BDC94FBDCE2F54D94FD90DA8240797A5D7".toCharArray());
+        BValueArray input = new BValueArray("Ballerina test".getBytes(StandardCharsets.UTF_8));
+
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testHasher", new BValue[]{new BString("MD5"), input});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedMd5Hash);
+
+        returnValues = BRunUtil.invoke(compileResult, "testHasher", new BValue[]{new BString("SHA1"), input});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSha1Hash);
+
+        returnValues = BRunUtil.invoke(compileResult, "testHasher", new BValue[]{new BString("SHA256"), input});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSha256Hash);
+    }
+
+    @Test(description = "Test HMAC generation of data given in chunks")
+    public void testHmacHasher() throws DecoderException {
+        byte[] expectedSHA256Hash = Hex
+                .decodeHex("2651203E18BF0088D3EF1215022D147E2534FD4BAD5689C9E5F12436E9758B15".toCharArray());
+        BValue[] args = {new BString("SHA256"),
+                new BValueArray("Ballerina HMAC test".getBytes(StandardCharsets.UTF_8)),
+                new BValueArray("abcdefghijk".getBytes(StandardCharsets.UTF_8))};
+
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testHmacHasher", args);
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSHA256Hash);
+    }
+
+    @Test(description = "Test reusing a hasher after finishing a hash")
+    public void testHasherReuse() throws DecoderException {
+        byte[] expectedSha256Hash = Hex
+                .decodeHex("68F6CA0B55B55099331BF4EAA659B8BDC94FBDCE2F54D94FD90DA8240797A5D7".toCharArray());
+        BValue[] args = {new BValueArray("Ballerina test".getBytes(StandardCharsets.UTF_8))};
+
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testHasherReuse", args);
+        Assert.assertFalse(returnValues == null || returnValues.length < 2 || returnValues[1] == null);
+        Assert.assertNotEquals(((BValueArray) returnValues[0]).getBytes(), expectedSha256Hash);
+        Assert.assertEquals(((BValueArray) returnValues[1]).getBytes(), expectedSha256Hash);
+    }
+
     @Test(description = "Test CRC32b generation")
     public void testCRC32() {
         byte[] payload = "Ballerina test".getBytes(StandardCharsets.UTF_8);
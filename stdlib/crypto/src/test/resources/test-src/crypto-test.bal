@@ -60,6 +60,39 @@ function testHmacWithSHA512(byte[] input, byte[] key) returns byte[] {
     return crypto:hmacSha512(input, key);
 }
 
+function testHasher(crypto:HashAlgorithm algorithm, byte[] input) returns byte[] {
+    crypto:Hasher hasher = new(algorithm);
+    updateInChunks(hasher, input);
+    return hasher.finish();
+}
+
+function testHmacHasher(crypto:HashAlgorithm algorithm, byte[] input, byte[] key) returns byte[] {
+    crypto:Hasher hasher = new(algorithm, key);
+    updateInChunks(hasher, input);
+    return hasher.finish();
+}
+
+function testHasherReuse(byte[] input) returns [byte[], byte[]] {
+    crypto:Hasher hasher = new(crypto:SHA256);
+    hasher.update("Ballerina".toBytes());
+    byte[] first = hasher.finish();
+    updateInChunks(hasher, input);
+    return [first, hasher.finish()];
+}
+
+function updateInChunks(crypto:Hasher hasher, byte[] input) {
+    int chunkSize = 4;
+    int startIndex = 0;
+    while (startIndex < input.length()) {
+        int endIndex = startIndex + chunkSize;
+        if (endIndex > input.length()) {
+            endIndex = input.length();
+        }
+        hasher.update(input.slice(startIndex, endIndex));
+        startIndex = endIndex;
+    }
+}
+
 function testSignRsaSha1(byte[] input, string path, string keyStorePassword, string keyAlias, string keyPassword)
                          returns byte[]|crypto:Error {
     crypto:KeyStore keyStore = {
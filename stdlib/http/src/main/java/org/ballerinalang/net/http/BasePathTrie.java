@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Holds the base paths of the services registered under a host in a trie of their path segments, so that the most
+ * specific base path of a request path is found with a single walk over the segments of the request path.
+ * <p>
+ * A base path matches a request path, if the request path is equal to the base path ignoring the case, or if the
+ * request path starts with the base path followed by a '/'. The segments are lower cased when a base path is added,
+ * hence the base paths which differ only by the case share a node, and are matched in the order of registration.
+ *
+ * @since 2.0.0
+ */
+public class BasePathTrie {
+
+    private static final char SEPARATOR = '/';
+
+    private final Node root = new Node();
+
+    /**
+     * Adds a base path to the trie.
+     *
+     * @param basePath base path of a service
+     */
+    public synchronized void add(String basePath) {
+        Node node = root;
+        int start = 0;
+        while (true) {
+            int end = segmentEnd(basePath, start);
+            node = node.children.computeIfAbsent(lowerCaseSegment(basePath, start, end), segment -> new Node());
+            if (end == basePath.length()) {
+                break;
+            }
+            start = end + 1;
+        }
+        node.basePaths.add(basePath);
+    }
+
+    /**
+     * Removes a base path from the trie, along with the nodes which are no longer used by any base path.
+     *
+     * @param basePath base path of a service
+     */
+    public synchronized void remove(String basePath) {
+        remove(root, basePath, 0);
+    }
+
+    private boolean remove(Node node, String basePath, int start) {
+        int end = segmentEnd(basePath, start);
+        String segment = lowerCaseSegment(basePath, start, end);
+        Node child = node.children.get(segment);
+        if (child == null) {
+            return false;
+        }
+        if (end == basePath.length()) {
+            child.basePaths.remove(basePath);
+        } else if (!remove(child, basePath, end + 1)) {
+            return false;
+        }
+        if (child.basePaths.isEmpty() && child.children.isEmpty()) {
+            node.children.remove(segment);
+        }
+        return true;
+    }
+
+    /**
+     * Finds the most specific, i.e. the longest, base path which matches the given request path.
+     *
+     * @param requestPath raw path of the request URI
+     * @return the most specific base path, or null if none of the base paths match the request path
+     */
+    public String findTheMostSpecificBasePath(String requestPath) {
+        String mostSpecificBasePath = null;
+        Node node = root;
+        int start = 0;
+        while (true) {
+            int end = segmentEnd(requestPath, start);
+            node = node.children.get(lowerCaseSegment(requestPath, start, end));
+            if (node == null) {
+                return mostSpecificBasePath;
+            }
+            String basePath = node.match(requestPath, end);
+            if (basePath != null) {
+                mostSpecificBasePath = basePath;
+            }
+            if (end == requestPath.length()) {
+                return mostSpecificBasePath;
+            }
+            start = end + 1;
+        }
+    }
+
+    private static int segmentEnd(String path, int start) {
+        int end = path.indexOf(SEPARATOR, start);
+        return end < 0 ? path.length() : end;
+    }
+
+    private static String lowerCaseSegment(String path, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || c > 0x7F) {
+                return path.substring(start, end).toLowerCase(Locale.ENGLISH);
+            }
+        }
+        return path.substring(start, end);
+    }
+
+    /**
+     * A node of the trie, which holds the base paths ending at its segment.
+     */
+    private static class Node {
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+        private final List<String> basePaths = new CopyOnWriteArrayList<>();
+
+        private String match(String requestPath, int end) {
+            for (String basePath : basePaths) {
+                // If the whole request path is consumed, it is equal to the base paths of the node ignoring the
+                // case. Otherwise, it should start with the base path followed by the separator.
+                if (end == requestPath.length() ||
+                        (basePath.length() == end && requestPath.startsWith(basePath))) {
+                    return basePath;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -17,10 +17,8 @@
 */
 package org.ballerinalang.net.http;
 
-import io.ballerina.runtime.api.BStringUtils;
-import io.ballerina.runtime.api.TypeTags;
-import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
@@ -31,15 +29,20 @@ import io.ballerina.runtime.internal.util.exceptions.BallerinaConnectorException
 import io.netty.handler.codec.http.HttpHeaderNames;
 import org.ballerinalang.langlib.value.CloneWithType;
 import org.ballerinalang.mime.util.EntityBodyHandler;
+import org.ballerinalang.mime.util.EntityHeaderHandler;
+import org.ballerinalang.mime.util.MimeConstants;
+import org.ballerinalang.mime.util.MimeUtil;
+import org.ballerinalang.net.uri.RequestTarget;
 import org.ballerinalang.net.uri.URIUtil;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
-import java.util.HashMap;
-import java.util.List;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import static org.ballerinalang.net.http.HttpConstants.DEFAULT_HOST;
@@ -55,15 +58,15 @@ public class HttpDispatcher {
     public static HttpService findService(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundReqMsg) {
         try {
             Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
+            BasePathTrie basePathTrie;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
 
             if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(hostName);
             } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(DEFAULT_HOST);
             } else {
                 inboundReqMsg.setHttpStatusCode(404);
                 String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
@@ -72,38 +75,36 @@ public class HttpDispatcher {
 
             String rawUri = (String) inboundReqMsg.getProperty(HttpConstants.TO);
             inboundReqMsg.setProperty(HttpConstants.RAW_URI, rawUri);
-            Map<String, Map<String, String>> matrixParams = new HashMap<>();
-            String uriWithoutMatrixParams = URIUtil.extractMatrixParams(rawUri, matrixParams);
+            RequestTarget requestTarget = RequestTarget.parse(rawUri);
 
-            inboundReqMsg.setProperty(HttpConstants.TO, uriWithoutMatrixParams);
-            inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, matrixParams);
+            inboundReqMsg.setProperty(HttpConstants.TO, requestTarget.getUriWithoutMatrixParams());
+            inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, requestTarget.getMatrixParams());
 
-            URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
-
-            String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getRawPath(),
-                    servicesOnInterface, sortedServiceURIs);
+            String basePath = servicesRegistry.findTheMostSpecificBasePath(requestTarget.getRawPath(),
+                    servicesOnInterface, basePathTrie);
 
             if (basePath == null) {
                 inboundReqMsg.setHttpStatusCode(404);
                 throw new BallerinaConnectorException("no matching service found for path : " +
-                        validatedUri.getRawPath());
+                        requestTarget.getRawPath());
             }
 
             HttpService service = servicesOnInterface.get(basePath);
-            setInboundReqProperties(inboundReqMsg, validatedUri, basePath);
+            setInboundReqProperties(inboundReqMsg, requestTarget, basePath);
             return service;
         } catch (Exception e) {
             throw new BallerinaConnectorException(e.getMessage());
         }
     }
 
-    private static void setInboundReqProperties(HttpCarbonMessage inboundReqMsg, URI requestUri, String basePath) {
-        String subPath = URIUtil.getSubPath(requestUri.getRawPath(), basePath);
+    private static void setInboundReqProperties(HttpCarbonMessage inboundReqMsg, RequestTarget requestTarget,
+                                                String basePath) {
+        String subPath = URIUtil.getSubPath(requestTarget.getRawPath(), basePath);
         inboundReqMsg.setProperty(HttpConstants.BASE_PATH, basePath);
         inboundReqMsg.setProperty(HttpConstants.SUB_PATH, subPath);
-        inboundReqMsg.setProperty(HttpConstants.QUERY_STR, requestUri.getQuery());
+        inboundReqMsg.setProperty(HttpConstants.QUERY_STR, requestTarget.getQuery());
         //store query params comes with request as it is
-        inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, requestUri.getRawQuery());
+        inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, requestTarget.getRawQuery());
     }
 
     public static URI getValidatedURI(String uriStr) {
@@ -168,34 +169,11 @@ public class HttpDispatcher {
 
         HttpResourceArguments resourceArgumentValues =
                 (HttpResourceArguments) httpCarbonMessage.getProperty(HttpConstants.RESOURCE_ARGS);
-        BMap pathParamOrder = HttpResource.getPathParamOrderMap(httpResource.getBalResource());
-
-        for (Object paramName : pathParamOrder.getKeys()) {
-            String argumentValue = resourceArgumentValues.getMap().get(paramName.toString());
-            try {
-                argumentValue = URLDecoder.decode(argumentValue, "UTF-8");
-            } catch (UnsupportedEncodingException e) {
-                // we can simply ignore and send the value to application and let the
-                // application deal with the value.
-            }
-            int actualSignatureParamIndex = ((Long) pathParamOrder.get(paramName)).intValue();
-            paramIndex = actualSignatureParamIndex * 2;
-            Type signatureParamType = signatureParams.getPathParamTypes().get(
-                    actualSignatureParamIndex - COMPULSORY_PARAM_COUNT);
+        for (SignatureParams.PathParamBinder pathParamBinder : signatureParams.getPathParamBinders()) {
+            String argumentValue = decodePathParam(resourceArgumentValues.getMap().get(pathParamBinder.getName()));
+            paramIndex = pathParamBinder.getValueIndex();
             try {
-                switch (signatureParamType.getTag()) {
-                    case TypeTags.INT_TAG:
-                        paramValues[paramIndex++] = Long.parseLong(argumentValue);
-                        break;
-                    case TypeTags.FLOAT_TAG:
-                        paramValues[paramIndex++] = Double.parseDouble(argumentValue);
-                        break;
-                    case TypeTags.BOOLEAN_TAG:
-                        paramValues[paramIndex++] = Boolean.parseBoolean(argumentValue);
-                        break;
-                    default:
-                        paramValues[paramIndex++] = BStringUtils.fromString(argumentValue);
-                }
+                paramValues[paramIndex++] = pathParamBinder.parse(argumentValue);
                 paramValues[paramIndex] = true;
             } catch (Exception ex) {
                 throw new BallerinaConnectorException("Error in casting path param : " + ex.getMessage());
@@ -207,7 +185,7 @@ public class HttpDispatcher {
         }
         try {
             paramValues[paramValues.length - 2] = populateAndGetEntityBody(inRequest, inRequestEntity,
-                                                                   signatureParams.getEntityBody());
+                                                                   signatureParams);
             paramValues[paramValues.length - 1] = true;
         } catch (Exception ex) {
             httpCarbonMessage.setHttpStatusCode(Integer.parseInt(HttpConstants.HTTP_BAD_REQUEST));
@@ -216,37 +194,43 @@ public class HttpDispatcher {
         return paramValues;
     }
 
+    private static String decodePathParam(String argumentValue) {
+        if (argumentValue.indexOf('%') < 0 && argumentValue.indexOf('+') < 0) {
+            return argumentValue;
+        }
+        try {
+            return URLDecoder.decode(argumentValue, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            // we can simply ignore and send the value to application and let the
+            // application deal with the value.
+            return argumentValue;
+        }
+    }
+
     private static Object populateAndGetEntityBody(BObject inRequest, BObject inRequestEntity,
-                                                   Type entityBodyType)
+                                                   SignatureParams signatureParams)
             throws IOException {
         HttpUtil.populateEntityBody(inRequest, inRequestEntity, true, true);
         try {
-            switch (entityBodyType.getTag()) {
-                case TypeTags.STRING_TAG:
+            switch (signatureParams.getEntityBodyBinding()) {
+                case STRING:
                     BString stringDataSource = EntityBodyHandler.constructStringDataSource(inRequestEntity);
                     EntityBodyHandler.addMessageDataSource(inRequestEntity, stringDataSource);
                     return stringDataSource;
-                case TypeTags.JSON_TAG:
+                case JSON:
                     Object bjson = EntityBodyHandler.constructJsonDataSource(inRequestEntity);
                     EntityBodyHandler.addJsonMessageDataSource(inRequestEntity, bjson);
                     return bjson;
-                case TypeTags.XML_TAG:
+                case XML:
                     BXML bxml = EntityBodyHandler.constructXmlDataSource(inRequestEntity);
                     EntityBodyHandler.addMessageDataSource(inRequestEntity, bxml);
                     return bxml;
-                case TypeTags.ARRAY_TAG:
-                    if (((ArrayType) entityBodyType).getElementType().getTag() == TypeTags.BYTE_TAG) {
-                        BArray blobDataSource = EntityBodyHandler.constructBlobDataSource(inRequestEntity);
-                        EntityBodyHandler.addMessageDataSource(inRequestEntity, blobDataSource);
-                        return blobDataSource;
-                    } else if (((ArrayType) entityBodyType).getElementType().getTag() == TypeTags.RECORD_TYPE_TAG) {
-                        return getRecordEntity(inRequestEntity, entityBodyType);
-                    } else {
-                        throw new BallerinaConnectorException("Incompatible Element type found inside an array " +
-                                ((ArrayType) entityBodyType).getElementType().getName());
-                    }
-                case TypeTags.RECORD_TYPE_TAG:
-                    return getRecordEntity(inRequestEntity, entityBodyType);
+                case BLOB:
+                    BArray blobDataSource = EntityBodyHandler.constructBlobDataSource(inRequestEntity);
+                    EntityBodyHandler.addMessageDataSource(inRequestEntity, blobDataSource);
+                    return blobDataSource;
+                case RECORD:
+                    return getRecordEntity(inRequestEntity, signatureParams.getEntityBody());
                 default:
                         //Do nothing
             }
@@ -256,14 +240,59 @@ public class HttpDispatcher {
         return null;
     }
 
-    private static Object getRecordEntity(BObject inRequestEntity, Type entityBodyType) {
-        Object result = getRecord(entityBodyType, getBJsonValue(inRequestEntity));
+    private static Object getRecordEntity(BObject inRequestEntity, Type entityBodyType) throws IOException {
+        Object result;
+        if (isUtf8Payload(inRequestEntity) && EntityBodyHandler.getByteChannel(inRequestEntity) != null) {
+            result = getTypedRecord(inRequestEntity, entityBodyType);
+        } else {
+            result = getRecord(entityBodyType, getBJsonValue(inRequestEntity));
+        }
         if (result instanceof BError) {
             throw (BError) result;
         }
         return result;
     }
 
+    /**
+     * Parse the payload directly into the record type, without building the json value of the payload. The payload
+     * is kept as the blob data source of the entity, so that it can still be read as json. If the payload cannot be
+     * parsed into the record type, it is converted through the json value, which reports the errors as before.
+     *
+     * @param inRequestEntity Represents inbound request entity
+     * @param entityBodyType  Represents entity body type
+     * @return the relevant ballerina record, or an error
+     */
+    private static Object getTypedRecord(BObject inRequestEntity, Type entityBodyType) throws IOException {
+        BArray blobDataSource = EntityBodyHandler.constructBlobDataSource(inRequestEntity);
+        byte[] payload = blobDataSource.getBytes();
+        Object record = JsonUtils.parse(payload, entityBodyType);
+        if (record != null) {
+            EntityBodyHandler.addMessageDataSource(inRequestEntity, blobDataSource);
+            return record;
+        }
+        Object bjson = EntityBodyHandler.constructJsonDataSource(inRequestEntity, new ByteArrayInputStream(payload));
+        EntityBodyHandler.addJsonMessageDataSource(inRequestEntity, bjson);
+        return getRecord(entityBodyType, bjson);
+    }
+
+    /**
+     * Check whether the payload is encoded in UTF-8, which is the encoding the typed json parser reads.
+     *
+     * @param inRequestEntity Represents inbound request entity
+     * @return true if the payload is encoded in UTF-8
+     */
+    private static boolean isUtf8Payload(BObject inRequestEntity) {
+        String contentTypeValue = EntityHeaderHandler.getHeaderValue(inRequestEntity, MimeConstants.CONTENT_TYPE);
+        String charsetValue = null;
+        if (contentTypeValue != null && !contentTypeValue.isEmpty()) {
+            charsetValue = MimeUtil.getContentTypeParamValue(contentTypeValue, MimeConstants.CHARSET);
+        }
+        if (charsetValue == null || charsetValue.isEmpty()) {
+            return StandardCharsets.UTF_8.equals(Charset.defaultCharset());
+        }
+        return StandardCharsets.UTF_8.name().equalsIgnoreCase(charsetValue);
+    }
+
     /**
      * Convert a json to the relevant record type.
      *
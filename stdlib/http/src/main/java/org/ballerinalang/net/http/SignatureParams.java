@@ -18,16 +18,21 @@
 
 package org.ballerinalang.net.http;
 
+import io.ballerina.runtime.api.BStringUtils;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BMap;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import static org.ballerinalang.net.http.compiler.ResourceSignatureValidator.COMPULSORY_PARAM_COUNT;
 
 /**
- * This class holds the resource signature parameters.
+ * This class holds the resource signature parameters. The binders of the path params and the entity body are
+ * prepared when the resource is registered, so that the parameter metadata is not looked up per request.
  *
  * @since 0.963.0
  */
@@ -37,6 +42,8 @@ public class SignatureParams {
     private final List<Type> paramTypes;
     private Type entityBody;
     private List<Type> pathParamTypes;
+    private PathParamBinder[] pathParamBinders = new PathParamBinder[0];
+    private EntityBodyBinding entityBodyBinding;
     private int paramCount = COMPULSORY_PARAM_COUNT;
 
     SignatureParams(HttpResource resource) {
@@ -53,6 +60,7 @@ public class SignatureParams {
             validatePathParam(paramTypes.subList(COMPULSORY_PARAM_COUNT, lastParamIndex));
             validateEntityBodyParam(paramTypes.get(lastParamIndex));
         }
+        preparePathParamBinders();
     }
 
     private void validatePathParam(List<Type> paramDetails) {
@@ -73,6 +81,7 @@ public class SignatureParams {
         if (type == TypeTags.RECORD_TYPE_TAG || type == TypeTags.JSON_TAG || type == TypeTags.XML_TAG ||
                 type == TypeTags.STRING_TAG || (type == TypeTags.ARRAY_TAG && validArrayType(entityBodyParamType))) {
             this.entityBody = entityBodyParamType;
+            this.entityBodyBinding = EntityBodyBinding.of(entityBodyParamType);
             paramCount++;
         } else {
             throw HttpUtil.createHttpError("incompatible entity-body type : " + entityBodyParamType.getName(),
@@ -91,10 +100,32 @@ public class SignatureParams {
                 ((ArrayType) entityBodyParamType).getElementType().getTag() == TypeTags.RECORD_TYPE_TAG;
     }
 
+    private void preparePathParamBinders() {
+        if (pathParamTypes.isEmpty()) {
+            return;
+        }
+        BMap pathParamOrder = HttpResource.getPathParamOrderMap(resource.getBalResource());
+        List<PathParamBinder> binders = new ArrayList<>();
+        for (Object paramName : pathParamOrder.getKeys()) {
+            int signatureParamIndex = ((Long) pathParamOrder.get(paramName)).intValue();
+            Type paramType = pathParamTypes.get(signatureParamIndex - COMPULSORY_PARAM_COUNT);
+            binders.add(new PathParamBinder(paramName.toString(), signatureParamIndex * 2, paramType));
+        }
+        this.pathParamBinders = binders.toArray(new PathParamBinder[0]);
+    }
+
     Type getEntityBody() {
         return entityBody;
     }
 
+    EntityBodyBinding getEntityBodyBinding() {
+        return entityBodyBinding;
+    }
+
+    PathParamBinder[] getPathParamBinders() {
+        return pathParamBinders;
+    }
+
     List<Type> getPathParamTypes() {
         return pathParamTypes;
     }
@@ -102,4 +133,71 @@ public class SignatureParams {
     int getParamCount() {
         return paramCount;
     }
+
+    /**
+     * Binds the value of a path param to its parameter in the resource signature.
+     */
+    static class PathParamBinder {
+        private final String name;
+        private final int valueIndex;
+        private final Function<String, Object> parser;
+
+        private PathParamBinder(String name, int valueIndex, Type paramType) {
+            this.name = name;
+            this.valueIndex = valueIndex;
+            this.parser = getParser(paramType);
+        }
+
+        private static Function<String, Object> getParser(Type paramType) {
+            switch (paramType.getTag()) {
+                case TypeTags.INT_TAG:
+                    return Long::parseLong;
+                case TypeTags.FLOAT_TAG:
+                    return Double::parseDouble;
+                case TypeTags.BOOLEAN_TAG:
+                    return Boolean::parseBoolean;
+                default:
+                    return BStringUtils::fromString;
+            }
+        }
+
+        String getName() {
+            return name;
+        }
+
+        /**
+         * @return the index of the parameter value in the arguments of the resource function
+         */
+        int getValueIndex() {
+            return valueIndex;
+        }
+
+        Object parse(String value) {
+            return parser.apply(value);
+        }
+    }
+
+    /**
+     * The ways of binding the entity body to the resource signature.
+     */
+    enum EntityBodyBinding {
+        STRING, JSON, XML, BLOB, RECORD;
+
+        private static EntityBodyBinding of(Type entityBodyType) {
+            switch (entityBodyType.getTag()) {
+                case TypeTags.STRING_TAG:
+                    return STRING;
+                case TypeTags.JSON_TAG:
+                    return JSON;
+                case TypeTags.XML_TAG:
+                    return XML;
+                case TypeTags.ARRAY_TAG:
+                    // An array of bytes or records, as validated
+                    return ((ArrayType) entityBodyType).getElementType().getTag() == TypeTags.BYTE_TAG ? BLOB :
+                            RECORD;
+                default:
+                    return RECORD;
+            }
+        }
+    }
 }
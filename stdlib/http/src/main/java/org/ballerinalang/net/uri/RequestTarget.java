@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.uri;
+
+import io.ballerina.runtime.internal.util.exceptions.BallerinaConnectorException;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The request target of an inbound request, i.e. the path and the query of the request URI, with the matrix
+ * parameters removed from the path.
+ * <p>
+ * The request target is parsed in a single pass, which validates its characters and finds the end of the path and
+ * the matrix parameters. The path and the query are taken as substrings of the request target, and the matrix
+ * parameters are only collected if the path has them. The request targets which are not handled by the single pass,
+ * e.g. the ones with non ASCII characters, fragments or malformed matrix parameters, are parsed with
+ * {@link URIUtil#extractMatrixParams(String, Map)} and {@link URI}, as they were before.
+ *
+ * @since 2.0.0
+ */
+public class RequestTarget {
+
+    private static final char PATH_DELIMITER = '/';
+    private static final char QUERY_DELIMITER = '?';
+    private static final char MATRIX_PARAM_DELIMITER = ';';
+    private static final char MATRIX_PARAM_VALUE_DELIMITER = '=';
+    private static final char ESCAPE = '%';
+
+    // The ASCII characters allowed in a path and a query, as in java.net.URI
+    private static final boolean[] PATH_CHARS = allowedChars("-_.!~*'():@&=+$,;/");
+    private static final boolean[] QUERY_CHARS = allowedChars("-_.!~*'();/?:@&=+$,[]");
+
+    private final String rawPath;
+    private final String rawQuery;
+    private final String uriWithoutMatrixParams;
+    private final Map<String, Map<String, String>> matrixParams;
+    private String query;
+
+    private RequestTarget(String rawPath, String rawQuery, String uriWithoutMatrixParams,
+                          Map<String, Map<String, String>> matrixParams) {
+        this.rawPath = rawPath;
+        this.rawQuery = rawQuery;
+        this.uriWithoutMatrixParams = uriWithoutMatrixParams;
+        this.matrixParams = matrixParams;
+    }
+
+    /**
+     * Parses the request target of an inbound request.
+     *
+     * @param rawUri request target as received
+     * @return the parsed request target
+     */
+    public static RequestTarget parse(String rawUri) {
+        RequestTarget requestTarget = parseSimpleRequestTarget(rawUri);
+        return requestTarget != null ? requestTarget : parseWithURI(rawUri);
+    }
+
+    /**
+     * @return the raw path, without the matrix parameters
+     */
+    public String getRawPath() {
+        return rawPath;
+    }
+
+    /**
+     * @return the raw query, or null if there is no query
+     */
+    public String getRawQuery() {
+        return rawQuery;
+    }
+
+    /**
+     * @return the decoded query, or null if there is no query
+     */
+    public String getQuery() {
+        if (query == null && rawQuery != null) {
+            query = decode(rawQuery);
+        }
+        return query;
+    }
+
+    /**
+     * @return the request target without the matrix parameters
+     */
+    public String getUriWithoutMatrixParams() {
+        return uriWithoutMatrixParams;
+    }
+
+    /**
+     * @return the matrix parameters of the path segments, keyed by the path up to the segment
+     */
+    public Map<String, Map<String, String>> getMatrixParams() {
+        return matrixParams;
+    }
+
+    private static RequestTarget parseSimpleRequestTarget(String rawUri) {
+        int length = rawUri.length();
+        // A path starting with "//" is parsed as an authority by java.net.URI
+        if (length == 0 || rawUri.charAt(0) != PATH_DELIMITER ||
+                (length > 1 && rawUri.charAt(1) == PATH_DELIMITER)) {
+            return null;
+        }
+        int pathEnd = rawUri.indexOf(QUERY_DELIMITER);
+        if (pathEnd < 0) {
+            pathEnd = length;
+        }
+        if (!isValid(rawUri, 1, pathEnd, PATH_CHARS) || !isValid(rawUri, pathEnd + 1, length, QUERY_CHARS)) {
+            return null;
+        }
+
+        // The trailing empty path segments, and the trailing empty query parts are dropped
+        int rawPathEnd = pathEnd;
+        while (rawPathEnd > 1 && rawUri.charAt(rawPathEnd - 1) == PATH_DELIMITER) {
+            rawPathEnd--;
+        }
+        int queryEnd = length;
+        while (queryEnd > pathEnd + 1 && rawUri.charAt(queryEnd - 1) == QUERY_DELIMITER) {
+            queryEnd--;
+        }
+        String rawQuery = queryEnd > pathEnd + 1 ? rawUri.substring(pathEnd + 1, queryEnd) : null;
+
+        String rawPath;
+        Map<String, Map<String, String>> matrixParams;
+        int matrixParamStart = rawUri.indexOf(MATRIX_PARAM_DELIMITER);
+        if (matrixParamStart < 0 || matrixParamStart > rawPathEnd) {
+            rawPath = rawPathEnd == length ? rawUri : rawUri.substring(0, rawPathEnd);
+            matrixParams = Collections.emptyMap();
+        } else {
+            matrixParams = new HashMap<>();
+            rawPath = extractMatrixParams(rawUri, rawPathEnd, matrixParams);
+            if (rawPath == null) {
+                return null;
+            }
+        }
+
+        String uriWithoutMatrixParams;
+        if (rawPath.length() == pathEnd && (rawQuery == null ? pathEnd == length : queryEnd == length)) {
+            uriWithoutMatrixParams = rawUri;
+        } else {
+            uriWithoutMatrixParams = rawQuery == null ? rawPath : rawPath + QUERY_DELIMITER + rawQuery;
+        }
+        return new RequestTarget(rawPath, rawQuery, uriWithoutMatrixParams, matrixParams);
+    }
+
+    private static String extractMatrixParams(String rawUri, int rawPathEnd,
+                                              Map<String, Map<String, String>> matrixParams) {
+        StringBuilder path = new StringBuilder(rawPathEnd);
+        int segmentStart = 1;
+        while (segmentStart <= rawPathEnd) {
+            int segmentEnd = indexOf(rawUri, PATH_DELIMITER, segmentStart, rawPathEnd);
+            int paramStart = indexOf(rawUri, MATRIX_PARAM_DELIMITER, segmentStart, segmentEnd);
+            path.append(PATH_DELIMITER).append(rawUri, segmentStart, paramStart);
+            if (paramStart < segmentEnd) {
+                Map<String, String> segmentMatrixParams = new HashMap<>();
+                while (paramStart < segmentEnd) {
+                    int paramEnd = indexOf(rawUri, MATRIX_PARAM_DELIMITER, paramStart + 1, segmentEnd);
+                    int valueStart = indexOf(rawUri, MATRIX_PARAM_VALUE_DELIMITER, paramStart + 1, paramEnd);
+                    // A parameter should have a single '=', which is followed by the value
+                    if (valueStart >= paramEnd - 1 ||
+                            indexOf(rawUri, MATRIX_PARAM_VALUE_DELIMITER, valueStart + 1, paramEnd) < paramEnd) {
+                        return null;
+                    }
+                    segmentMatrixParams.put(rawUri.substring(paramStart + 1, valueStart),
+                                            rawUri.substring(valueStart + 1, paramEnd));
+                    paramStart = paramEnd;
+                }
+                matrixParams.put(path.toString(), segmentMatrixParams);
+            }
+            segmentStart = segmentEnd + 1;
+        }
+        if (path.length() > 1 && path.charAt(1) == PATH_DELIMITER) {
+            return null;
+        }
+        return path.toString();
+    }
+
+    /**
+     * Returns the index of the first occurrence of the character in the given range, or the end of the range if the
+     * character does not occur in it.
+     */
+    private static int indexOf(String rawUri, char c, int start, int end) {
+        int index = rawUri.indexOf(c, start);
+        return index < 0 || index > end ? end : index;
+    }
+
+    private static RequestTarget parseWithURI(String rawUri) {
+        Map<String, Map<String, String>> matrixParams = new HashMap<>();
+        String uriWithoutMatrixParams = URIUtil.extractMatrixParams(rawUri, matrixParams);
+        URI requestUri;
+        try {
+            requestUri = URI.create(uriWithoutMatrixParams);
+        } catch (IllegalArgumentException e) {
+            throw new BallerinaConnectorException(e.getMessage());
+        }
+        RequestTarget requestTarget = new RequestTarget(requestUri.getRawPath(), requestUri.getRawQuery(),
+                                                        uriWithoutMatrixParams, matrixParams);
+        requestTarget.query = requestUri.getQuery();
+        return requestTarget;
+    }
+
+    private static boolean isValid(String rawUri, int start, int end, boolean[] allowedChars) {
+        for (int i = start; i < end; i++) {
+            char c = rawUri.charAt(i);
+            if (c == ESCAPE) {
+                if (i + 2 >= end || Character.digit(rawUri.charAt(i + 1), 16) < 0 ||
+                        Character.digit(rawUri.charAt(i + 2), 16) < 0) {
+                    return false;
+                }
+                i += 2;
+            } else if (c >= allowedChars.length || !allowedChars[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String decode(String rawQuery) {
+        if (rawQuery.indexOf(ESCAPE) < 0) {
+            return rawQuery;
+        }
+        // The query of a simple request target only has ASCII characters
+        byte[] bytes = new byte[rawQuery.length()];
+        int length = 0;
+        for (int i = 0; i < rawQuery.length(); i++) {
+            char c = rawQuery.charAt(i);
+            if (c == ESCAPE) {
+                c = (char) ((Character.digit(rawQuery.charAt(i + 1), 16) << 4) |
+                        Character.digit(rawQuery.charAt(i + 2), 16));
+                i += 2;
+            }
+            bytes[length++] = (byte) c;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static boolean[] allowedChars(String punctuation) {
+        boolean[] allowedChars = new boolean[128];
+        for (char c = '0'; c <= '9'; c++) {
+            allowedChars[c] = true;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            allowedChars[c] = true;
+            allowedChars[Character.toUpperCase(c)] = true;
+        }
+        for (int i = 0; i < punctuation.length(); i++) {
+            allowedChars[punctuation.charAt(i)] = true;
+        }
+        return allowedChars;
+    }
+}
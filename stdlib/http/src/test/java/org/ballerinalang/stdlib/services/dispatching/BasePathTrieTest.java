@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.BasePathTrie;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test cases for resolving the most specific base path of a request path.
+ */
+public class BasePathTrieTest {
+
+    private static final String[] SEGMENTS = {"", "a", "A", "ab", "b", "hello", "Hello", "HELLO", "v1"};
+
+    @Test(description = "Test the most specific base path is selected")
+    public void testMostSpecificBasePath() {
+        BasePathTrie basePathTrie = createTrie("/", "/hello", "/hello/world", "/hello/world/v1", "/foo");
+
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/hello/world/v1/greet"), "/hello/world/v1");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/hello/world/v2"), "/hello/world");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/hello/"), "/hello");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/hello"), "/hello");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/"), "/");
+        Assert.assertNull(basePathTrie.findTheMostSpecificBasePath("/helloworld"));
+        Assert.assertNull(basePathTrie.findTheMostSpecificBasePath("/bar/hello"));
+    }
+
+    @Test(description = "Test the case of the request path is ignored only when it is equal to the base path")
+    public void testCaseOfBasePath() {
+        BasePathTrie basePathTrie = createTrie("/hello", "/Hello/World");
+
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/HELLO"), "/hello");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/hello/world"), "/Hello/World");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/hello/world/greet"), "/hello");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/Hello/World/greet"), "/Hello/World");
+        Assert.assertNull(basePathTrie.findTheMostSpecificBasePath("/HELLO/greet"));
+    }
+
+    @Test(description = "Test removing base paths from the trie")
+    public void testRemoveBasePath() {
+        BasePathTrie basePathTrie = createTrie("/hello", "/hello/world");
+        basePathTrie.remove("/hello/world");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/hello/world"), "/hello");
+
+        basePathTrie.remove("/hello");
+        Assert.assertNull(basePathTrie.findTheMostSpecificBasePath("/hello/world"));
+
+        basePathTrie.add("/hello/world");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/hello/world"), "/hello/world");
+    }
+
+    @Test(description = "Test the trie selects the same base path as the longest matching base path")
+    public void testAgainstLongestMatchingBasePath() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            List<String> basePaths = new ArrayList<>();
+            BasePathTrie basePathTrie = new BasePathTrie();
+            for (int j = 0; j < 10; j++) {
+                String basePath = randomPath(random);
+                if (!basePaths.contains(basePath)) {
+                    basePaths.add(basePath);
+                    basePathTrie.add(basePath);
+                }
+            }
+            for (int j = 0; j < 50; j++) {
+                String requestPath = randomPath(random);
+                Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath(requestPath),
+                                    findLongestMatchingBasePath(requestPath, basePaths),
+                                    "Base paths: " + basePaths + ", request path: " + requestPath);
+            }
+        }
+    }
+
+    private static BasePathTrie createTrie(String... basePaths) {
+        BasePathTrie basePathTrie = new BasePathTrie();
+        for (String basePath : basePaths) {
+            basePathTrie.add(basePath);
+        }
+        return basePathTrie;
+    }
+
+    private static String randomPath(Random random) {
+        StringBuilder path = new StringBuilder();
+        int segmentCount = random.nextInt(4);
+        for (int i = 0; i <= segmentCount; i++) {
+            path.append('/').append(SEGMENTS[random.nextInt(SEGMENTS.length)]);
+        }
+        return path.toString();
+    }
+
+    private static String findLongestMatchingBasePath(String requestPath, List<String> basePaths) {
+        String longestBasePath = null;
+        for (String basePath : basePaths) {
+            boolean matches = requestPath.equalsIgnoreCase(basePath) || requestPath.startsWith(basePath + "/");
+            if (matches && (longestBasePath == null || basePath.length() > longestBasePath.length())) {
+                longestBasePath = basePath;
+            }
+        }
+        return longestBasePath;
+    }
+}
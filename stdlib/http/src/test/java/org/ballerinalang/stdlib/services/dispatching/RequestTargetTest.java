@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.services.dispatching;
+
+import io.ballerina.runtime.internal.util.exceptions.BallerinaConnectorException;
+import org.ballerinalang.net.uri.RequestTarget;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+/**
+ * Test cases for parsing the request target of inbound requests.
+ */
+public class RequestTargetTest {
+
+    @Test(description = "Test parsing a request target without matrix params")
+    public void testParsePathAndQuery() {
+        String rawUri = "/hello/world?name=Bob%20Smith&age=20";
+        RequestTarget requestTarget = RequestTarget.parse(rawUri);
+        Assert.assertEquals(requestTarget.getRawPath(), "/hello/world");
+        Assert.assertEquals(requestTarget.getRawQuery(), "name=Bob%20Smith&age=20");
+        Assert.assertEquals(requestTarget.getQuery(), "name=Bob Smith&age=20");
+        Assert.assertSame(requestTarget.getUriWithoutMatrixParams(), rawUri);
+        Assert.assertTrue(requestTarget.getMatrixParams().isEmpty());
+    }
+
+    @Test(description = "Test the trailing empty path segments and query parts are dropped")
+    public void testParseTrailingDelimiters() {
+        RequestTarget requestTarget = RequestTarget.parse("/hello/world//?");
+        Assert.assertEquals(requestTarget.getRawPath(), "/hello/world");
+        Assert.assertNull(requestTarget.getRawQuery());
+        Assert.assertEquals(requestTarget.getUriWithoutMatrixParams(), "/hello/world");
+
+        requestTarget = RequestTarget.parse("/?a=b??");
+        Assert.assertEquals(requestTarget.getRawPath(), "/");
+        Assert.assertEquals(requestTarget.getRawQuery(), "a=b");
+    }
+
+    @Test(description = "Test parsing a request target with matrix params")
+    public void testParseMatrixParams() {
+        RequestTarget requestTarget = RequestTarget.parse("/hello;a=5;b=10/world;x=1?q=2");
+        Assert.assertEquals(requestTarget.getRawPath(), "/hello/world");
+        Assert.assertEquals(requestTarget.getRawQuery(), "q=2");
+        Assert.assertEquals(requestTarget.getUriWithoutMatrixParams(), "/hello/world?q=2");
+
+        Map<String, Map<String, String>> matrixParams = requestTarget.getMatrixParams();
+        Assert.assertEquals(matrixParams.get("/hello").get("a"), "5");
+        Assert.assertEquals(matrixParams.get("/hello").get("b"), "10");
+        Assert.assertEquals(matrixParams.get("/hello/world").get("x"), "1");
+    }
+
+    @Test(description = "Test parsing request targets, which are not handled by the single pass")
+    public void testParseWithURI() {
+        RequestTarget requestTarget = RequestTarget.parse("/hello/wörld?q=%C3%B6#top");
+        Assert.assertEquals(requestTarget.getRawPath(), "/hello/wörld");
+        Assert.assertEquals(requestTarget.getRawQuery(), "q=%C3%B6");
+        Assert.assertEquals(requestTarget.getQuery(), "q=ö");
+
+        requestTarget = RequestTarget.parse("/hello;a=1=/world");
+        Assert.assertEquals(requestTarget.getRawPath(), "/hello/world");
+        Assert.assertEquals(requestTarget.getMatrixParams().get("/hello").get("a"), "1");
+    }
+
+    @Test(description = "Test parsing invalid request targets",
+          expectedExceptions = BallerinaConnectorException.class,
+          expectedExceptionsMessageRegExp = "Found non-matrix parameter 'a' in path 'hello;a'")
+    public void testParseInvalidMatrixParam() {
+        RequestTarget.parse("/hello;a");
+    }
+
+    @Test(description = "Test parsing request targets with invalid characters",
+          expectedExceptions = BallerinaConnectorException.class)
+    public void testParseInvalidCharacters() {
+        RequestTarget.parse("/hello world");
+    }
+}
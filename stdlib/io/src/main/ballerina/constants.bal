@@ -19,7 +19,8 @@
 # DEFAULT - The default value is the format specified by the CSVChannel. Precedence will be given to the field
 #           separator and record separator.
 #
-# CSV - Field separator will be "," and the record separator will be a new line.
+# CSV - Field separator will be "," and the record separator will be a new line. The fields could be enclosed in
+#       double quotes as specified in RFC 4180, and the quotes are removed when the fields are read.
 #
 # TDF - Field separator will be a tab and record separator will be a new line.
 public type Format DEFAULT|CSV|TDF;
@@ -27,7 +28,8 @@ public type Format DEFAULT|CSV|TDF;
 #  Default value is the format specified by the CSVChannel. Precedence will be given to the field separator and record separator.
 public const DEFAULT = "default";
 
-# Field separator will be "," and the record separator will be a new line.
+# Field separator will be "," and the record separator will be a new line. The fields could be enclosed in double
+# quotes as specified in RFC 4180, and the quotes are removed when the fields are read.
 public const CSV = "csv";
 
 # Field separator will be a tab and the record separator will be a new line.
@@ -16,14 +16,18 @@
 
 import ballerina/java;
 
-# Retrieves a `ReadableByteChannel` from a given file path.
+# Retrieves a `ReadableByteChannel` from a given file path. If the file is opened as memory mapped, the content is read
+# from regions of the file mapped to memory instead of being read through an intermediate buffer, which is faster
+# when reading large chunks of the file.
 #```ballerina
 # io:ReadableByteChannel readableFieldResult = check io:openReadableFile("./files/sample.txt");
 #```
 #
 # + path - Relative/absolute path string to locate the file
+# + memoryMapped - Whether to read the file through regions of the file mapped to memory
 # + return - The `ByteChannel` representation of the file resource or else an `io:Error` if any error occurred
-public function openReadableFile(@untainted string path) returns ReadableByteChannel|Error = @java:Method {
+public function openReadableFile(@untainted string path, boolean memoryMapped = false)
+    returns ReadableByteChannel|Error = @java:Method {
     name: "openReadableFile",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
@@ -35,6 +35,19 @@ public class ReadableByteChannel {
         return byteReadExtern(self, nBytes);
     }
 
+# Copies the remaining content of the channel to the given `WritableByteChannel` until the channel reaches its end.
+# The content is copied without reading it into a `byte[]`, and if both the channels are files, the content is copied
+# by the operating system.
+# ```ballerina
+# int|io:Error result = readableByteChannel.transferTo(writableByteChannel);
+# ```
+#
+# + dstChannel - The `WritableByteChannel` to which the content should be copied
+# + return - The number of bytes copied, an `EofError` if the channel has already reached the end or else an `io:Error`
+    public function transferTo(WritableByteChannel dstChannel) returns int|Error {
+        return transferToExtern(self, dstChannel);
+    }
+
 # Encodes a given `ReadableByteChannel` using the Base64 encoding scheme.
 # ```ballerina
 # ReadableByteChannel|Error encodedChannel = readableByteChannel.base64Encode();
@@ -71,6 +84,11 @@ function byteReadExtern(ReadableByteChannel byteChannel, @untainted int nBytes)
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+function transferToExtern(ReadableByteChannel byteChannel, WritableByteChannel dstChannel) returns int|Error = @java:Method {
+    name: "transferTo",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 function base64EncodeExtern(ReadableByteChannel byteChannel) returns ReadableByteChannel|Error = @java:Method {
     name: "base64Encode",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
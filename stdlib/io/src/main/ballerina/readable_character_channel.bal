@@ -54,6 +54,19 @@ public class ReadableCharacterChannel {
         return readJsonExtern(self);
     }
 
+    # Reads the elements of a JSON array from the given channel as a stream. The elements are read from the channel
+    # as the stream is iterated, so that the whole array is not kept in memory.
+    # ```ballerina
+    # stream<json, io:Error> result = readableCharChannel.readJsonArrayStream();
+    # ```
+    #
+    # + return - The stream of the elements of the JSON array. The stream returns an `io:Error` if the content of
+    #            the channel is not a JSON array
+    public function readJsonArrayStream() returns @tainted stream<json, Error> {
+        JsonArrayElementIterator iterator = new (self);
+        return new stream<json, Error>(iterator);
+    }
+
     # Reads an XML from the given channel.
     # ```ballerina
     # json|io:Error result = readableCharChannel.readXml();
@@ -96,6 +109,24 @@ public class ReadableCharacterChannel {
     }
 }
 
+# Iterates the elements of a JSON array, which are read from a character channel.
+class JsonArrayElementIterator {
+
+    function init(ReadableCharacterChannel characterChannel) {
+        initJsonArrayIterator(self, characterChannel);
+    }
+
+    public isolated function next() returns @tainted record {| json value; |}|Error? {
+        boolean|Error hasNext = hasNextJsonArrayElement(self);
+        if (hasNext is Error) {
+            return hasNext;
+        } else if (hasNext) {
+            return {value: nextJsonArrayElement(self)};
+        }
+        return ();
+    }
+}
+
 function initReadableCharacterChannel(ReadableCharacterChannel characterChannel, ReadableByteChannel byteChannel,
                                       string charset) = @java:Method {
     name: "initCharacterChannel",
@@ -113,6 +144,23 @@ function readJsonExtern(ReadableCharacterChannel characterChannel) returns @tain
     'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
 } external;
 
+function initJsonArrayIterator(JsonArrayElementIterator iterator, ReadableCharacterChannel characterChannel) =
+                               @java:Method {
+    name: "initJsonArrayIterator",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
+isolated function hasNextJsonArrayElement(JsonArrayElementIterator iterator) returns @tainted boolean|Error =
+                                          @java:Method {
+    name: "hasNextJsonArrayElement",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
+isolated function nextJsonArrayElement(JsonArrayElementIterator iterator) returns @tainted json = @java:Method {
+    name: "nextJsonArrayElement",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
 function readXmlExtern(ReadableCharacterChannel characterChannel) returns @tainted xml|Error = @java:Method {
     name: "readXml",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
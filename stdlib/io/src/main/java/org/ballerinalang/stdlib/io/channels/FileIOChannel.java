@@ -22,6 +22,7 @@ import org.ballerinalang.stdlib.io.utils.IOUtils;
 
 import java.io.IOException;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SelectableChannel;
 import java.nio.channels.WritableByteChannel;
 
 /**
@@ -36,11 +37,44 @@ public class FileIOChannel extends Channel {
      */
     private FileChannel channel;
 
+    /**
+     * Reads the file through memory mapped regions, if the channel is opened in the memory mapped mode.
+     */
+    private MappedFileChannel mappedChannel;
+
     public FileIOChannel(FileChannel channel) {
         super(channel);
         this.channel = channel;
     }
 
+    /**
+     * Creates a channel to read the file through regions of the file mapped to memory.
+     *
+     * @param mappedChannel the channel which reads the mapped regions of the file.
+     * @param channel       the file channel.
+     */
+    private FileIOChannel(MappedFileChannel mappedChannel, FileChannel channel) {
+        super(mappedChannel);
+        this.channel = channel;
+        this.mappedChannel = mappedChannel;
+    }
+
+    /**
+     * <p>
+     * Creates a channel which reads the file through regions of the file mapped to memory.
+     * </p>
+     * <p>
+     * This avoids copying the content through an intermediate buffer when reading large chunks of the file. The
+     * channel could only be used for reading.
+     * </p>
+     *
+     * @param channel the file channel.
+     * @return the channel which reads the mapped regions of the file.
+     */
+    public static FileIOChannel createMemoryMappedChannel(FileChannel channel) {
+        return new FileIOChannel(new MappedFileChannel(channel), channel);
+    }
+
     /**
      * Transfer file content to the specified destination.
      * <p>
@@ -55,6 +89,38 @@ public class FileIOChannel extends Channel {
         }
     }
 
+    /**
+     * Transfers the remaining content of the file to the specified destination.
+     * <p>
+     * If the destination is a file or a socket, the content is transferred by the operating system without copying it
+     * to the memory of the program. Otherwise, the content is written to the destination from the mapped regions of the
+     * file if the channel is opened in the memory mapped mode.
+     * </p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        long count = 0;
+        if (null != mappedChannel && !(dstChannel instanceof FileChannel || dstChannel instanceof SelectableChannel)) {
+            count = mappedChannel.transferTo(dstChannel);
+        } else {
+            long position = null != mappedChannel ? mappedChannel.position() : channel.position();
+            long size = channel.size();
+            while (position < size) {
+                long transferred = channel.transferTo(position, size - position, dstChannel);
+                position += transferred;
+                count += transferred;
+            }
+            if (null != mappedChannel) {
+                mappedChannel.position(position);
+            } else {
+                channel.position(position);
+            }
+        }
+        setReachedEnd();
+        return count;
+    }
+
     @Override
     public Channel getChannel() {
         throw new UnsupportedOperationException();
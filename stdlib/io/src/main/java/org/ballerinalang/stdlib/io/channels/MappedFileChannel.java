@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Reads the content of a file through regions of the file mapped to memory.
+ * </p>
+ * <p>
+ * The bytes are copied from the mapped region to the buffer provided for reading, without reading them through the
+ * file channel into an intermediate buffer. The regions are mapped as read-only, and remain mapped until they're
+ * garbage collected.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class MappedFileChannel implements ByteChannel {
+
+    /**
+     * Maximum number of bytes mapped at once.
+     */
+    private static final long MAXIMUM_REGION_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+
+    /**
+     * The region of the file, which is currently mapped.
+     */
+    private MappedByteBuffer region;
+
+    /**
+     * Position of the file where the mapped region starts.
+     */
+    private long regionStart;
+
+    /**
+     * Position of the file from which the next byte should be read, or -1 until it's initialized from the channel.
+     */
+    private long position = -1;
+
+    public MappedFileChannel(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        ByteBuffer source = getRegion();
+        if (null == source) {
+            return -1;
+        }
+        int count = Math.min(dst.remaining(), source.remaining());
+        ByteBuffer content = source.slice();
+        content.limit(count);
+        dst.put(content);
+        position += count;
+        return count;
+    }
+
+    /**
+     * Writes the content of the file from the current position to the given channel, until the end of the file.
+     *
+     * @param dstChannel the channel to which the content should be written.
+     * @return the number of bytes written.
+     * @throws IOException during I/O error.
+     */
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        long count = 0;
+        ByteBuffer source;
+        while (null != (source = getRegion())) {
+            int written = dstChannel.write(source);
+            position += written;
+            count += written;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the position of the file from which the next byte will be read.
+     *
+     * @return the position of the file.
+     * @throws IOException during I/O error.
+     */
+    public long position() throws IOException {
+        if (position < 0) {
+            position = channel.position();
+        }
+        return position;
+    }
+
+    /**
+     * Sets the position of the file from which the next byte will be read.
+     *
+     * @param newPosition the position of the file.
+     */
+    public void position(long newPosition) {
+        this.position = newPosition;
+    }
+
+    /**
+     * Retrieves the mapped region which contains the current position, positioned at the current position. A new
+     * region will be mapped if the current region does not contain the position.
+     *
+     * @return the mapped region, or null if the end of the file has been reached.
+     * @throws IOException during I/O error.
+     */
+    private ByteBuffer getRegion() throws IOException {
+        long currentPosition = position();
+        if (null == region || currentPosition < regionStart || currentPosition >= regionStart + region.capacity()) {
+            long size = channel.size();
+            if (currentPosition >= size) {
+                return null;
+            }
+            regionStart = currentPosition;
+            region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart,
+                                 Math.min(MAXIMUM_REGION_SIZE, size - regionStart));
+        }
+        region.position((int) (currentPosition - regionStart));
+        return region;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        channel.close();
+    }
+}
@@ -55,6 +55,11 @@ public abstract class Channel implements IOChannel {
      */
     private boolean readable;
 
+    /**
+     * Size of the buffer used to copy the content to another channel.
+     */
+    private static final int TRANSFER_BUFFER_SIZE = 16384;
+
     private static final Logger log = LoggerFactory.getLogger(Channel.class);
 
     /**
@@ -81,6 +86,39 @@ public abstract class Channel implements IOChannel {
      */
     public abstract void transfer(int position, int count, WritableByteChannel dstChannel) throws IOException;
 
+    /**
+     * <p>
+     * Copies the remaining content of the channel to the given destination, until the channel reaches its end.
+     * </p>
+     * <p>
+     * The content is copied through a buffer by default. The channels which could copy the content without passing it
+     * through the heap will override this.
+     * </p>
+     *
+     * @param dstChannel destination channel to transfer.
+     * @return the number of bytes transferred.
+     * @throws IOException during I/O error.
+     */
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+        long count = 0;
+        while (read(buffer) > 0 || !hasReachedToEnd) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                count += dstChannel.write(buffer);
+            }
+            buffer.clear();
+        }
+        return count;
+    }
+
+    /**
+     * Marks that the channel has reached its end.
+     */
+    protected void setReachedEnd() {
+        hasReachedToEnd = true;
+    }
+
     /**
      * Returns the hashcode of the channel as the id.
      *
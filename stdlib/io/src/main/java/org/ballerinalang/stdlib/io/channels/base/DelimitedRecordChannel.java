@@ -23,7 +23,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -34,6 +38,11 @@ import java.util.regex.Pattern;
  * A readRecord will have a readRecord separator and a field separator.
  * </p>
  * <p>
+ * The records are tokenized from a reusable buffer of characters. If the format is {@link Format#CSV}, the fields
+ * could be enclosed in quotes as specified in RFC4180, in which case the separators within the quotes are a part of
+ * the field and a pair of quotes is read as a single quote.
+ * </p>
+ * <p>
  * <b>Note : </b> this channel does not support concurrent operations, since underlying CharacterChannel is not
  * synchronous.
  * </p>
@@ -51,9 +60,81 @@ public class DelimitedRecordChannel implements IOChannel {
     private String fieldSeparator;
 
     /**
-     * Once the record is being identified the remaining string would hold the remaining elements.
+     * Holds the characters read from the channel. The characters between the position and the limit are yet to be
+     * processed as records.
+     */
+    private char[] buffer = new char[MINIMUM_READ_LENGTH];
+
+    /**
+     * Index of the buffer where the next record starts.
+     */
+    private int position = 0;
+
+    /**
+     * Index of the buffer after the last character read from the channel.
+     */
+    private int limit = 0;
+
+    /**
+     * Index of the buffer from which the record separator should be searched. The characters before this are already
+     * known not to contain the separator.
+     */
+    private int scanPosition = 0;
+
+    /**
+     * Whether the scan position is at the start of a field, if the fields could be enclosed in quotes.
+     */
+    private boolean scanFieldStart = true;
+
+    /**
+     * Whether the scan position is within a quoted field, if the fields could be enclosed in quotes.
+     */
+    private boolean scanQuotedField = false;
+
+    /**
+     * Index of the buffer where the record after the one identified through {@link #readRecord()} starts.
+     */
+    private int nextRecordPosition = 0;
+
+    /**
+     * Whether the records are separated by new lines, optionally preceded by a carriage return.
+     */
+    private boolean newLineRecordSeparator;
+
+    /**
+     * The record separator, if it is a fixed sequence of characters.
+     */
+    private String recordSeparatorLiteral;
+
+    /**
+     * The record separator, if it is not a fixed sequence of characters.
+     */
+    private Pattern recordSeparatorPattern;
+
+    /**
+     * The field separator, if it is a fixed sequence of characters.
+     */
+    private String fieldSeparatorLiteral;
+
+    /**
+     * The field separator, if it is not a fixed sequence of characters.
+     */
+    private Pattern fieldSeparatorPattern;
+
+    /**
+     * Whether the fields could be enclosed in quotes as specified in RFC4180.
+     */
+    private boolean quotedFields;
+
+    /**
+     * Holds the fields of the record being read.
      */
-    private StringBuilder persistentCharSequence;
+    private final List<String> fieldList = new ArrayList<>();
+
+    /**
+     * Holds the content of the quoted field being read.
+     */
+    private final StringBuilder quotedFieldContent = new StringBuilder();
 
     /**
      * A rough character count which will contain a record. This will be resized dynamically if the length of the
@@ -71,7 +152,7 @@ public class DelimitedRecordChannel implements IOChannel {
      * Specified whether there're any remaining records left to be read from the channel.
      * </p>
      * <p>
-     * This will be false if there're no characters remaining in the persistentCharSequence and the the channel has
+     * This will be false if there're no characters remaining in the buffer and the the channel has
      * reached EoF
      * </p>
      */
@@ -92,21 +173,30 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private Format format;
 
-    private static final String DOUBLE_QUOTE_REGEX = "\"([^\"]*)\"";
+    private static final String NEW_LINE_REGEX = "\\r?\\n";
+
+    private static final String REGEX_META_CHARACTERS = ".$|()[]{}^?*+\\";
+
+    private static final char QUOTE = '"';
+
+    /**
+     * Minimum number of characters read from the channel at once.
+     */
+    private static final int MINIMUM_READ_LENGTH = 8192;
 
     private static final Logger log = LoggerFactory.getLogger(DelimitedRecordChannel.class);
 
     public DelimitedRecordChannel(CharacterChannel channel, Format format) {
         this.channel = channel;
         this.format = format;
-        this.persistentCharSequence = new StringBuilder();
+        resolveSeparatorsForReading();
     }
 
     public DelimitedRecordChannel(CharacterChannel channel, String recordSeparator, String fieldSeparator) {
         this.recordSeparator = recordSeparator;
         this.fieldSeparator = fieldSeparator;
         this.channel = channel;
-        this.persistentCharSequence = new StringBuilder();
+        resolveSeparatorsForReading();
     }
 
     @Override
@@ -168,45 +258,93 @@ public class DelimitedRecordChannel implements IOChannel {
 
     /**
      * <p>
-     * Gets record from specified sequence of characters.
+     * Identifies how the separators used for reading should be matched.
+     * </p>
+     * <p>
+     * The separators are specified as regular expressions. The separators which match a fixed sequence of characters
+     * are matched by comparing the characters in the buffer, and the regular expression is only used for the rest.
+     * </p>
+     */
+    private void resolveSeparatorsForReading() {
+        String recordSeparatorForReading = getRecordSeparatorForReading();
+        String fieldSeparatorForReading = getFieldSeparatorForReading();
+        if (NEW_LINE_REGEX.equals(recordSeparatorForReading)) {
+            newLineRecordSeparator = true;
+        } else if (null != recordSeparatorForReading) {
+            recordSeparatorLiteral = getLiteral(recordSeparatorForReading);
+            if (null == recordSeparatorLiteral) {
+                recordSeparatorPattern = Pattern.compile(recordSeparatorForReading);
+            }
+        }
+        if (null != fieldSeparatorForReading) {
+            fieldSeparatorLiteral = getLiteral(fieldSeparatorForReading);
+            if (null == fieldSeparatorLiteral) {
+                fieldSeparatorPattern = Pattern.compile(fieldSeparatorForReading);
+            }
+        }
+        quotedFields = null != format && format.shouldIgnoreBlanks() && null != fieldSeparatorLiteral &&
+                null == recordSeparatorPattern;
+    }
+
+    /**
+     * Retrieves the sequence of characters matched by the given regular expression, if it matches only a fixed
+     * sequence of characters.
+     *
+     * @param regex the regular expression.
+     * @return the sequence of characters matched by the regular expression, or null if it is not a fixed sequence.
+     */
+    private static String getLiteral(String regex) {
+        final int escapedCharacterLength = 2;
+        if (regex.isEmpty()) {
+            return null;
+        }
+        if (regex.length() == escapedCharacterLength && regex.charAt(0) == '\\') {
+            char escapedCharacter = regex.charAt(1);
+            switch (escapedCharacter) {
+                case 't':
+                    return "\t";
+                case 'n':
+                    return "\n";
+                case 'r':
+                    return "\r";
+                default:
+                    return Character.isLetterOrDigit(escapedCharacter) ? null : String.valueOf(escapedCharacter);
+            }
+        }
+        for (int i = 0; i < regex.length(); i++) {
+            if (REGEX_META_CHARACTERS.indexOf(regex.charAt(i)) >= 0) {
+                return null;
+            }
+        }
+        return regex;
+    }
+
+    /**
+     * <p>
+     * Identifies the next record in the buffer, reading more characters from the channel until the record separator
+     * is found.
+     * </p>
+     * <p>
+     * The record starts at the current position of the buffer. Once the record is processed the position should be
+     * moved to {@link #nextRecordPosition}.
      * </p>
      *
-     * @return the requested record.
+     * @return the index of the buffer where the record ends.
      * @throws BallerinaIOException during I/O error.
      */
-    private String readRecord() throws BallerinaIOException {
-        String record = null;
-        final int minimumRecordCount = 1;
-        final int numberOfSplits = 2;
-        do {
-            if (log.isTraceEnabled()) {
-                log.trace(String.format("char[] remaining in memory %s", persistentCharSequence));
-            }
-            //We need to split the string into 2
-            String[] delimitedRecord = persistentCharSequence.toString().
-                    split(getRecordSeparatorForReading(), numberOfSplits);
-            if (delimitedRecord.length > minimumRecordCount) {
-                record = processIdentifiedRecord(delimitedRecord);
-                int recordCharacterLength = record.length();
-                if (recordCharacterLength > recordCharacterCount) {
-                    recordCharacterCount = record.length();
-                }
-            } else {
-                readRecordFromChannel();
-                if (channel.hasReachedEnd()) {
-                    delimitedRecord = persistentCharSequence.toString().
-                            split(getRecordSeparatorForReading(), numberOfSplits);
-                    record = (delimitedRecord.length == numberOfSplits) ?
-                            processIdentifiedRecord(delimitedRecord) :
-                            readFinalRecord();
+    private int readRecord() throws BallerinaIOException {
+        while (true) {
+            int recordEnd = findRecordEnd();
+            if (recordEnd >= 0) {
+                if (recordEnd - position > recordCharacterCount) {
+                    recordCharacterCount = recordEnd - position;
                 }
+                return recordEnd;
+            }
+            if (readRecordFromChannel() == 0 && channel.hasReachedEnd()) {
+                return readFinalRecord();
             }
-        } while (record == null && !channel.hasReachedEnd());
-
-        if (null == record) {
-            record = readFinalRecord();
         }
-        return record;
     }
 
     /**
@@ -216,120 +354,315 @@ public class DelimitedRecordChannel implements IOChannel {
      * <p>
      * This operation is called when there're no more content to be retrieved from the the channel.
      * </p>
+     *
+     * @return the index of the buffer where the record ends.
      */
-    private String readFinalRecord() {
-        final int minimumRemainingLength = 0;
-        String record = "";
+    private int readFinalRecord() {
         //This means there's no more to be get as records
         if (log.isDebugEnabled()) {
             log.debug(String.format("The content returned from the channel %d is <void>", channel.hashCode()));
         }
-        //This means this will be the last record which could be get
+        //This means this will be the last record which could be get, any remaining characters are provided as the
+        //last record
         this.remaining = false;
-        //If there're any remaining characters left we provide it as the last record
-        if (persistentCharSequence.length() > minimumRemainingLength) {
-            record = persistentCharSequence.toString();
-            //Once the final record is processed there will be no chars left
-            persistentCharSequence.setLength(minimumRemainingLength);
-            if (log.isTraceEnabled()) {
-                log.trace(String.format("char [] remaining in memory, will be marked as the last record %s", record));
-            }
-        }
+        nextRecordPosition = limit;
         if (log.isDebugEnabled()) {
             log.debug("Final record is get from channel " + channel.hashCode() + " number of records get " +
                     "from channel " + (numberOfRecordsReadThroughChannel + 1));
         }
-        return record;
+        return limit;
     }
 
     /**
      * <p>
-     * Reads a record from the channel.
+     * Reads characters from the channel to the end of the buffer.
+     * </p>
+     * <p>
+     * The characters of the records which were already processed are discarded, and the buffer is grown if there's
+     * not enough space left in it.
      * </p>
      *
-     * @return the record content.
+     * @return the number of characters read.
+     * @throws BallerinaIOException during I/O error.
      */
-    private String readRecordFromChannel() throws BallerinaIOException {
-        String readCharacters;
-        readCharacters = channel.read(recordCharacterCount);
-        if (log.isTraceEnabled()) {
-            log.trace(String.format("char [] get from channel,%d=%s", channel.hashCode(), readCharacters));
+    private int readRecordFromChannel() throws BallerinaIOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            scanPosition -= position;
+            position = 0;
+        }
+        String readCharacters = channel.read(Math.max(recordCharacterCount, MINIMUM_READ_LENGTH));
+        int numberOfCharacters = readCharacters.length();
+        if (buffer.length - limit < numberOfCharacters) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, limit + numberOfCharacters));
         }
-        persistentCharSequence.append(readCharacters);
+        readCharacters.getChars(0, numberOfCharacters, buffer, limit);
+        limit += numberOfCharacters;
         if (log.isTraceEnabled()) {
-            log.trace(String.format("char [] appended to the memory %s", persistentCharSequence));
+            log.trace(String.format("char [] get from channel,%d=%s", channel.hashCode(), readCharacters));
         }
-        return readCharacters;
+        return numberOfCharacters;
     }
 
     /**
      * <p>
-     * Identifies the record from the provided collection.
+     * Finds the end of the record which starts at the current position of the buffer.
      * </p>
      * <p>
-     * <b>Note :</b> This operation would append the remaining content to the string.
+     * If the fields could be enclosed in quotes, the record separators and the field separators within the quotes are
+     * considered as a part of the field.
      * </p>
      *
-     * @param delimitedRecords collection of records which required to be split.
-     * @return the record content value.
-     */
-    private String processIdentifiedRecord(String[] delimitedRecords) {
-        String record;
-        final int minimumRemainingLength = 0;
-        final int delimitedRecordIndex = 0;
-        final int delimitedRemainingIndex = 1;
-        String recordContent = delimitedRecords[delimitedRemainingIndex];
-        record = delimitedRecords[delimitedRecordIndex];
-        persistentCharSequence.setLength(minimumRemainingLength);
-        persistentCharSequence.append(recordContent);
-        if (log.isTraceEnabled()) {
-            log.trace(String.format("Record identified from remaining char[] in memory %s", record));
-            log.trace(String.format("The char[] left after split %s", persistentCharSequence));
+     * @return the index of the buffer where the record ends, or -1 if the record separator is not in the buffer.
+     */
+    private int findRecordEnd() {
+        if (null != recordSeparatorPattern) {
+            Matcher matcher = recordSeparatorPattern.matcher(CharBuffer.wrap(buffer, position, limit - position));
+            if (matcher.find()) {
+                nextRecordPosition = position + matcher.end();
+                return position + matcher.start();
+            }
+            return -1;
+        }
+        if (quotedFields) {
+            return findQuotedRecordEnd();
+        }
+        int index = scanPosition;
+        if (newLineRecordSeparator) {
+            while (index < limit) {
+                if (buffer[index] == '\n') {
+                    nextRecordPosition = index + 1;
+                    return index > position && buffer[index - 1] == '\r' ? index - 1 : index;
+                }
+                index++;
+            }
+            scanPosition = limit;
+            return -1;
+        }
+        index = indexOf(recordSeparatorLiteral, index, limit);
+        if (index < limit) {
+            nextRecordPosition = index + recordSeparatorLiteral.length();
+            return index;
         }
-        return record;
+        //The separator could be split between the characters in the buffer and the characters which are yet to be
+        //read
+        scanPosition = Math.max(position, limit - recordSeparatorLiteral.length() + 1);
+        return -1;
     }
 
     /**
      * <p>
-     * Split based on given regEx.
+     * Finds the end of the record which starts at the current position of the buffer, skipping the quoted fields.
      * </p>
      * <p>
-     * This operation will produce null for blanks.
+     * The scan continues from where the previous scan of the record stopped, along with whether it stopped at the
+     * start of a field or within a quoted field, so that a record which spans many reads is scanned once.
      * </p>
      *
-     * @param record record which should be separated.
-     * @param regex  condition which should be used to split.
-     * @return the list of fields
-     */
-    private String[] splitIgnoreBlanks(String record, String regex) {
-        Pattern reg = Pattern.compile(regex);
-        String[] split = reg.split(record);
-        for (int i = 0; i < split.length; i++) {
-            String field = split[i];
-            if (field.isEmpty()) {
-                split[i] = "";
+     * @return the index of the buffer where the record ends, or -1 if the record separator is not in the buffer.
+     */
+    private int findQuotedRecordEnd() {
+        int index = scanPosition;
+        boolean fieldStart = scanFieldStart;
+        boolean quotedField = scanQuotedField;
+        while (index < limit) {
+            if (quotedField) {
+                if (buffer[index] == QUOTE) {
+                    //The closing quote could be followed by a quote which is yet to be read
+                    if (index + 1 == limit) {
+                        break;
+                    }
+                    if (buffer[index + 1] == QUOTE) {
+                        index += 2;
+                        continue;
+                    }
+                    quotedField = false;
+                }
+                index++;
+                continue;
+            }
+            if (fieldStart && buffer[index] == QUOTE) {
+                quotedField = true;
+                fieldStart = false;
+                index++;
                 continue;
             }
-            if (field.matches(DOUBLE_QUOTE_REGEX)) {
-                split[i] = field.substring(field.indexOf('\"') + 1, field.lastIndexOf('\"'));
+            //A separator could be split between the characters in the buffer and the characters which are yet to be
+            //read
+            if (isPartialSequence(fieldSeparatorLiteral, index) || (newLineRecordSeparator ?
+                    buffer[index] == '\r' && index + 1 == limit : isPartialSequence(recordSeparatorLiteral, index))) {
+                break;
+            }
+            if (startsWith(fieldSeparatorLiteral, index, limit)) {
+                index += fieldSeparatorLiteral.length();
+                fieldStart = true;
+                continue;
+            }
+            fieldStart = false;
+            if (newLineRecordSeparator) {
+                if (buffer[index] == '\n') {
+                    nextRecordPosition = index + 1;
+                    return index;
+                } else if (buffer[index] == '\r' && buffer[index + 1] == '\n') {
+                    nextRecordPosition = index + 2;
+                    return index;
+                }
+            } else if (startsWith(recordSeparatorLiteral, index, limit)) {
+                nextRecordPosition = index + recordSeparatorLiteral.length();
+                return index;
+            }
+            index++;
+        }
+        scanPosition = index;
+        scanFieldStart = fieldStart;
+        scanQuotedField = quotedField;
+        return -1;
+    }
+
+    /**
+     * Checks whether the characters in the buffer starting from the given index are the beginning of the given
+     * sequence, which is not completely read.
+     *
+     * @param sequence the sequence of characters.
+     * @param index    the index of the buffer.
+     * @return true if the characters are a part of the sequence.
+     */
+    private boolean isPartialSequence(String sequence, int index) {
+        int length = limit - index;
+        if (length >= sequence.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[index + i] != sequence.charAt(i)) {
+                return false;
             }
         }
-        return split;
+        return true;
+    }
+
+    /**
+     * Checks whether the characters in the buffer starting from the given index match the given sequence.
+     *
+     * @param sequence the sequence of characters.
+     * @param index    the index of the buffer.
+     * @param end      the index of the buffer where the content ends.
+     * @return true if the characters match the sequence.
+     */
+    private boolean startsWith(String sequence, int index, int end) {
+        int length = sequence.length();
+        if (end - index < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[index + i] != sequence.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the first occurrence of the given sequence in the buffer.
+     *
+     * @param sequence the sequence of characters.
+     * @param index    the index of the buffer to start from.
+     * @param end      the index of the buffer where the content ends.
+     * @return the index of the first occurrence, or the end if the sequence is not found.
+     */
+    private int indexOf(String sequence, int index, int end) {
+        char first = sequence.charAt(0);
+        int lastIndex = end - sequence.length();
+        while (index <= lastIndex) {
+            if (buffer[index] == first && startsWith(sequence, index, end)) {
+                return index;
+            }
+            index++;
+        }
+        return end;
     }
 
     /**
      * Get the fields identified through the record.
+     * <p>
+     * Similar to {@link String#split(String)}, the trailing empty fields are omitted.
+     * </p>
      *
-     * @param record the record which contains all the fields.
+     * @param start the index of the buffer where the record starts.
+     * @param end   the index of the buffer where the record ends.
      * @return fields which are separated as records.
      */
-    private String[] getFields(String record) {
-        String fieldSeparatorForReading = getFieldSeparatorForReading();
-        if (null != format && format.shouldIgnoreBlanks()) {
-            return splitIgnoreBlanks(record, fieldSeparatorForReading);
-        } else {
-            return record.split(fieldSeparatorForReading);
+    private String[] getFields(int start, int end) {
+        if (null != fieldSeparatorPattern) {
+            return fieldSeparatorPattern.split(CharBuffer.wrap(buffer, start, end - start));
+        }
+        fieldList.clear();
+        int fieldCount = 0;
+        int separatorLength = fieldSeparatorLiteral.length();
+        int index = start;
+        while (true) {
+            String field;
+            boolean blank;
+            int separatorIndex;
+            if (quotedFields && index < end && buffer[index] == QUOTE) {
+                separatorIndex = readQuotedField(index + 1, end);
+                field = quotedFieldContent.toString();
+                blank = false;
+            } else {
+                separatorIndex = indexOf(fieldSeparatorLiteral, index, end);
+                field = new String(buffer, index, separatorIndex - index);
+                blank = field.isEmpty();
+            }
+            fieldList.add(field);
+            if (!blank) {
+                fieldCount = fieldList.size();
+            }
+            if (separatorIndex >= end) {
+                break;
+            }
+            index = separatorIndex + separatorLength;
+        }
+        if (fieldList.size() == 1) {
+            //The record did not contain a separator
+            return new String[]{fieldList.get(0)};
         }
+        return fieldList.subList(0, fieldCount).toArray(new String[0]);
+    }
+
+    /**
+     * <p>
+     * Reads the content of a quoted field in to {@link #quotedFieldContent}.
+     * </p>
+     * <p>
+     * A pair of quotes within the field is read as a single quote. Any characters between the closing quote and the
+     * field separator are read as they are.
+     * </p>
+     *
+     * @param index the index of the buffer after the opening quote.
+     * @param end   the index of the buffer where the record ends.
+     * @return the index of the field separator which follows the field, or the end if it is the last field.
+     */
+    private int readQuotedField(int index, int end) {
+        quotedFieldContent.setLength(0);
+        int segmentStart = index;
+        while (index < end) {
+            if (buffer[index] == QUOTE) {
+                if (index + 1 < end && buffer[index + 1] == QUOTE) {
+                    quotedFieldContent.append(buffer, segmentStart, index + 1 - segmentStart);
+                    index += 2;
+                    segmentStart = index;
+                    continue;
+                }
+                quotedFieldContent.append(buffer, segmentStart, index - segmentStart);
+                segmentStart = index + 1;
+                int separatorIndex = indexOf(fieldSeparatorLiteral, segmentStart, end);
+                quotedFieldContent.append(buffer, segmentStart, separatorIndex - segmentStart);
+                return separatorIndex;
+            }
+            index++;
+        }
+        quotedFieldContent.append(buffer, segmentStart, end - segmentStart);
+        return end;
     }
 
     /**
@@ -352,9 +685,9 @@ public class DelimitedRecordChannel implements IOChannel {
                 log.debug(String.format("Reading record %d from %d", numberOfRecordsReadThroughChannel,
                         channel.hashCode()));
             }
-            String record = readRecord();
-            if (!record.isEmpty() || remaining) {
-                fields = getFields(record);
+            int recordEnd = readRecord();
+            if (recordEnd > position || remaining) {
+                fields = getFields(position, recordEnd);
                 numberOfRecordsReadThroughChannel++;
                 if (log.isDebugEnabled()) {
                     log.debug("Record " + numberOfRecordsReadThroughChannel + " returned " + fields.length + " from " +
@@ -365,6 +698,10 @@ public class DelimitedRecordChannel implements IOChannel {
                             "channel " + channel.hashCode() + "," + Arrays.toString(fields));
                 }
             }
+            position = nextRecordPosition;
+            scanPosition = position;
+            scanFieldStart = true;
+            scanQuotedField = false;
         } else {
             //The channel could be null if it's being closed by a different source
             if (null != channel) {
@@ -379,14 +716,34 @@ public class DelimitedRecordChannel implements IOChannel {
 
     /**
      * Enclose a given field with quotes.
+     * <p>
+     * If the fields could be enclosed in quotes as specified in RFC4180, the quotes within the field are escaped.
+     * </p>
      *
      * @param field field which should be enclosed.
      * @return Enclosed field.
      */
     private String encloseField(String field) {
+        if (quotedFields) {
+            field = field.replace("\"", "\"\"");
+        }
         return "\"" + field + "\"";
     }
 
+    /**
+     * Checks whether a given field should be enclosed with quotes when writing.
+     *
+     * @param field the field which should be written.
+     * @return true if the field should be enclosed.
+     */
+    private boolean shouldEnclose(String field) {
+        if (field.contains(getFieldSeparatorForWriting())) {
+            return true;
+        }
+        //Otherwise the quotes and the line breaks would not be read back as a part of the field
+        return quotedFields && (field.indexOf(QUOTE) >= 0 || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0);
+    }
+
     /**
      * Will place the relevant fields together to/form a record.
      *
@@ -404,7 +761,7 @@ public class DelimitedRecordChannel implements IOChannel {
         }
         for (int fieldCount = fieldStartIndex; fieldCount < numberOfFields; fieldCount++) {
             String currentFieldString = fields[fieldCount];
-            if (currentFieldString.contains(getFieldSeparatorForWriting())) {
+            if (shouldEnclose(currentFieldString)) {
                 currentFieldString = encloseField(currentFieldString);
             }
             recordConsolidator.append(currentFieldString);
@@ -460,7 +817,7 @@ public class DelimitedRecordChannel implements IOChannel {
 
     @Override
     public boolean remaining() {
-        return persistentCharSequence.length() > 0;
+        return limit > position;
     }
 
     /**
@@ -470,11 +827,10 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException if encoding error or channel reading error happens
      */
     public boolean hasNext() throws BallerinaIOException {
-        if (remaining && persistentCharSequence.length() == 0) {
+        if (remaining && limit == position) {
             //If this is the case we need to further verify whether there will be more bytes left to be read
             //Remaining can become false in the next iteration
-            String readChars = readRecordFromChannel();
-            if (readChars.isEmpty()) {
+            if (readRecordFromChannel() == 0) {
                 remaining = false;
             }
         }
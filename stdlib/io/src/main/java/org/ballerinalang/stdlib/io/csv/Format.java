@@ -27,9 +27,9 @@ public enum Format {
      */
     DEFAULT(",", "\\r?\\n", ",", "\n", false),
     /**
-     * CSV should conform with RFC4180 specification.
+     * CSV should conform with RFC4180 specification. The fields enclosed in quotes are handled by the channel.
      */
-    CSV(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", "\\r?\\n", ",", "\n", true),
+    CSV(",", "\\r?\\n", ",", "\n", true),
     /**
      * Tab delimited records.
      */
@@ -124,10 +124,25 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
-    public static Object openReadableFile(BString pathUrl) {
+    public static Object transferTo(BObject channel, BObject dstChannel) {
+        Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        Channel dstByteChannel = (Channel) dstChannel.getNativeData(BYTE_CHANNEL_NAME);
+        if (byteChannel.hasReachedEnd()) {
+            return IOUtils.createEoFError();
+        }
+        try {
+            return byteChannel.transferTo(dstByteChannel.getByteChannel());
+        } catch (IOException e) {
+            String msg = "error occurred while transferring bytes from the channel. " + e.getMessage();
+            log.error(msg, e);
+            return IOUtils.createError(msg);
+        }
+    }
+
+    public static Object openReadableFile(BString pathUrl, boolean memoryMapped) {
         Object channel;
         try {
-            channel = createChannel(inFlow(pathUrl.getValue()));
+            channel = createChannel(readableFileInFlow(pathUrl.getValue(), memoryMapped));
         } catch (BallerinaIOException e) {
             channel = IOUtils.createError(e);
         } catch (BError e) {
@@ -155,10 +170,11 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
-    private static Channel inFlow(String pathUrl) throws BallerinaIOException {
+    private static Channel readableFileInFlow(String pathUrl, boolean memoryMapped) throws BallerinaIOException {
         Path path = Paths.get(pathUrl);
         FileChannel fileChannel = IOUtils.openFileChannelExtended(path, READ_ACCESS_MODE);
-        Channel channel = new FileIOChannel(fileChannel);
+        Channel channel = memoryMapped ? FileIOChannel.createMemoryMappedChannel(fileChannel) :
+                new FileIOChannel(fileChannel);
         channel.setReadable(true);
         return channel;
     }
@@ -38,8 +38,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
+import java.util.Iterator;
 
 import static org.ballerinalang.stdlib.io.utils.IOConstants.CHARACTER_CHANNEL_NAME;
+import static org.ballerinalang.stdlib.io.utils.IOConstants.JSON_ARRAY_ITERATOR_NAME;
 
 /**
  * This class hold Java inter-ops bridging functions for io# *CharacterChannels.
@@ -97,6 +99,29 @@ public class CharacterChannelUtils {
         }
     }
 
+    public static void initJsonArrayIterator(BObject iterator, BObject channel) {
+        CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        CharacterChannelReader reader = new CharacterChannelReader(charChannel);
+        Iterator<Object> elements = JsonUtils.parseArrayElements(
+                reader, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        iterator.addNativeData(JSON_ARRAY_ITERATOR_NAME, elements);
+    }
+
+    public static Object hasNextJsonArrayElement(BObject iterator) {
+        Iterator<?> elements = (Iterator<?>) iterator.getNativeData(JSON_ARRAY_ITERATOR_NAME);
+        try {
+            return elements.hasNext();
+        } catch (BError e) {
+            log.error("unable to read json array element from character channel", e);
+            return IOUtils.createError(e);
+        }
+    }
+
+    public static Object nextJsonArrayElement(BObject iterator) {
+        Iterator<?> elements = (Iterator<?>) iterator.getNativeData(JSON_ARRAY_ITERATOR_NAME);
+        return elements.next();
+    }
+
     public static Object readXml(BObject channel) {
         CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
         CharacterChannelReader reader = new CharacterChannelReader(charChannel);
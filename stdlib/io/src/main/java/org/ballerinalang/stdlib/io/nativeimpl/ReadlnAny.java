@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BString;
 
@@ -32,10 +33,10 @@ public class ReadlnAny {
 
     private static Scanner sc = new Scanner(System.in, Charset.defaultCharset().displayName());
 
-    public static BString readln(Object result) {
+    public static BString readln(Environment env, Object result) {
         if (result != null) {
             System.out.print(result.toString());
         }
-        return StringUtils.fromString(sc.nextLine());
+        return (BString) env.executeBlocking(() -> StringUtils.fromString(sc.nextLine()));
     }
 }
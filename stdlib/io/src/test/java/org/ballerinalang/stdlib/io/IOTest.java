@@ -313,6 +313,38 @@ public class IOTest {
         BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
     }
 
+    @Test(description = "Test 'readJsonArrayStream' function in ballerina/io package")
+    public void testJsonArrayStream() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/json-array.json";
+
+        //Will initialize the channel
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8") };
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+
+        BValue[] returns = BRunUtil.invoke(characterInputOutputProgramFile, "readJsonArrayStream");
+        String expectedElements = "[{\"id\":1, \"name\":\"Apple\", \"tags\":[\"fruit\", \"red\"]}, " +
+                "{\"id\":2, \"name\":\"Banana\", \"price\":0.25}, \"text\", null]";
+        Assert.assertEquals(returns[0].stringValue(), expectedElements, "JSON elements mismatch.");
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+    }
+
+    @Test(description = "Test 'readJsonArrayStream' function with content, which is not a JSON array")
+    public void testJsonArrayStreamWithObject() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/web-app.json";
+
+        //Will initialize the channel
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8") };
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+
+        BValue[] returns = BRunUtil.invoke(characterInputOutputProgramFile, "readJsonArrayStream");
+        Assert.assertTrue(returns[0] instanceof BError);
+        Assert.assertTrue(((BError) returns[0]).getMessage().contains("expected [ at line: 1 column: 1"),
+                          ((BError) returns[0]).getMessage());
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+    }
+
     @Test(description = "Test 'writeJson' function in ballerina/io package")
     public void testWriteJsonCharacters() {
         String content = "{\n" + "  \"test\": { \"name\": \"Foo\" }\n" + "}";
@@ -18,6 +18,7 @@
 package org.ballerinalang.stdlib.io.bytes;
 
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Buffer;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.util.TestUtil;
@@ -27,12 +28,19 @@ import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.stream.Collectors;
 
 /**
@@ -201,6 +209,60 @@ public class BytesInputOutputBufferTest {
         Assert.assertEquals(totalNumberOfBytesRead, totalNumberOfBytesWritten);
     }
 
+    @Test(description = "Copy I/O byte file through a memory mapped channel")
+    public void memoryMappedFileCopyTest() throws IOException, URISyntaxException {
+        final int readLimit = 10000;
+        int numberOfBytesRead;
+        FileChannel readFileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/images/ballerina.png");
+        Channel readChannel = FileIOChannel.createMemoryMappedChannel(readFileChannel);
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        do {
+            ReadByteResult readByteResult = read(readLimit, readChannel);
+            numberOfBytesRead = readByteResult.getNumberOfBytesRead();
+            copy.write(readByteResult.getContent(), 0, numberOfBytesRead);
+        } while (numberOfBytesRead > 0);
+        readChannel.close();
+
+        Assert.assertTrue(readChannel.hasReachedEnd());
+        Assert.assertEquals(copy.toByteArray(), readAllBytes("datafiles/io/images/ballerina.png"));
+    }
+
+    @Test(description = "Transfer I/O byte file to other channels")
+    public void fileTransferTest() throws IOException, URISyntaxException {
+        final int numberOfBytesInFile = 45613;
+        byte[] content = readAllBytes("datafiles/io/images/ballerina.png");
+        for (boolean memoryMapped : new boolean[]{false, true}) {
+            //Transfer to a file
+            FileChannel readFileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/images/ballerina.png");
+            Channel readChannel = memoryMapped ? FileIOChannel.createMemoryMappedChannel(readFileChannel) :
+                    new FileIOChannel(readFileChannel);
+            Path copyPath = Paths.get(currentDirectoryPath, "ballerinaTransfer.png");
+            try (FileChannel writeChannel = FileChannel.open(copyPath, StandardOpenOption.CREATE,
+                                                             StandardOpenOption.WRITE,
+                                                             StandardOpenOption.TRUNCATE_EXISTING)) {
+                Assert.assertEquals(readChannel.transferTo(writeChannel), numberOfBytesInFile);
+            }
+            Assert.assertTrue(readChannel.hasReachedEnd());
+            readChannel.close();
+            Assert.assertEquals(Files.readAllBytes(copyPath), content);
+
+            //Transfer the rest of the file to a stream, after reading a part of it
+            readFileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/images/ballerina.png");
+            readChannel = memoryMapped ? FileIOChannel.createMemoryMappedChannel(readFileChannel) :
+                    new FileIOChannel(readFileChannel);
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            ReadByteResult readByteResult = read(1000, readChannel);
+            copy.write(readByteResult.getContent(), 0, readByteResult.getNumberOfBytesRead());
+            Assert.assertEquals(readChannel.transferTo(Channels.newChannel(copy)), numberOfBytesInFile - 1000);
+            readChannel.close();
+            Assert.assertEquals(copy.toByteArray(), content);
+        }
+    }
+
+    private byte[] readAllBytes(String resource) throws IOException, URISyntaxException {
+        return Files.readAllBytes(Paths.get(getClass().getClassLoader().getResource(resource).toURI()));
+    }
+
     @Test(description = "Read bytes from fix buffer into multiple reads")
     public void multiReadFromFixedBuffer() throws IOException, URISyntaxException {
 
@@ -21,6 +21,7 @@ import org.ballerinalang.stdlib.io.MockByteChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.csv.Format;
 import org.ballerinalang.stdlib.io.util.TestUtil;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.testng.Assert;
@@ -30,7 +31,11 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Tests record I/O functionality.
@@ -144,6 +149,59 @@ public class RecordInputOutputTest {
         recordChannel.close();
     }
 
+    @Test(description = "Reads records with quoted fields as specified in RFC4180")
+    public void readQuotedRecords() throws IOException, URISyntaxException, BallerinaIOException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleRfcQuoted.csv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+
+        Assert.assertTrue(recordChannel.hasNext());
+        Assert.assertEquals(recordChannel.read(), new String[]{"User1,12", "He said \"Hi\"", "07xxxxxx"});
+
+        //The record separator within the quotes is a part of the field
+        Assert.assertTrue(recordChannel.hasNext());
+        Assert.assertEquals(recordChannel.read(), new String[]{"Colombo,\r\nSL", "WSO2", "07xxxxxxx"});
+
+        Assert.assertTrue(recordChannel.hasNext());
+        Assert.assertEquals(recordChannel.read(), new String[]{"User3", "", "123xxxxx"});
+
+        //The quotes are only considered at the start of the field
+        Assert.assertTrue(recordChannel.hasNext());
+        Assert.assertEquals(recordChannel.read(), new String[]{"User4", " \"WSO2\"", "07xxxxxx"});
+        Assert.assertFalse(recordChannel.hasNext());
+
+        recordChannel.close();
+    }
+
+    @Test(description = "Reads a quoted field which spans many reads from the channel")
+    public void readLengthyQuotedRecord() throws IOException, BallerinaIOException {
+        StringBuilder field = new StringBuilder();
+        StringBuilder content = new StringBuilder("\"");
+        for (int i = 0; i < 10000; i++) {
+            field.append("a,\"\r\n");
+            content.append("a,\"\"\r\n");
+        }
+        content.append("\",b\r\nc,d");
+        Path path = Files.createTempFile("lengthyQuotedRecord", ".csv");
+        try {
+            Files.write(path, content.toString().getBytes(StandardCharsets.UTF_8));
+            Channel channel = new MockByteChannel(FileChannel.open(path, StandardOpenOption.READ));
+            CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+            DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+
+            //The escaped quotes and the line breaks within the field are split between the reads
+            Assert.assertTrue(recordChannel.hasNext());
+            Assert.assertEquals(recordChannel.read(), new String[]{field.toString(), "b"});
+            Assert.assertTrue(recordChannel.hasNext());
+            Assert.assertEquals(recordChannel.read(), new String[]{"c", "d"});
+            Assert.assertFalse(recordChannel.hasNext());
+            recordChannel.close();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
     @Test(description = "Writes records to channel")
     public void writeRecords() throws IOException {
         //Number of characters in this file would be 6
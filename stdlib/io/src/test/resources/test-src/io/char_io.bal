@@ -116,6 +116,21 @@ function readJson() returns @tainted json|error {
     return ();
 }
 
+function readJsonArrayStream() returns @tainted string|error {
+    var rCha = rch;
+    json[] elements = [];
+    if(rCha is io:ReadableCharacterChannel){
+        stream<json, io:Error> jsonStream = rCha.readJsonArrayStream();
+        error? result = jsonStream.forEach(function (json element) {
+            elements.push(element);
+        });
+        if (result is error) {
+            return result;
+        }
+    }
+    return elements.toJsonString();
+}
+
 function readXml() returns @tainted xml|error {
     var rCha = rch;
     if(rCha is io:ReadableCharacterChannel){
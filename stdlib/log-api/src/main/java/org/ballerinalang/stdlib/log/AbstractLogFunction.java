@@ -19,6 +19,7 @@
 package org.ballerinalang.stdlib.log;
 
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.observability.ObserveUtils;
 import org.ballerinalang.logging.BLogManager;
@@ -26,6 +27,8 @@ import org.ballerinalang.logging.util.BLogLevel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.logging.LogManager;
@@ -41,6 +44,11 @@ public abstract class AbstractLogFunction {
 
     private static final Logger ballerinaRootLogger = LoggerFactory.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
 
+    private static final String LOG_API_PACKAGE_PREFIX = AbstractLogFunction.class.getPackageName() + ".";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    // Package paths of the classes which have called the log functions, keyed by the class name
+    private static final Map<String, String> PACKAGE_PATHS = new ConcurrentHashMap<>();
+
     protected static Logger getLogger(String pkg) {
         if (".".equals(pkg) || pkg == null) {
             return ballerinaRootLogger;
@@ -50,6 +58,30 @@ public abstract class AbstractLogFunction {
         }
     }
 
+    /**
+     * Logs the given message, if the given log level is enabled for the calling module. The calling module is only
+     * resolved if it is needed, i.e. to check the module log level or to log the message.
+     *
+     * @param message  log message
+     * @param logLevel log level
+     * @param consumer log message consumer
+     */
+    static void log(Object message, BLogLevel logLevel, BiConsumer<String, String> consumer) {
+        String pckg;
+        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
+            pckg = getPackagePath();
+            if (LOG_MANAGER.getPackageLogLevel(pckg).value() > logLevel.value()) {
+                return;
+            }
+        } else {
+            if (LOG_MANAGER.getPackageLogLevel(".").value() > logLevel.value()) {
+                return;
+            }
+            pckg = getPackagePath();
+        }
+        logMessage(Scheduler.getStrand(), message, logLevel, pckg, consumer);
+    }
+
     /**
      * Execute logging provided message.
      *
@@ -82,8 +114,24 @@ public abstract class AbstractLogFunction {
         ObserveUtils.logMessageToActiveSpan(logLevel.name(), logMessage, logLevel == BLogLevel.ERROR);
     }
 
+    /**
+     * Returns the path of the module, which has called the log function. Only the top frames of the stack are walked,
+     * and the path is cached per calling class.
+     *
+     * @return the module path in the `org/module` form, or "." if it cannot be resolved
+     */
     static String getPackagePath() {
-        String className = Thread.currentThread().getStackTrace()[4].getClassName();
+        String className = STACK_WALKER.walk(frames -> frames
+                .dropWhile(frame -> frame.getClassName().startsWith(LOG_API_PACKAGE_PREFIX))
+                // Skip the external function of the log module, which calls the log API
+                .skip(1)
+                .findFirst()
+                .map(StackWalker.StackFrame::getClassName)
+                .orElse(""));
+        return PACKAGE_PATHS.computeIfAbsent(className, AbstractLogFunction::toPackagePath);
+    }
+
+    private static String toPackagePath(String className) {
         String[] pkgData = className.split("\\.");
         if (pkgData.length > 1) {
             return pkgData[0] + "/" + pkgData[1];
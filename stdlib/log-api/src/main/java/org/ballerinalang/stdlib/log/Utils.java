@@ -19,7 +19,6 @@
 package org.ballerinalang.stdlib.log;
 
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.runtime.internal.scheduling.Scheduler;
 import org.ballerinalang.logging.util.BLogLevel;
 
 /**
@@ -30,79 +29,26 @@ import org.ballerinalang.logging.util.BLogLevel;
 public class Utils extends AbstractLogFunction {
 
     public static void printDebug(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.DEBUG.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.DEBUG.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.DEBUG, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).debug(message);
-                    });
-        }
+        log(msg, BLogLevel.DEBUG, (pkg, message) -> getLogger(pkg).debug(message));
     }
 
     public static void printError(Object msg, Object err) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.ERROR.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.ERROR.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.ERROR, getPackagePath(),
-                    (pkg, message) -> {
-                        String errorMsg = (err == null) ? "" : " : " + err.toString();
-                        getLogger(pkg).error(message + errorMsg);
-                    });
-        }
+        log(msg, BLogLevel.ERROR, (pkg, message) -> {
+            String errorMsg = (err == null) ? "" : " : " + err.toString();
+            getLogger(pkg).error(message + errorMsg);
+        });
     }
 
     public static void printInfo(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.INFO.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.INFO.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.INFO, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).info(message);
-                    });
-        }
+        log(msg, BLogLevel.INFO, (pkg, message) -> getLogger(pkg).info(message));
     }
 
     public static void printTrace(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.TRACE.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.TRACE.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.TRACE, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).trace(message);
-                    });
-        }
+        log(msg, BLogLevel.TRACE, (pkg, message) -> getLogger(pkg).trace(message));
     }
 
     public static void printWarn(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.WARN.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.WARN.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.WARN, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).warn(message);
-                    });
-        }
+        log(msg, BLogLevel.WARN, (pkg, message) -> getLogger(pkg).warn(message));
     }
 
     public static void setModuleLogLevel(BString logLevel, Object moduleName) {
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.logging;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.values.FutureValue;
+import org.ballerinalang.logging.BLogManager;
+import org.ballerinalang.logging.util.BLogLevel;
+import org.ballerinalang.stdlib.log.Utils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.LogManager;
+
+/**
+ * Test cases for the log levels of the modules, which call the log functions.
+ * <p>
+ * The log functions resolve the calling module from the class of the frame, which calls the external function of
+ * the log module. The frames of this class are of the {@code org/ballerinalang} module.
+ */
+public class ModuleLogLevelTest {
+
+    private static final String CALLING_MODULE = "org/ballerinalang";
+
+    @BeforeClass
+    public void setup() {
+        ((BLogManager) LogManager.getLogManager()).loadUserProvidedLogConfiguration();
+    }
+
+    @Test
+    public void testModuleLogLevel() {
+        BLogManager logManager = (BLogManager) LogManager.getLogManager();
+        logManager.setModuleLogLevel(BLogLevel.WARN, CALLING_MODULE);
+
+        List<String> messages = logFromModule(Utils::printInfo, Utils::printWarn,
+                                              message -> Utils.printError(message, null));
+        Assert.assertEquals(messages, List.of("printWarn", "printError"));
+
+        // The level of the module is lower than the default level, which is INFO
+        logManager.setModuleLogLevel(BLogLevel.DEBUG, CALLING_MODULE);
+        messages = logFromModule(Utils::printTrace, Utils::printDebug, Utils::printInfo);
+        Assert.assertEquals(messages, List.of("printDebug", "printInfo"));
+    }
+
+    @SafeVarargs
+    private static List<String> logFromModule(Consumer<Object>... logFunctions) {
+        List<String> messages = new ArrayList<>();
+        Scheduler scheduler = new Scheduler(1, false);
+        FutureValue future = scheduler.schedule(new Object[1], params -> {
+            for (Consumer<Object> logFunction : logFunctions) {
+                callLogFunction(logFunction, new Message(messages));
+            }
+            return null;
+        }, null, null, "logger", null);
+        scheduler.start();
+        Assert.assertNull(future.panic);
+        return messages;
+    }
+
+    /**
+     * Calls the log function, as the external function of the log module does.
+     */
+    private static void callLogFunction(Consumer<Object> logFunction, Object message) {
+        logFunction.accept(message);
+    }
+
+    /**
+     * Log message which records the name of the log function, if the message is logged.
+     */
+    private static class Message {
+
+        private final List<String> messages;
+
+        Message(List<String> messages) {
+            this.messages = messages;
+        }
+
+        @Override
+        public String toString() {
+            String logFunction = StackWalker.getInstance().walk(frames -> frames
+                    .filter(frame -> frame.getClassName().equals(Utils.class.getName()))
+                    .findFirst()
+                    .map(StackWalker.StackFrame::getMethodName)
+                    .orElse(""));
+            messages.add(logFunction);
+            return logFunction;
+        }
+    }
+}
@@ -31,6 +31,7 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
 import org.ballerinalang.stdlib.io.channels.TempFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
@@ -43,6 +44,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -363,7 +365,9 @@ public class EntityBodyHandler {
     }
 
     /**
-     * Write byte channel stream directly into outputstream without converting it to a data source.
+     * Write byte channel stream directly into outputstream without converting it to a data source. The content of a
+     * file channel is transferred by the channel, so that it is not read through an intermediate buffer if the file is
+     * memory mapped.
      *
      * @param entityObj        Represent a ballerina entity
      * @param messageOutputStream Represent the outputstream that the message should be written to
@@ -374,7 +378,11 @@ public class EntityBodyHandler {
             throws IOException {
         Channel byteChannel = EntityBodyHandler.getByteChannel(entityObj);
         if (byteChannel != null) {
-            MimeUtil.writeInputToOutputStream(byteChannel.getInputStream(), messageOutputStream);
+            if (byteChannel instanceof FileIOChannel) {
+                byteChannel.transferTo(Channels.newChannel(messageOutputStream));
+            } else {
+                MimeUtil.writeInputToOutputStream(byteChannel.getInputStream(), messageOutputStream);
+            }
             byteChannel.close();
             //Set the byte channel to null, once it is consumed
             entityObj.addNativeData(ENTITY_BYTE_CHANNEL, null);
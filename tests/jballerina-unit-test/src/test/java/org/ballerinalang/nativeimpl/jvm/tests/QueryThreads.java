@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.nativeimpl.jvm.tests;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * This class is used for Java interoperability tests.
+ * <p>
+ * Records the threads on which the clauses of a parallel query are evaluated.
+ *
+ * @since 2.0.0
+ */
+public class QueryThreads {
+
+    private static final long WAIT_MILLIS = 2000;
+    private static final Set<Long> THREADS = new HashSet<>();
+
+    public static synchronized void reset() {
+        THREADS.clear();
+    }
+
+    /**
+     * Returns the id of the current thread. The first call on the first thread waits for a call on another thread, so
+     * that a chunk evaluated concurrently is seen even if the first chunk could be evaluated before it starts.
+     *
+     * @return id of the current thread
+     */
+    public static synchronized long getThreadId() {
+        long threadId = Thread.currentThread().getId();
+        if (THREADS.add(threadId)) {
+            QueryThreads.class.notifyAll();
+            long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+            long remaining = WAIT_MILLIS;
+            try {
+                while (THREADS.size() < 2 && remaining > 0) {
+                    QueryThreads.class.wait(remaining);
+                    remaining = deadline - System.currentTimeMillis();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return threadId;
+    }
+}
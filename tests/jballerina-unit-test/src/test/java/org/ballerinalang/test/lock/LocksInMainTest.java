@@ -297,4 +297,9 @@ public class LocksInMainTest {
     public void testForGlobalRefUpdateInsideConditional() {
         BRunUtil.invoke(parallelCompileResult, "testForGlobalRefUpdateInsideConditional");
     }
+
+    @Test(description = "Test read-only locks running concurrently with locks updating the same variables")
+    public void testReadOnlyLocksWithConcurrentWriters() {
+        BRunUtil.invoke(parallelCompileResult, "testReadOnlyLocksWithConcurrentWriters");
+    }
 }
@@ -114,6 +114,24 @@ public class JoinClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test join clause matching keys by value rather than by their string representation")
+    public void testJoinClauseWithDecimalKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithDecimalKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause matching tuple keys with decimal members by value")
+    public void testJoinClauseWithDecimalsInTupleKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithDecimalsInTupleKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause matching 0.0 and -0.0 float keys")
+    public void testJoinClauseWithSignedZeroFloatKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithSignedZeroFloatKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(groups = {"disableOnOldParser"}, description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 32);
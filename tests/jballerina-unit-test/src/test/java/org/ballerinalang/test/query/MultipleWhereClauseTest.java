@@ -18,6 +18,7 @@
 
 package org.ballerinalang.test.query;
 
+import org.ballerinalang.core.model.values.BError;
 import org.ballerinalang.core.model.values.BFloat;
 import org.ballerinalang.core.model.values.BMap;
 import org.ballerinalang.core.model.values.BValue;
@@ -87,4 +88,30 @@ public class MultipleWhereClauseTest {
         Assert.assertEquals(person1.get("lastName").stringValue(), "Fonseka");
         Assert.assertEquals(((BFloat) person1.get("score")).floatValue(), 90.6);
     }
+
+    @Test(description = "Test where clause narrowing the type of a from variable")
+    public void testTypeNarrowingWithWhere() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testTypeNarrowingWithWhere");
+        Assert.assertEquals(returnValues[0].stringValue(), "[6, 10]");
+    }
+
+    @Test(description = "Test query with where clauses evaluated repeatedly within a loop")
+    public void testWhereClausesWithinLoop() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testWhereClausesWithinLoop");
+        Assert.assertEquals(returnValues[0].stringValue(), "[2, 4, 6, 3, 6, 5, 6]");
+    }
+
+    @Test(description = "Test where clauses with a select clause returning an error from the query")
+    public void testWhereClausesWithCheckedSelect() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testWhereClausesWithCheckedSelect");
+        Assert.assertTrue(returnValues[0] instanceof BError);
+    }
+
+    @Test(description = "Test query over an array evaluated in a loop of the enclosing function")
+    public void testQueryEvaluatedInEnclosingFunction() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testQueryEvaluatedInEnclosingFunction");
+        // The select clause is not evaluated within a function of a stream pipeline
+        Assert.assertEquals(returnValues[0].stringValue(),
+                            "[\"testQueryEvaluatedInEnclosingFunction\", \"testQueryEvaluatedInEnclosingFunction\"]");
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * This contains methods to test the parallel evaluation of query expressions. The tests are run by the
+ * parallelQueryTest task, which sets the BALLERINA_QUERY_PARALLELISM system variable.
+ *
+ * @since 2.0.0
+ */
+@Test(groups = { "parallelQuery" })
+public class ParallelQueryTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/parallel-query.bal");
+    }
+
+    @Test(description = "Test that the chunks of a parallel query are evaluated on more than one thread")
+    public void testParallelQueryThreads() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testParallelQueryThreads");
+        Assert.assertTrue(((BInteger) returnValues[0]).intValue() > 1);
+    }
+
+    @Test(description = "Test that a query which reads a mutable local variable is evaluated on one thread")
+    public void testQueryWithMutableCaptureThreads() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testQueryWithMutableCaptureThreads");
+        Assert.assertEquals(((BInteger) returnValues[0]).intValue(), 1);
+    }
+}
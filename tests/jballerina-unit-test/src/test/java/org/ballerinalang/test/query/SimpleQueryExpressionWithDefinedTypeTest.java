@@ -361,4 +361,10 @@ public class SimpleQueryExpressionWithDefinedTypeTest {
         Assert.assertEquals(person2.stringValue(), "{firstName:\"John\", lastName:\"David\", " +
                 "deptAccess:\"XYZ\", address:{city:\"Colombo\", country:\"SL\"}}");
     }
+
+    @Test(description = "Test query expression over a large readonly array")
+    public void testQueryOverLargeReadonlyArray() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testQueryOverLargeReadonlyArray");
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
 }
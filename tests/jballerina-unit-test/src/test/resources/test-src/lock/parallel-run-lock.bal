@@ -288,6 +288,59 @@ function testForGlobalRefUpdateInsideWorker() {
 
 int[] refConditional = [];
 int[] toBeUpdateRefConditional = refConditional;
+int readWriteCounter = 0;
+int readWriteMirror = 0;
+
+function testReadOnlyLocksWithConcurrentWriters() {
+    @strand {thread: "any"}
+    worker w1 returns boolean {
+        boolean consistent = true;
+        foreach var i in 1 ... 1000 {
+            lock {
+                if (readWriteCounter != readWriteMirror) {
+                    consistent = false;
+                }
+            }
+        }
+        return consistent;
+    }
+
+    @strand {thread: "any"}
+    worker w2 returns boolean {
+        boolean consistent = true;
+        foreach var i in 1 ... 1000 {
+            lock {
+                if (readWriteCounter != readWriteMirror) {
+                    consistent = false;
+                }
+            }
+        }
+        return consistent;
+    }
+
+    @strand {thread: "any"}
+    worker w3 {
+        foreach var i in 1 ... 1000 {
+            lock {
+                readWriteCounter = readWriteCounter + 1;
+                readWriteMirror = readWriteMirror + 1;
+            }
+        }
+    }
+
+    boolean w1Result = wait w1;
+    boolean w2Result = wait w2;
+    _ = wait w3;
+    if (!w1Result || !w2Result) {
+        panic error("Read-only lock observed a partial update");
+    }
+    lock {
+        if (readWriteCounter != 1000 || readWriteMirror != 1000) {
+            panic error("Expected 1000, but found " + readWriteCounter.toString());
+        }
+    }
+}
+
 function testForGlobalRefUpdateInsideConditional() {
     boolean updateRef = true;
 
@@ -448,6 +448,55 @@ function testSimpleJoinClauseWithFunctionInAnEquals() returns boolean {
     return testPassed;
 }
 
+function testJoinClauseWithDecimalKeys() returns boolean {
+    record {| decimal code; string name; |}[] items = [{code: 1.0, name: "Pen"}, {code: 2.5, name: "Book"}];
+    record {| decimal code; int qty; |}[] orders = [{code: 2.50, qty: 4}, {code: 1.00, qty: 1}, {code: 1, qty: 2},
+                                                    {code: 3, qty: 7}];
+
+    string[] result =
+       from var item in items
+       join var 'order in orders
+       on item.code equals 'order.code
+       select item.name + ":" + 'order.qty.toString();
+
+    return result == ["Pen:1", "Pen:2", "Book:4"];
+}
+
+function testJoinClauseWithDecimalsInTupleKeys() returns boolean {
+    record {| decimal code; string size; string name; |}[] items = [{code: 1.0, size: "S", name: "Pen"},
+                                                                   {code: 2.5, size: "L", name: "Book"}];
+    record {| decimal code; string size; int qty; |}[] orders = [{code: 2.50, size: "L", qty: 4},
+                                                                {code: 1.00, size: "S", qty: 1},
+                                                                {code: 1, size: "L", qty: 2}];
+
+    string[] result =
+       from var item in items
+       join var 'order in orders
+       on [item.code, item.size] equals ['order.code, 'order.size]
+       select item.name + ":" + 'order.qty.toString();
+
+    return result == ["Pen:1", "Book:4"];
+}
+
+function testJoinClauseWithSignedZeroFloatKeys() returns boolean {
+    record {| float x; string name; |}[] points = [{x: 0.0, name: "origin"}, {x: 1.5, name: "p"}];
+    record {| float x; int id; |}[] readings = [{x: -0.0, id: 1}, {x: 0.0, id: 2}, {x: 1.5, id: 3}];
+
+    string[] result =
+       from var point in points
+       join var reading in readings
+       on point.x equals reading.x
+       select point.name + ":" + reading.id.toString();
+
+    string[] tupleResult =
+       from var point in points
+       join var reading in readings
+       on [point.name.length() > 1, point.x] equals [true, reading.x]
+       select point.name + ":" + reading.id.toString();
+
+    return result == ["origin:1", "origin:2", "p:3"] && tupleResult == ["origin:1", "origin:2"];
+}
+
 function getDeptName(int id) returns string {
     if (id == 1) {
         return "HR";
@@ -100,3 +100,70 @@ function testLogicalOperandsWithWhere() returns Student[]{
 
     return  outputStudentList;
 }
+
+function testTypeNarrowingWithWhere() returns int[] {
+    (int|string)[] values = [1, "two", 3, "four", 5];
+
+    int[] outputList =
+            from var value in values
+            where value is int
+            let int doubled = value * 2
+            where doubled > 2
+            select doubled;
+
+    return outputList;
+}
+
+function testWhereClausesWithinLoop() returns int[] {
+    int[] numbers = [1, 2, 3, 4, 5, 6];
+    int[] outputList = [];
+
+    foreach int divisor in 2 ... 3 {
+        int[] multiples =
+                from var number in numbers
+                where number % divisor == 0
+                select number;
+        outputList.push(...multiples);
+    }
+    int[] largeNumbers =
+            from var number in numbers
+            where number > 4
+            select number;
+    outputList.push(...largeNumbers);
+
+    return outputList;
+}
+
+function parseInt(string value) returns int|error {
+    if (value == "x") {
+        return error("InvalidNumber", message = value);
+    }
+    return value.length();
+}
+
+function testWhereClausesWithCheckedSelect() returns int[]|error {
+    string[] values = ["a", "bb", "x", "dddd"];
+
+    int[]|error outputList =
+            from var value in values
+            where value != "a"
+            select check parseInt(value);
+
+    return outputList;
+}
+
+function testQueryEvaluatedInEnclosingFunction() returns string[] {
+    int[] numbers = [1, 2, 3];
+
+    string[] callers =
+            from var number in numbers
+            where number > 1
+            select getCallerName();
+
+    return callers;
+}
+
+function getCallerName() returns string {
+    error e = error("Caller");
+    return e.stackTrace().callStack[1].callableName;
+}
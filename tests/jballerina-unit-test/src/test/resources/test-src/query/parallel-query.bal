@@ -0,0 +1,90 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+function testParallelQueryThreads() returns int {
+    int[] values = [];
+    int i = 0;
+    while (i < 8192) {
+        values.push(i);
+        i += 1;
+    }
+    readonly & int[] data = <readonly & int[]> values.cloneReadOnly();
+    resetThreads();
+
+    int[] threads = from int x in data
+                    select getThreadId();
+
+    int[] output = from int x in data
+                   select x * 2;
+    i = 0;
+    while (i < output.length()) {
+        if (output[i] != i * 2) {
+            return -1;
+        }
+        i += 1;
+    }
+    return output.length() == data.length() ? countDistinct(threads) : -1;
+}
+
+function testQueryWithMutableCaptureThreads() returns int {
+    int[] values = [];
+    int i = 0;
+    while (i < 5000) {
+        values.push(i);
+        i += 1;
+    }
+    readonly & int[] data = <readonly & int[]> values.cloneReadOnly();
+    int[] offsets = [1];
+    resetThreads();
+
+    // The query reads a mutable local variable, so it is evaluated sequentially
+    int[][] output = from int x in data
+                     where x % 2 == 0
+                     select [x + offsets[0], getThreadId()];
+
+    int[] threads = [];
+    i = 0;
+    while (i < output.length()) {
+        if (output[i][0] != i * 2 + 1) {
+            return -1;
+        }
+        threads.push(output[i][1]);
+        i += 1;
+    }
+    return output.length() == 2500 ? countDistinct(threads) : -1;
+}
+
+function countDistinct(int[] values) returns int {
+    int[] distinctValues = [];
+    foreach int value in values {
+        if (distinctValues.indexOf(value) is ()) {
+            distinctValues.push(value);
+        }
+    }
+    return distinctValues.length();
+}
+
+function resetThreads() = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.tests.QueryThreads",
+    name: "reset"
+} external;
+
+isolated function getThreadId() returns int = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.tests.QueryThreads",
+    name: "getThreadId"
+} external;
@@ -497,3 +497,31 @@ function testQueryWithRecordVarInLetClause() returns Person1[] {
                            };
     return outputPersonList;
 }
+
+function testQueryOverLargeReadonlyArray() returns boolean {
+    int[] values = [];
+    int i = 0;
+    while (i < 5000) {
+        values.push(i);
+        i += 1;
+    }
+    readonly & int[] data = <readonly & int[]> values.cloneReadOnly();
+    int factor = 3;
+
+    int[] output = from int x in data
+                   where isEven(x)
+                   let int y = x * factor
+                   select y + 1;
+
+    boolean testPassed = output.length() == 2500;
+    i = 0;
+    while (i < output.length()) {
+        testPassed = testPassed && output[i] == i * 6 + 1;
+        i += 1;
+    }
+    return testPassed;
+}
+
+isolated function isEven(int n) returns boolean {
+    return n % 2 == 0;
+}